@@ -0,0 +1,294 @@
+package Benchmarks;
+
+import CollectionFramework.SetInterface.BTreeSet;
+import CollectionFramework.SetInterface.LongBTreeSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.NavigableSet;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/*
+TreeSet<Long> (NavigableSetDemo) vs BTreeSet<Long> vs LongBTreeSet over size= sorted keys 0, 2, 4, ...
+
+    build*                     one op inserts all keys, order=seq (ascending) or random (shuffled).
+                               gc.alloc.rate.norm / size (-prof gc) is the footprint per key: TreeSet
+                               allocates an Entry + a Long, the B-trees only node arrays (+ the Long for BTreeSet)
+    contains* / ceiling*       lookups over [0, 2 * size): half miss, ceiling then finds the next key
+    scan100*                   the 100 keys from a lookup key on (subSet iteration / forEachInRange)
+    churn*                     remove(k) + add(k): shifts inside a node, occasional split / merge
+
+Lookup keys are preboxed for the boxed sets, so only the structure is measured.
+fanout= applies to the B-trees only (keys per node). The lookup rows mutate shared sets (churn):
+they are single-threaded.
+
+Run:  gradle jmh -Pjmh='BTreeBenchmarks -p size=1000000,10000000 -p fanout=64,128'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BTreeBenchmarks {
+
+    private static final int BATCH = 64;
+    private static final int SCANS = 4;
+    private static final int LOOKUPS = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Keys {
+        @Param({"100000", "1000000"})
+        int size;
+
+        long[] ascending;
+        long[] shuffled;
+
+        @Setup
+        public void setUp() {
+            ascending = new long[size];
+            for (int i = 0; i < size; i++) ascending[i] = 2L * i;
+            shuffled = ascending.clone();
+            SplittableRandom random = new SplittableRandom(7);
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long t = shuffled[i];
+                shuffled[i] = shuffled[j];
+                shuffled[j] = t;
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Build {
+        @Param({"seq", "random"})
+        String order;
+
+        long[] keys;
+
+        @Setup
+        public void setUp(Keys k) {
+            keys = order.equals("seq") ? k.ascending : k.shuffled;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Fanout {
+        @Param({"16", "64", "256"})
+        int fanout;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Lookups {
+        @Param({"UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        long[] keys;
+        Long[] boxed;
+        Long[] scanEnds;
+
+        @Setup
+        public void setUp(Keys k) {
+            int[] picks = dist.keys(LOOKUPS, k.size * 2, 42);
+            keys = new long[LOOKUPS];
+            boxed = new Long[LOOKUPS];
+            scanEnds = new Long[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                keys[i] = picks[i];
+                boxed[i] = (long) picks[i];
+                scanEnds[i] = boxed[i] + 200;
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TreeSetState {
+        NavigableSet<Long> set;
+
+        @Setup
+        public void setUp(Keys k) {
+            set = new TreeSet<>();
+            for (long key : k.shuffled) set.add(key);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BTreeSetState {
+        NavigableSet<Long> set;
+
+        @Setup
+        public void setUp(Keys k, Fanout f) {
+            set = new BTreeSet<>(f.fanout, null);
+            for (long key : k.shuffled) set.add(key);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LongBTreeSetState {
+        LongBTreeSet set;
+
+        @Setup
+        public void setUp(Keys k, Fanout f) {
+            set = new LongBTreeSet(f.fanout);
+            for (long key : k.shuffled) set.add(key);
+        }
+    }
+
+    // ----------------- build -----------------
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object buildTreeSet(Build b) {
+        TreeSet<Long> set = new TreeSet<>();
+        for (long key : b.keys) set.add(key);
+        return set;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object buildBTreeSet(Build b, Fanout f) {
+        BTreeSet<Long> set = new BTreeSet<>(f.fanout, null);
+        for (long key : b.keys) set.add(key);
+        return set;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object buildLongBTreeSet(Build b, Fanout f) {
+        LongBTreeSet set = new LongBTreeSet(f.fanout);
+        for (long key : b.keys) set.add(key);
+        return set;
+    }
+
+    // ----------------- boxed sets: TreeSet / BTreeSet -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long containsTreeSet(TreeSetState s, Lookups l, Cursor cursor) {
+        return contains(s.set, l, cursor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long containsBTreeSet(BTreeSetState s, Lookups l, Cursor cursor) {
+        return contains(s.set, l, cursor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long ceilingTreeSet(TreeSetState s, Lookups l, Cursor cursor) {
+        return ceiling(s.set, l, cursor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long ceilingBTreeSet(BTreeSetState s, Lookups l, Cursor cursor) {
+        return ceiling(s.set, l, cursor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCANS)
+    public long scan100TreeSet(TreeSetState s, Lookups l, Cursor cursor) {
+        return scan100(s.set, l, cursor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCANS)
+    public long scan100BTreeSet(BTreeSetState s, Lookups l, Cursor cursor) {
+        return scan100(s.set, l, cursor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH * 2)
+    public long churnTreeSet(TreeSetState s, Lookups l, Cursor cursor) {
+        return churn(s.set, l, cursor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH * 2)
+    public long churnBTreeSet(BTreeSetState s, Lookups l, Cursor cursor) {
+        return churn(s.set, l, cursor);
+    }
+
+    private static long contains(NavigableSet<Long> set, Lookups l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            if (set.contains(l.boxed[cursor.next(LOOKUPS - 1)])) sum++;
+        }
+        return sum;
+    }
+
+    private static long ceiling(NavigableSet<Long> set, Lookups l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            Long k = set.ceiling(l.boxed[cursor.next(LOOKUPS - 1)]);
+            if (k != null) sum += k;
+        }
+        return sum;
+    }
+
+    private static long scan100(NavigableSet<Long> set, Lookups l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < SCANS; i++) {
+            int c = cursor.next(LOOKUPS - 1);
+            for (Long k : set.subSet(l.boxed[c], true, l.scanEnds[c], false)) sum += k;
+        }
+        return sum;
+    }
+
+    private static long churn(NavigableSet<Long> set, Lookups l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            Long key = l.boxed[cursor.next(LOOKUPS - 1)];
+            if (set.remove(key)) set.add(key);
+            else sum++;
+        }
+        return sum;
+    }
+
+    // ----------------- LongBTreeSet -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long containsLongBTreeSet(LongBTreeSetState s, Lookups l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            if (s.set.contains(l.keys[cursor.next(LOOKUPS - 1)])) sum++;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long ceilingLongBTreeSet(LongBTreeSetState s, Lookups l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) sum += s.set.ceiling(l.keys[cursor.next(LOOKUPS - 1)], 0);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCANS)
+    public long scan100LongBTreeSet(LongBTreeSetState s, Lookups l, Cursor cursor) {
+        long[] sum = new long[1];
+        for (int i = 0; i < SCANS; i++) {
+            long from = l.keys[cursor.next(LOOKUPS - 1)];
+            s.set.forEachInRange(from, from + 200, k -> sum[0] += k);
+        }
+        return sum[0];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH * 2)
+    public long churnLongBTreeSet(LongBTreeSetState s, Lookups l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            long key = l.keys[cursor.next(LOOKUPS - 1)];
+            if (s.set.remove(key)) s.set.add(key);
+            else sum++;
+        }
+        return sum;
+    }
+}
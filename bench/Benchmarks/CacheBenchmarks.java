@@ -0,0 +1,145 @@
+package Benchmarks;
+
+import CollectionFramework.MapInterface.Cache;
+import CollectionFramework.MapInterface.LruCache;
+import CollectionFramework.MapInterface.SegmentedLruCache;
+import CollectionFramework.MapInterface.WTinyLfuCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+Cache policies replayed against request traces: hit ratio first, then throughput.
+
+Traces (1M requests over 1M distinct keys):
+    ZIPFIAN   YCSB Zipf (s = 0.99): a few keys take most requests
+    SCAN      the same Zipf traffic, but 30% of requests come in bursts of 5000 keys never seen
+              before or again (batch jobs, crawlers): the classic way to flush an LRU
+
+    hit ratio   printed per trial: one cold replay of the trace, get(key, loader) per request
+    get*        throughput of the same calls; the loader is free here, so a miss only costs the
+                insertion / eviction. In a real service multiply misses by the backend latency:
+                a few points of hit ratio usually outweigh any difference in ops/s.
+
+get runs one thread over every policy; getShared runs four threads over the thread-safe ones
+(SEGMENTED locks per segment, WTINYLFU has one lock; LRU is single-threaded). size= is the capacity.
+
+Run:  gradle jmh -Pjmh='CacheBenchmarks -p size=1000,10000,100000'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmarks {
+
+    private static final int BATCH = 64;
+    private static final int TRACE_LENGTH = 1 << 20;
+    private static final int UNIVERSE = 1_000_000;
+    private static final int SCAN_LENGTH = 5_000;
+
+    public enum Trace { ZIPFIAN, SCAN }
+
+    public enum Policy { LRU, SEGMENTED, WTINYLFU }
+
+    private static final Function<Integer, Integer> LOADER = k -> k;
+
+    @State(Scope.Benchmark)
+    public static class Traces {
+        @Param({"ZIPFIAN", "SCAN"})
+        Trace trace;
+
+        @Param({"1000", "10000"})
+        int size;
+
+        Integer[] keys;
+
+        @Setup
+        public void setUp() {
+            keys = trace(trace);
+        }
+
+        // one cold replay for the hit ratio, then a fresh cache for the throughput rows
+        Cache<Integer, Integer> cache(Policy policy) {
+            Cache<Integer, Integer> cold = create(policy, size);
+            for (Integer key : keys) cold.get(key, LOADER);
+            System.out.printf(Locale.ROOT, "%n%-10s %-10s capacity %d: hit ratio %.2f%%%n",
+                    trace, policy, size, 100 * cold.stats().hitRatio());
+            return create(policy, size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Caches {
+        @Param({"LRU", "SEGMENTED", "WTINYLFU"})
+        Policy policy;
+
+        Cache<Integer, Integer> cache;
+
+        @Setup
+        public void setUp(Traces t) {
+            cache = t.cache(policy);
+        }
+    }
+
+    // LruCache is not thread-safe, so the shared rows take the concurrent policies only
+    @State(Scope.Benchmark)
+    public static class SharedCaches {
+        @Param({"SEGMENTED", "WTINYLFU"})
+        Policy sharedPolicy;
+
+        Cache<Integer, Integer> cache;
+
+        @Setup
+        public void setUp(Traces t) {
+            cache = t.cache(sharedPolicy);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Integer get(Traces t, Caches c, Cursor cursor) {
+        return replay(c.cache, t.keys, cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH)
+    public Integer getShared(Traces t, SharedCaches c, Cursor cursor) {
+        return replay(c.cache, t.keys, cursor);
+    }
+
+    private static Integer replay(Cache<Integer, Integer> cache, Integer[] keys, Cursor cursor) {
+        Integer last = null;
+        for (int i = 0; i < BATCH; i++) last = cache.get(keys[cursor.next(TRACE_LENGTH - 1)], LOADER);
+        return last;
+    }
+
+    private static Cache<Integer, Integer> create(Policy policy, int size) {
+        return switch (policy) {
+            case LRU -> new LruCache<>(size);
+            case SEGMENTED -> new SegmentedLruCache<>(size);
+            case WTINYLFU -> new WTinyLfuCache<>(size);
+        };
+    }
+
+    // preboxed, so replaying the trace does not allocate keys
+    private static Integer[] trace(Trace trace) {
+        int[] zipf = KeyDistribution.ZIPFIAN.keys(TRACE_LENGTH, UNIVERSE, 42);
+        Integer[] keys = new Integer[TRACE_LENGTH];
+        SplittableRandom random = new SplittableRandom(9);
+        int nextUnseen = UNIVERSE;
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            // 3 scans of SCAN_LENGTH per 35000 requests ~ 30% of the trace
+            if (trace == Trace.SCAN && random.nextInt(35_000) < 3) {
+                for (int j = 0; j < SCAN_LENGTH && i < TRACE_LENGTH; j++, i++) keys[i] = nextUnseen++;
+                if (i == TRACE_LENGTH) break;
+            }
+            keys[i] = zipf[i];
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,111 @@
+package Benchmarks;
+
+import CollectionFramework.ListInterface.ChunkedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ArrayList vs LinkedList (LinkedListDemo's "middle insert" use case) vs ChunkedList.
+
+    insert     add(i, x) followed by remove(i), so the size stays N. ops/s counts both calls.
+               position = FRONT (i = 0), MIDDLE (i = N / 2), RANDOM (uniform i), BACK (i = N)
+    get        get(i) at random positions
+    iterate    for-each over the whole list, one op = one pass
+
+LinkedList.add(i, x) walks min(i, N - i) nodes; ArrayList shifts N - i references;
+ChunkedList shifts inside one chunk and fixes the offsets of the chunks after it.
+type=ChunkedList.<B> sets ChunkedList's chunk capacity B; B ~ sqrt(N) balances the two costs.
+insert FRONT is ChunkedList's worst case: with a full first chunk, every add(0) creates a chunk and
+the remove(0) right after drops it again (O(N / B) each, still far from ArrayList's O(N)).
+
+Every type= value runs in its own fork, so the List call sites see one list class.
+
+Run:  gradle jmh -Pjmh='ChunkedListBenchmarks.insert -p size=10000000 -p type=ChunkedList.2048,ChunkedList.4096'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ChunkedListBenchmarks {
+
+    private static final int BATCH = 16;
+    private static final Integer VALUE = 1_000;
+
+    public enum Position { FRONT, MIDDLE, RANDOM, BACK }
+
+    @State(Scope.Benchmark)
+    public static class Lists {
+        @Param({"10000", "1000000"})
+        int size;
+
+        @Param({"ArrayList", "LinkedList", "ChunkedList.256", "ChunkedList.1024", "ChunkedList.4096"})
+        String type;
+
+        List<Integer> list;
+        int[] positions;
+
+        @Setup
+        public void setUp() {
+            list = create(type, size);
+            for (int i = 0; i < size; i++) list.add(i);
+            positions = new int[1 << 12];
+            SplittableRandom random = new SplittableRandom(5);
+            for (int i = 0; i < positions.length; i++) positions[i] = random.nextInt(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Insert {
+        @Param({"FRONT", "MIDDLE", "RANDOM", "BACK"})
+        Position position;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH * 2)
+    public Object insert(Lists l, Insert insert, Cursor cursor) {
+        List<Integer> list = l.list;
+        for (int i = 0; i < BATCH; i++) {
+            int at = switch (insert.position) {
+                case FRONT -> 0;
+                case MIDDLE -> l.size / 2;
+                case RANDOM -> l.positions[cursor.next(l.positions.length - 1)];
+                case BACK -> l.size;
+            };
+            list.add(at, VALUE);
+            list.remove(at);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long get(Lists l, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) sum += l.list.get(l.positions[cursor.next(l.positions.length - 1)]);
+        return sum;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long iterate(Lists l) {
+        long sum = 0;
+        for (Integer v : l.list) sum += v;
+        return sum;
+    }
+
+    private static List<Integer> create(String type, int size) {
+        if (type.equals("ArrayList")) return new ArrayList<>(size + 1);
+        if (type.equals("LinkedList")) return new LinkedList<>();
+        if (type.startsWith("ChunkedList.")) {
+            return new ChunkedList<>(Integer.parseInt(type.substring("ChunkedList.".length())));
+        }
+        throw new IllegalArgumentException("Unknown list type " + type);
+    }
+}
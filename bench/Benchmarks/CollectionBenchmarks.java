@@ -0,0 +1,264 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+Benchmarks for the structures used in the CollectionFramework demos:
+ArrayListDemo, LinkedListDemo, VectorDemo, HashSetDemo, TreeSetNaturalDemo,
+MapBasicDemo and ConcurrentHashMapDemo.
+
+    list* / set* / map*   type= picks the structure; every type runs in its own fork, so the
+                          shared call sites (list.get, set.contains ...) see one receiver class
+    *Add / mapPut         fill a fresh structure with size= elements; one op = the whole fill
+    *Iterate              one op = a full for-each
+    listGet / setContains / mapGet    BATCH lookups per invocation, keys drawn from dist=
+                          (sets and maps: universe 2 * size, so roughly half of the lookups miss)
+    listAddRemoveMiddle   LinkedListDemo's "good use case": add and remove at size / 2
+    mapMixed90Read10Write ConcurrentHashMapDemo: readers and writers on one ConcurrentHashMap
+
+index-based get and middle inserts are O(n) on LinkedList; size=1000000 rows are slow, not broken.
+Lookups and mapMixed are safe with threads (-t 4); the *Add / addRemoveMiddle rows are single-threaded.
+
+Run:  gradle jmh -Pjmh='CollectionBenchmarks.listGet -p type=ArrayList,LinkedList -p size=100000 -t 4'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CollectionBenchmarks {
+
+    // lookups per invocation, so timer overhead stays small next to the measured work
+    private static final int BATCH = 64;
+    private static final int LOOKUPS = 1 << 16;
+
+    // ----------------- List: ArrayListDemo / VectorDemo / LinkedListDemo -----------------
+
+    @State(Scope.Benchmark)
+    public static class Lists {
+        @Param({"ArrayList", "Vector", "LinkedList"})
+        String type;
+
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        List<Integer> filled;
+        List<Integer> middle;
+
+        @Setup
+        public void setUp() {
+            filled = create(size);
+            for (int i = 0; i < size; i++) filled.add(i);
+            middle = create(size);
+            middle.addAll(filled);
+        }
+
+        List<Integer> create(int capacity) {
+            return switch (type) {
+                case "ArrayList" -> new ArrayList<>(capacity);
+                case "Vector" -> new Vector<>(capacity);
+                default -> new LinkedList<>();
+            };
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ListKeys {
+        @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        int[] indexes;
+
+        @Setup
+        public void setUp(Lists lists) {
+            indexes = dist.keys(LOOKUPS, lists.size, 42);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> listAdd(Lists lists) {
+        List<Integer> list = lists.create(10);
+        for (int i = 0; i < lists.size; i++) list.add(i);
+        return list;
+    }
+
+    @Benchmark
+    public long listIterate(Lists lists) {
+        long sum = 0;
+        for (Integer v : lists.filled) sum += v;
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void listGet(Lists lists, ListKeys keys, Cursor cursor, Blackhole bh) {
+        List<Integer> list = lists.filled;
+        int[] indexes = keys.indexes;
+        for (int i = 0; i < BATCH; i++) bh.consume(list.get(indexes[cursor.next(LOOKUPS - 1)]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public Integer listAddRemoveMiddle(Lists lists) {
+        List<Integer> list = lists.middle;
+        list.add(lists.size / 2, -1);
+        return list.remove(lists.size / 2);
+    }
+
+    // ----------------- Set: HashSetDemo / TreeSetNaturalDemo -----------------
+
+    @State(Scope.Benchmark)
+    public static class Sets {
+        @Param({"HashSet", "TreeSet"})
+        String type;
+
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        int[] addKeys;
+        Set<Integer> filled;
+
+        @Setup
+        public void setUp() {
+            addKeys = KeyDistribution.UNIFORM.keys(size, Integer.MAX_VALUE, 7);
+            filled = create();
+            for (int i = 0; i < size; i++) filled.add(i);
+        }
+
+        Set<Integer> create() {
+            return type.equals("HashSet") ? new HashSet<>() : new TreeSet<>();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SetKeys {
+        @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        int[] lookups;
+
+        @Setup
+        public void setUp(Sets sets) {
+            lookups = dist.keys(LOOKUPS, sets.size * 2, 42);
+        }
+    }
+
+    @Benchmark
+    public Set<Integer> setAdd(Sets sets) {
+        Set<Integer> set = sets.create();
+        for (int k : sets.addKeys) set.add(k);
+        return set;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void setContains(Sets sets, SetKeys keys, Cursor cursor, Blackhole bh) {
+        Set<Integer> set = sets.filled;
+        int[] lookups = keys.lookups;
+        for (int i = 0; i < BATCH; i++) bh.consume(set.contains(lookups[cursor.next(LOOKUPS - 1)]));
+    }
+
+    @Benchmark
+    public long setIterate(Sets sets) {
+        long sum = 0;
+        for (Integer v : sets.filled) sum += v;
+        return sum;
+    }
+
+    // ----------------- Map: MapBasicDemo / ConcurrentHashMapDemo -----------------
+
+    @State(Scope.Benchmark)
+    public static class Maps {
+        @Param({"HashMap", "ConcurrentHashMap"})
+        String type;
+
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        String[] values;
+        Map<Integer, String> filled;
+
+        @Setup
+        public void setUp() {
+            values = values(size);
+            filled = create();
+            for (int i = 0; i < size; i++) filled.put(i, values[i]);
+        }
+
+        Map<Integer, String> create() {
+            return type.equals("HashMap") ? new HashMap<>() : new ConcurrentHashMap<>();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MapKeys {
+        @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        int[] lookups;
+
+        @Setup
+        public void setUp(Maps maps) {
+            lookups = dist.keys(LOOKUPS, maps.size * 2, 42);
+        }
+    }
+
+    // ConcurrentHashMap only: the 10% writes would corrupt a shared HashMap
+    @State(Scope.Benchmark)
+    public static class SharedMap {
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        String[] values;
+        int[] lookups;
+        ConcurrentHashMap<Integer, String> map;
+
+        @Setup
+        public void setUp() {
+            values = values(size);
+            lookups = dist.keys(LOOKUPS, size * 2, 42);
+            map = new ConcurrentHashMap<>();
+            for (int i = 0; i < size; i++) map.put(i, values[i]);
+        }
+    }
+
+    private static String[] values(int size) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) values[i] = "V" + i;
+        return values;
+    }
+
+    @Benchmark
+    public Map<Integer, String> mapPut(Maps maps) {
+        Map<Integer, String> map = maps.create();
+        String[] values = maps.values;
+        for (int i = 0; i < maps.size; i++) map.put(i, values[i]);
+        return map;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void mapGet(Maps maps, MapKeys keys, Cursor cursor, Blackhole bh) {
+        Map<Integer, String> map = maps.filled;
+        int[] lookups = keys.lookups;
+        for (int i = 0; i < BATCH; i++) bh.consume(map.get(lookups[cursor.next(LOOKUPS - 1)]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void mapMixed90Read10Write(SharedMap shared, Cursor cursor, Blackhole bh) {
+        ConcurrentHashMap<Integer, String> map = shared.map;
+        for (int i = 0; i < BATCH; i++) {
+            int key = shared.lookups[cursor.next(LOOKUPS - 1)];
+            bh.consume(i % 10 == 0 ? map.put(key, shared.values[key % shared.size]) : map.get(key));
+        }
+    }
+}
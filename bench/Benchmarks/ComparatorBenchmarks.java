@@ -0,0 +1,141 @@
+package Benchmarks;
+
+import CollectionFramework.Comparable_Comparator.Comparators;
+import CollectionFramework.Comparable_Comparator.Comparators.IntComparator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+Sorting with different comparators; one op = one sort of a fresh copy of size= elements.
+
+    intDesc*       descending ints
+                   Subtraction    (a, b) -> b - a on Integer[]; values kept in +-2^30 so it does not overflow here
+                   ReverseOrder   Comparator.reverseOrder()
+                   Chain          Comparator.comparingInt(Integer::intValue).reversed()
+                   Comparators    Comparators.INT_DESCENDING
+                   Primitive      int[] + Comparators.sort(.., IntComparator.DESCENDING)  (Arrays.sort + reverse)
+                   PrimitiveMerge int[] + Comparators.sort(.., ASCENDING.reversed())      (merge sort via IntComparator)
+    lengthAlpha*   strings by length, then alphabetically
+                   Chain          Comparator.comparingInt(String::length).thenComparing(naturalOrder())
+                   Lambda         the hand-written lambda from TreeSetSortStringLength
+                   Comparators    Comparators.LENGTH_THEN_ALPHA
+                   Keys           Comparators.sortByLengthThenAlpha (precomputed long keys)
+
+Arrays.sort's compare call site sees every comparator class used in the JVM; every row runs in its
+own fork, so each one sees a single comparator, as a real program with one sort order would.
+
+Run:  gradle jmh -Pjmh='ComparatorBenchmarks.lengthAlphaKeys -p size=100000'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComparatorBenchmarks {
+
+    private static final Comparator<Integer> SUBTRACTION = (x, y) -> y - x;
+    private static final Comparator<Integer> CHAIN_DESC = Comparator.comparingInt(Integer::intValue).reversed();
+    private static final IntComparator ASCENDING_REVERSED = IntComparator.ASCENDING.reversed();
+    private static final Comparator<String> CHAIN_LENGTH_ALPHA =
+            Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+    private static final Comparator<String> LAMBDA_LENGTH_ALPHA = (s1, s2) -> {
+        int lenDiff = s1.length() - s2.length();
+        if (lenDiff != 0) return lenDiff;
+        return s1.compareTo(s2);
+    };
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private int[] ints;
+    private Integer[] boxed;
+    private String[] words;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ints = new int[size];
+        for (int i = 0; i < size; i++) ints[i] = random.nextInt(-(1 << 30), 1 << 30);
+        boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+        words = new String[size];
+        for (int i = 0; i < size; i++) words[i] = word(random);
+    }
+
+    // ----------------- descending ints -----------------
+
+    @Benchmark
+    public Object intDescSubtraction() {
+        return sorted(boxed, SUBTRACTION);
+    }
+
+    @Benchmark
+    public Object intDescReverseOrder() {
+        return sorted(boxed, Comparator.reverseOrder());
+    }
+
+    @Benchmark
+    public Object intDescChain() {
+        return sorted(boxed, CHAIN_DESC);
+    }
+
+    @Benchmark
+    public Object intDescComparators() {
+        return sorted(boxed, Comparators.INT_DESCENDING);
+    }
+
+    @Benchmark
+    public Object intDescPrimitive() {
+        int[] copy = ints.clone();
+        Comparators.sort(copy, IntComparator.DESCENDING);
+        return copy;
+    }
+
+    @Benchmark
+    public Object intDescPrimitiveMerge() {
+        int[] copy = ints.clone();
+        Comparators.sort(copy, ASCENDING_REVERSED);
+        return copy;
+    }
+
+    // ----------------- length, then alphabetical -----------------
+
+    @Benchmark
+    public Object lengthAlphaChain() {
+        return sorted(words, CHAIN_LENGTH_ALPHA);
+    }
+
+    @Benchmark
+    public Object lengthAlphaLambda() {
+        return sorted(words, LAMBDA_LENGTH_ALPHA);
+    }
+
+    @Benchmark
+    public Object lengthAlphaComparators() {
+        return sorted(words, Comparators.LENGTH_THEN_ALPHA);
+    }
+
+    @Benchmark
+    public Object lengthAlphaKeys() {
+        String[] copy = words.clone();
+        Comparators.sortByLengthThenAlpha(copy);
+        return copy;
+    }
+
+    private static <T> T[] sorted(T[] data, Comparator<? super T> comparator) {
+        T[] copy = data.clone();
+        Arrays.sort(copy, comparator);
+        return copy;
+    }
+
+    // 3..12 lowercase letters: many equal lengths, so the alphabetical tie-break matters
+    private static String word(SplittableRandom random) {
+        char[] chars = new char[3 + random.nextInt(10)];
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + random.nextInt(26));
+        return new String(chars);
+    }
+}
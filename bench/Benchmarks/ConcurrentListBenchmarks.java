@@ -0,0 +1,175 @@
+package Benchmarks;
+
+import CollectionFramework.ListInterface.PersistentCopyOnWriteList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/*
+Thread-safe lists under read / write mixes: Vector, Collections.synchronizedList(ArrayList),
+CopyOnWriteArrayList, PersistentCopyOnWriteList.
+
+    get*       every op is get(i) at a random i, or (writes= out of 1000 ops) set(i, x)
+    iterate*   every op is a full for-each over the list, or (writes= out of 1000 ops) set(i, x).
+               Vector and synchronizedList iterate inside synchronized (list), as correct code must
+               once other threads modify the list; the copy-on-write lists iterate a snapshot.
+    append     add(x) of size= elements into an empty list, one thread: the per-write copy cost
+    appendAll  the same elements as addAll() batches of BATCH
+
+All JMH threads share one list (*FourThreads: four of them). set(i, x) copies the whole array in
+CopyOnWriteArrayList and ~32 * depth references in PersistentCopyOnWriteList. Every type= value
+runs in its own fork, so the List call sites see one list class.
+
+Run:  gradle jmh -Pjmh='ConcurrentListBenchmarks -p size=100000 -p writes=1,100'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentListBenchmarks {
+
+    private static final int BATCH = 64;
+    private static final int DECISIONS = 1 << 12;
+    private static final Integer[] WRITTEN = new Integer[16]; // distinct objects: set() of the same one is free in CopyOnWriteArrayList
+
+    static {
+        for (int i = 0; i < WRITTEN.length; i++) WRITTEN[i] = -(i + 1);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Values {
+        @Param({"1000", "100000"})
+        int size;
+
+        @Param({"Vector", "synchronizedList", "CopyOnWriteArrayList", "PersistentCopyOnWriteList"})
+        String type;
+
+        Integer[] values;
+        List<List<Integer>> batches;
+
+        @Setup
+        public void setUp() {
+            values = new Integer[size];
+            for (int i = 0; i < size; i++) values[i] = i;
+            batches = new ArrayList<>();
+            for (int from = 0; from < size; from += BATCH) {
+                batches.add(List.of(values).subList(from, Math.min(size, from + BATCH)));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"0", "10", "500"})
+        int writes;
+
+        List<Integer> list;
+        int[] positions;
+        boolean[] write;
+
+        @Setup
+        public void setUp(Values v) {
+            list = create(v.type, v.values);
+            positions = new int[DECISIONS];
+            SplittableRandom random = new SplittableRandom(3);
+            for (int i = 0; i < DECISIONS; i++) positions[i] = random.nextInt(v.size);
+            write = new boolean[DECISIONS];
+            SplittableRandom coin = new SplittableRandom(4);
+            for (int i = 0; i < DECISIONS; i++) write[i] = coin.nextInt(1_000) < writes;
+        }
+    }
+
+    // ----------------- read / write mixes on a shared list -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long get(Shared s, Cursor cursor) {
+        return mixGet(s, cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH)
+    public long getFourThreads(Shared s, Cursor cursor) {
+        return mixGet(s, cursor);
+    }
+
+    @Benchmark
+    public long iterate(Shared s, Cursor cursor) {
+        return mixIterate(s, cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long iterateFourThreads(Shared s, Cursor cursor) {
+        return mixIterate(s, cursor);
+    }
+
+    private static long mixGet(Shared s, Cursor cursor) {
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            int c = cursor.next(DECISIONS - 1);
+            if (s.write[c]) s.list.set(s.positions[c], WRITTEN[c & (WRITTEN.length - 1)]);
+            else sum += s.list.get(s.positions[c]);
+        }
+        return sum;
+    }
+
+    private static long mixIterate(Shared s, Cursor cursor) {
+        int c = cursor.next(DECISIONS - 1);
+        if (s.write[c]) {
+            s.list.set(s.positions[c], WRITTEN[c & (WRITTEN.length - 1)]);
+            return 0;
+        }
+        return iterate(s.list);
+    }
+
+    // ----------------- appends: one op fills a fresh list -----------------
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object append(Values v) {
+        List<Integer> list = create(v.type, new Integer[0]);
+        for (Integer value : v.values) list.add(value);
+        return list;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object appendAll(Values v) {
+        List<Integer> list = create(v.type, new Integer[0]);
+        for (List<Integer> batch : v.batches) list.addAll(batch);
+        return list;
+    }
+
+    private static List<Integer> create(String type, Integer[] values) {
+        List<Integer> initial = List.of(values);
+        return switch (type) {
+            case "Vector" -> new Vector<>(initial);
+            case "synchronizedList" -> Collections.synchronizedList(new ArrayList<>(initial));
+            case "CopyOnWriteArrayList" -> new CopyOnWriteArrayList<>(initial);
+            default -> new PersistentCopyOnWriteList<>(initial);
+        };
+    }
+
+    private static long iterate(List<Integer> list) {
+        long sum = 0;
+        if (list instanceof CopyOnWriteArrayList<?> || list instanceof PersistentCopyOnWriteList<?>) {
+            for (Integer v : list) sum += v;
+            return sum;
+        }
+        synchronized (list) { // Vector locks on itself, synchronizedList on the wrapper
+            for (Integer v : list) sum += v;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,106 @@
+package Benchmarks;
+
+import CollectionFramework.MapInterface.ConcurrentCounterMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+Contended frequency counting: every thread increments keys drawn from the same distribution.
+
+    chmMerge        ConcurrentHashMap<Integer,Integer>.merge(k, 1, Integer::sum)   (bin lock + boxing)
+    chmAtomicLong   ConcurrentHashMap<Integer,AtomicLong>, get + incrementAndGet     (one CAS target per key)
+    counterMap      ConcurrentCounterMap (ConcurrentHashMap<K, LongAdder>)           (striped cells)
+    counterMapTop10 read side: snapshot and top-K cost grows with the key space
+
+The increment rows run 8 threads on one shared map; compare with -t 1 and -t 32.
+ZIPFIAN with a small key space is the "hot key" case where merge() serializes.
+
+Run:  gradle jmh -Pjmh='CounterMapBenchmarks -p keys=1000 -p dist=ZIPFIAN -t 32'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterMapBenchmarks {
+
+    private static final int BATCH = 64;
+    private static final int LOOKUPS = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Keys {
+        @Param({"16", "10000"})
+        int keys;
+
+        @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        Integer[] boxedKeys;
+        int[] picks;
+
+        final ConcurrentHashMap<Integer, Integer> merged = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Integer, AtomicLong> atomics = new ConcurrentHashMap<>();
+        final ConcurrentCounterMap<Integer> counters = new ConcurrentCounterMap<>();
+
+        @Setup
+        public void setUp() {
+            boxedKeys = new Integer[keys];
+            for (int i = 0; i < keys; i++) boxedKeys[i] = i;
+            picks = dist.keys(LOOKUPS, keys, 42);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Filled {
+        @Param({"16", "10000"})
+        int keys;
+
+        final ConcurrentCounterMap<Integer> counters = new ConcurrentCounterMap<>();
+
+        @Setup
+        public void setUp() {
+            for (int k : KeyDistribution.ZIPFIAN.keys(LOOKUPS, keys, 42)) counters.increment(k);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(BATCH)
+    public void chmMerge(Keys keys, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            keys.merged.merge(keys.boxedKeys[keys.picks[cursor.next(LOOKUPS - 1)]], 1, Integer::sum);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(BATCH)
+    public void chmAtomicLong(Keys keys, Cursor cursor) {
+        Map<Integer, AtomicLong> map = keys.atomics;
+        for (int i = 0; i < BATCH; i++) {
+            Integer key = keys.boxedKeys[keys.picks[cursor.next(LOOKUPS - 1)]];
+            AtomicLong counter = map.get(key);
+            if (counter == null) counter = map.computeIfAbsent(key, x -> new AtomicLong());
+            counter.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(BATCH)
+    public void counterMap(Keys keys, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            keys.counters.increment(keys.boxedKeys[keys.picks[cursor.next(LOOKUPS - 1)]]);
+        }
+    }
+
+    @Benchmark
+    public List<Map.Entry<Integer, Long>> counterMapTop10(Filled filled) {
+        return filled.counters.topK(10);
+    }
+}
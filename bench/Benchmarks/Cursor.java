@@ -0,0 +1,26 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/*
+Per-thread position in a precomputed key array, so benchmark threads do not read the same keys
+in lock-step. Every thread starts at its own offset and walks forward.
+ */
+@State(Scope.Thread)
+public class Cursor {
+
+    private int position;
+
+    @Setup
+    public void start(ThreadParams thread) {
+        position = thread.getThreadIndex() * 7919;
+    }
+
+    // next index into an array whose length is a power of two (mask = length - 1)
+    public int next(int mask) {
+        return position++ & mask;
+    }
+}
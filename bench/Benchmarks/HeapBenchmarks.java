@@ -0,0 +1,207 @@
+package Benchmarks;
+
+import CollectionFramework.QueueInterface.IndexedDaryHeap;
+import CollectionFramework.QueueInterface.IndexedLongHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+Scheduler-like workloads on a queue of size= tasks ordered by deadline.
+
+    reprioritize   pick a queued task, give it a new deadline
+                     priorityQueue   remove(task) + add(task)   -> O(n) scan in remove(Object)
+                     indexedHeap     IndexedDaryHeap.changed(entry)
+                     longHeap        IndexedLongHeap.update(id, deadline)
+    cancel         remove a queued task and schedule it again (cancel + resubmit)
+    tick           poll the earliest task and reschedule it later (no lookup: PriorityQueue's best case)
+
+Tasks are picked with the dist= distribution over task ids. ops/s = operations per second.
+
+Run:  gradle jmh -Pjmh='HeapBenchmarks -p size=10000,100000,1000000 -p dist=UNIFORM'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapBenchmarks {
+
+    private static final int BATCH = 16;
+    private static final int LOOKUPS = 1 << 16;
+
+    // mutable scheduled task, as a scheduler would keep it
+    static final class Task {
+        final int id;
+        long deadline;
+        IndexedDaryHeap.Entry<Task> entry;
+
+        Task(int id, long deadline) {
+            this.id = id;
+            this.deadline = deadline;
+        }
+    }
+
+    private static final Comparator<Task> BY_DEADLINE = Comparator.comparingLong(t -> t.deadline);
+
+    // tasks are mutated in place: the rows are single-threaded
+    @State(Scope.Benchmark)
+    public static class Picks {
+        @Param({"10000", "100000"})
+        int size;
+
+        @Param({"UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        int[] picks;
+        Task[] tasks;
+        final SplittableRandom random = new SplittableRandom(11);
+
+        @Setup
+        public void setUp() {
+            picks = dist.keys(LOOKUPS, size, 42);
+            SplittableRandom random = new SplittableRandom(7);
+            tasks = new Task[size];
+            for (int i = 0; i < size; i++) tasks[i] = new Task(i, random.nextLong(1_000_000));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PriorityQueueState {
+        PriorityQueue<Task> queue;
+
+        @Setup
+        public void setUp(Picks p) {
+            queue = new PriorityQueue<>(p.size, BY_DEADLINE);
+            for (Task t : p.tasks) queue.add(t);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IndexedHeapState {
+        IndexedDaryHeap<Task> heap;
+
+        @Setup
+        public void setUp(Picks p) {
+            heap = new IndexedDaryHeap<>(BY_DEADLINE, p.size);
+            for (Task t : p.tasks) t.entry = heap.add(t);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LongHeapState {
+        IndexedLongHeap heap;
+
+        @Setup
+        public void setUp(Picks p) {
+            heap = new IndexedLongHeap(p.size);
+            for (Task t : p.tasks) heap.add(t.id, t.deadline);
+        }
+    }
+
+    // ----------------- reprioritize -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object reprioritizePriorityQueue(Picks p, PriorityQueueState s, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            Task t = p.tasks[p.picks[cursor.next(LOOKUPS - 1)]];
+            s.queue.remove(t);
+            t.deadline = p.random.nextLong(1_000_000);
+            s.queue.add(t);
+        }
+        return s.queue;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object reprioritizeIndexedHeap(Picks p, IndexedHeapState s, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            Task t = p.tasks[p.picks[cursor.next(LOOKUPS - 1)]];
+            t.deadline = p.random.nextLong(1_000_000);
+            s.heap.changed(t.entry);
+        }
+        return s.heap;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object reprioritizeLongHeap(Picks p, LongHeapState s, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            s.heap.update(p.picks[cursor.next(LOOKUPS - 1)], p.random.nextLong(1_000_000));
+        }
+        return s.heap;
+    }
+
+    // ----------------- cancel + resubmit -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object cancelPriorityQueue(Picks p, PriorityQueueState s, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            Task t = p.tasks[p.picks[cursor.next(LOOKUPS - 1)]];
+            s.queue.remove(t);
+            s.queue.add(t);
+        }
+        return s.queue;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object cancelIndexedHeap(Picks p, IndexedHeapState s, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            Task t = p.tasks[p.picks[cursor.next(LOOKUPS - 1)]];
+            s.heap.remove(t.entry);
+            t.entry = s.heap.add(t);
+        }
+        return s.heap;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object cancelLongHeap(Picks p, LongHeapState s, Cursor cursor) {
+        for (int i = 0; i < BATCH; i++) {
+            int id = p.picks[cursor.next(LOOKUPS - 1)];
+            long deadline = s.heap.priority(id);
+            s.heap.remove(id);
+            s.heap.add(id, deadline);
+        }
+        return s.heap;
+    }
+
+    // ----------------- tick: poll the earliest, reschedule later -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object tickPriorityQueue(Picks p, PriorityQueueState s) {
+        for (int i = 0; i < BATCH; i++) {
+            Task t = s.queue.poll();
+            t.deadline += p.random.nextLong(1_000);
+            s.queue.add(t);
+        }
+        return s.queue;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object tickIndexedHeap(Picks p, IndexedHeapState s) {
+        for (int i = 0; i < BATCH; i++) {
+            IndexedDaryHeap.Entry<Task> top = s.heap.peekEntry();
+            top.value().deadline += p.random.nextLong(1_000);
+            s.heap.changed(top); // poll + add without the churn
+        }
+        return s.heap;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object tickLongHeap(Picks p, LongHeapState s) {
+        for (int i = 0; i < BATCH; i++) {
+            s.heap.update(s.heap.peekId(), s.heap.peekPriority() + p.random.nextLong(1_000));
+        }
+        return s.heap;
+    }
+}
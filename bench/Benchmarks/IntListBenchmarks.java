@@ -0,0 +1,114 @@
+package Benchmarks;
+
+import Java8.IntArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/*
+Boxed List<Integer> streams (SteamApiLevel1, StreamLevel2, StreamApiLevel3) vs IntArrayList.
+The interesting number is gc.alloc.rate.norm (-prof gc): boxed pipelines allocate an Integer per
+element (values are drawn from 0..1M so the Integer cache does not hide it).
+
+One op = the whole pipeline over size= elements; divide by size for per-element time and bytes.
+
+Run:  gradle jmh -Pjmh='IntListBenchmarks -p size=1000000 -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntListBenchmarks {
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    private List<Integer> boxed;
+    private IntArrayList source;
+    private List<List<Integer>> boxedChunks;
+    private List<IntArrayList> intChunks;
+
+    @Setup
+    public void setUp() {
+        int[] values = KeyDistribution.UNIFORM.keys(size, 1_000_000, 42);
+        boxed = new ArrayList<>(size);
+        for (int v : values) boxed.add(v);
+        source = IntArrayList.of(values);
+
+        boxedChunks = new ArrayList<>();
+        intChunks = new ArrayList<>();
+        for (int from = 0; from < size; from += 1000) {
+            int to = Math.min(size, from + 1000);
+            boxedChunks.add(boxed.subList(from, to));
+            intChunks.add(IntArrayList.of(Arrays.copyOfRange(values, from, to)));
+        }
+    }
+
+    // ----------------- Level 1: squares -----------------
+
+    @Benchmark
+    public List<Integer> squaresBoxedStream() {
+        return boxed.stream().map(x -> x * x).toList();
+    }
+
+    @Benchmark
+    public IntArrayList squaresIntArrayList() {
+        return source.copy().map(x -> x * x);
+    }
+
+    // ----------------- Level 1: filter odd -----------------
+
+    @Benchmark
+    public List<Integer> filterOddBoxedStream() {
+        return boxed.stream().filter(x -> x % 2 != 0).toList();
+    }
+
+    @Benchmark
+    public IntArrayList filterOddIntArrayList() {
+        return source.copy().removeIf(x -> x % 2 == 0);
+    }
+
+    // ----------------- Level 2: remove duplicates and sort -----------------
+
+    @Benchmark
+    public List<Integer> distinctSortedBoxedStream() {
+        return boxed.stream().distinct().sorted().toList();
+    }
+
+    @Benchmark
+    public IntArrayList distinctSortedIntArrayList() {
+        return source.copy().sortDistinct();
+    }
+
+    // ----------------- Level 2: first N even numbers -----------------
+
+    @Benchmark
+    public List<Integer> evensBoxedStream() {
+        return IntStream.iterate(2, x -> x + 2).limit(size).boxed().toList();
+    }
+
+    @Benchmark
+    public IntArrayList evensIntArrayList() {
+        return IntArrayList.from(IntStream.iterate(2, x -> x + 2).limit(size));
+    }
+
+    // ----------------- Level 3: flatten 1000-element chunks -----------------
+
+    @Benchmark
+    public List<Integer> flattenBoxedStream() {
+        return boxedChunks.stream().flatMap(List::stream).toList();
+    }
+
+    @Benchmark
+    public IntArrayList flattenIntArrayList() {
+        IntArrayList flat = new IntArrayList(size);
+        intChunks.forEach(flat::addAll);
+        return flat;
+    }
+}
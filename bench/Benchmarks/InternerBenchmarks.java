@@ -0,0 +1,168 @@
+package Benchmarks;
+
+import CollectionFramework.MapInterface.Interner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/*
+Deduplicating many equal strings: Interner (weak / soft) vs synchronized WeakHashMap vs String.intern().
+
+    fill     holds count= strings drawn from distinct= values (each one a separate String object);
+             after every iteration it prints the heap still used after GC, divided by count: raw
+             duplicates (none) vs the same strings after interning (the interner's own entries included).
+             Used heap after System.gc() is approximate; compare rows, not digits. The score is the
+             time to deduplicate all count strings with a fresh interner.
+    intern   throughput of intern(fresh duplicate) when the canonical instance already exists,
+             the steady state of a deduplicating parser. All JMH threads share one interner;
+             none is the cost of the loop alone.
+
+    baseline  Collections.synchronizedMap(new WeakHashMap<String, WeakReference<String>>()):
+              get -> ref.get(), else put(s, new WeakReference<>(s))
+
+Run:  gradle jmh -Pjmh='InternerBenchmarks -p distinct=1000,100000'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InternerBenchmarks {
+
+    private static final int BATCH = 64;
+    private static final int LOOKUPS = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Impl {
+        @Param({"none", "interner.weak", "interner.soft", "synchronizedWeakHashMap", "stringIntern"})
+        String impl;
+
+        @Param({"10000"})
+        int distinct;
+
+        UnaryOperator<String> intern;
+        String[] canonical;
+        String[] lookups;
+
+        @Setup
+        public void setUp(BenchmarkParams params) {
+            if (params.getBenchmark().endsWith("fill")) return; // fill builds its own interner per iteration
+            intern = create(impl);
+            canonical = new String[distinct]; // pinned, so nothing is cleared mid-run
+            for (int i = 0; i < distinct; i++) canonical[i] = intern.apply(descriptor(i));
+            lookups = new String[LOOKUPS];
+            SplittableRandom random = new SplittableRandom(2);
+            for (int i = 0; i < LOOKUPS; i++) lookups[i] = descriptor(random.nextInt(distinct));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Memory {
+        @Param({"1000000"})
+        int count;
+
+        long before;
+        UnaryOperator<String> intern;
+        String[] held;
+
+        @Setup(Level.Iteration)
+        public void measureBefore() {
+            before = usedAfterGc();
+        }
+
+        // used heap with the strings held minus used heap once they (and the interner) are dropped;
+        // the reading taken before is a fallback when the drop is not collected yet
+        @TearDown(Level.Iteration)
+        public void printRetained(Impl impl) {
+            long after = usedAfterGc();
+            Reference.reachabilityFence(held);
+            Reference.reachabilityFence(intern);
+            held = null;
+            intern = null;
+            long retained = after - Math.min(before, usedAfterGc());
+            System.out.printf(Locale.ROOT, "%n    %s distinct %d: %.1f MB retained, %.1f B/string%n",
+                    impl.impl, impl.distinct, retained / 1e6, (double) retained / count);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public Object fill(Impl impl, Memory m) {
+        m.intern = create(impl.impl);
+        m.held = new String[m.count];
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < m.count; i++) m.held[i] = m.intern.apply(descriptor(random.nextInt(impl.distinct)));
+        return m.held;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public String intern(Impl impl, Cursor cursor) {
+        return internBatch(impl, cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH)
+    public String internFourThreads(Impl impl, Cursor cursor) {
+        return internBatch(impl, cursor);
+    }
+
+    private static String internBatch(Impl impl, Cursor cursor) {
+        String last = null;
+        for (int i = 0; i < BATCH; i++) last = impl.intern.apply(impl.lookups[cursor.next(LOOKUPS - 1)]);
+        return last;
+    }
+
+    // a fresh String object each call, like one read from a file or the network
+    private static String descriptor(int id) {
+        return "Lcom/acme/orders/model/OrderLine" + id + ";";
+    }
+
+    private static UnaryOperator<String> create(String impl) {
+        return switch (impl) {
+            case "none" -> s -> s;
+            case "interner.weak" -> Interner.<String>weak()::intern;
+            case "interner.soft" -> Interner.<String>soft()::intern;
+            case "stringIntern" -> String::intern;
+            default -> {
+                Map<String, WeakReference<String>> map = Collections.synchronizedMap(new WeakHashMap<>());
+                yield s -> {
+                    synchronized (map) { // get + put as one step, like Interner.intern
+                        WeakReference<String> ref = map.get(s);
+                        String canonical = ref == null ? null : ref.get();
+                        if (canonical != null) return canonical;
+                        map.put(s, new WeakReference<>(s));
+                        return s;
+                    }
+                };
+            }
+        };
+    }
+
+    // pauses let the interner's cleaner thread drop cleared references between collections
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,66 @@
+package Benchmarks;
+
+import java.util.SplittableRandom;
+
+/*
+Key access patterns used by the parameterized benchmarks.
+
+SEQUENTIAL : 0, 1, 2, ... (best case for caches and branch prediction)
+UNIFORM    : every key equally likely
+ZIPFIAN    : a few hot keys take most of the traffic (s = 0.99, like YCSB)
+ */
+public enum KeyDistribution {
+    SEQUENTIAL, UNIFORM, ZIPFIAN;
+
+    // n keys drawn from [0, universe)
+    public int[] keys(int n, int universe, long seed) {
+        int[] keys = new int[n];
+        SplittableRandom random = new SplittableRandom(seed);
+        switch (this) {
+            case SEQUENTIAL -> {
+                for (int i = 0; i < n; i++) keys[i] = i % universe;
+            }
+            case UNIFORM -> {
+                for (int i = 0; i < n; i++) keys[i] = random.nextInt(universe);
+            }
+            case ZIPFIAN -> {
+                Zipf zipf = new Zipf(universe, 0.99);
+                for (int i = 0; i < n; i++) keys[i] = zipf.next(random);
+            }
+        }
+        return keys;
+    }
+
+    // Gray et al. "Quickly generating billion-record synthetic databases" (the YCSB generator)
+    private static final class Zipf {
+        private final int items;
+        private final double theta;
+        private final double alpha;
+        private final double zetan;
+        private final double eta;
+
+        Zipf(int items, double theta) {
+            this.items = items;
+            this.theta = theta;
+            this.zetan = zeta(items, theta);
+            this.alpha = 1.0 / (1.0 - theta);
+            double zeta2 = zeta(2, theta);
+            this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetan);
+        }
+
+        int next(SplittableRandom random) {
+            double u = random.nextDouble();
+            double uz = u * zetan;
+            if (uz < 1.0) return 0;
+            if (uz < 1.0 + Math.pow(0.5, theta)) return Math.min(1, items - 1);
+            int v = (int) (items * Math.pow(eta * u - eta + 1, alpha));
+            return Math.min(v, items - 1);
+        }
+
+        private static double zeta(int n, double theta) {
+            double sum = 0;
+            for (int i = 1; i <= n; i++) sum += 1 / Math.pow(i, theta);
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package Benchmarks;
+
+import Serialization.MappedRecordLog;
+import Serialization.RecordFile;
+import Serialization.User;
+import Serialization.UserCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+Memory-mapped append-only log (MappedRecordLog) vs the stream-based alternatives for count= users
+(default 1M).
+
+    append             MappedRecordLog.append, BATCH records per invocation, into a fresh log per iteration
+    readRandom         MappedRecordLog.read(recordNumber) with uniformly random record numbers
+    restartMappedLog   open an existing log = map segments + rebuild the offset index from headers
+    restartRecordFile  what a restart costs without an index: RecordFile.forEach over every record
+    restartJava        ObjectInputStream over every record (one stream, buffered)
+
+append / readRandom report records per second; the restart rows report one full pass (ms/op), so
+they compare directly with each other.
+
+Run:  gradle jmh -Pjmh='MappedLogBenchmarks -p count=1000000'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MappedLogBenchmarks {
+
+    private static final int BATCH = 64;
+    private static final int LOOKUPS = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Logs {
+        @Param({"1000000"})
+        int count;
+
+        @Param({"67108864"})
+        int segment;
+
+        List<User> users;
+        int[] picks;
+        Path dir;
+        Path logDir;
+        Path recordFile;
+        Path javaFile;
+        MappedRecordLog<User> log;
+
+        @Setup
+        public void setUp() throws IOException {
+            users = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                users.add(new User("user" + i, 18 + i % 60, "pwd"));
+            }
+            picks = KeyDistribution.UNIFORM.keys(LOOKUPS, count, 42);
+            dir = Files.createTempDirectory("mappedlog");
+            logDir = dir.resolve("log");
+            recordFile = dir.resolve("users.rec");
+            javaFile = dir.resolve("users.ser");
+
+            try (MappedRecordLog<User> log = new MappedRecordLog<>(logDir, new UserCodec(), segment)) {
+                log.appendAll(users);
+            }
+            new RecordFile<>(recordFile, new UserCodec()).writeAll(users);
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(javaFile), 64 * 1024))) {
+                int n = 0;
+                for (User u : users) {
+                    out.writeObject(u);
+                    if (++n % 1024 == 0) out.reset();
+                }
+            }
+            log = new MappedRecordLog<>(logDir, new UserCodec(), segment);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            log.close();
+            deleteRecursively(dir);
+        }
+    }
+
+    // a fresh log per iteration; records cycle through the prepared users
+    @State(Scope.Thread)
+    public static class AppendLog {
+        Path dir;
+        MappedRecordLog<User> log;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void open(Logs logs) throws IOException {
+            dir = Files.createTempDirectory(logs.dir, "append");
+            log = new MappedRecordLog<>(dir, new UserCodec(), logs.segment);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            log.close();
+            deleteRecursively(dir);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void append(Logs logs, AppendLog target, Blackhole bh) throws IOException {
+        int c = target.next;
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(target.log.append(logs.users.get(c)));
+            if (++c == logs.count) c = 0;
+        }
+        target.next = c;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void readRandom(Logs logs, Cursor cursor, Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) bh.consume(logs.log.read(logs.picks[cursor.next(LOOKUPS - 1)]));
+    }
+
+    // ----------------- restart: one full pass per op -----------------
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public long restartMappedLog(Logs logs) throws IOException {
+        try (MappedRecordLog<User> log = new MappedRecordLog<>(logs.logDir, new UserCodec(), logs.segment)) {
+            return log.size();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public long restartRecordFile(Logs logs) throws IOException {
+        return new RecordFile<>(logs.recordFile, new UserCodec()).forEach(u -> {});
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public Object restartJava(Logs logs) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new BufferedInputStream(Files.newInputStream(logs.javaFile), 64 * 1024))) {
+            Object last = null;
+            for (int i = 0; i < logs.count; i++) last = in.readObject();
+            return last;
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+}
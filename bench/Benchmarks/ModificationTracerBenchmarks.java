@@ -0,0 +1,96 @@
+package Benchmarks;
+
+import CollectionFramework.ModificationTracer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/*
+What ModificationTracer costs: nothing once disabled, a stack capture per modification when enabled.
+
+    fill*      create a list, add(x) size= elements, then iterate it once; one op = the whole fill
+    cowFill*   create a CopyOnWriteArrayList, add(x) size= elements (each add copies the
+               array, so the work is quadratic); one op = the whole fill
+
+    ArrayList / CopyOnWriteArrayList   new ArrayList<>() / new CopyOnWriteArrayList<>()
+    Disabled*                          the ModificationTracer factories while disabled: what
+                                       production pays for leaving them in the code
+    fillTracedArrayList                traced() while enabled: one Modification (Throwable) per add
+    cowFillCounted                     copyOnWriteList() while enabled: LongAdders per copy and a
+                                       StackWalker walk for the sampled writer sites
+
+Run:  gradle jmh -Pjmh='ModificationTracerBenchmarks.fill -p size=100'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModificationTracerBenchmarks {
+
+    private static final Integer VALUE = 7;
+
+    @Param({"16", "1000"})
+    int size;
+
+    // enabled only for the rows that take it as a parameter
+    @State(Scope.Benchmark)
+    public static class Enabled {
+        @Setup
+        public void enable() {
+            ModificationTracer.enable();
+        }
+
+        @TearDown
+        public void disable() {
+            ModificationTracer.disable();
+            ModificationTracer.reset();
+        }
+    }
+
+    @Benchmark
+    public long fillArrayList() {
+        return fillAndIterate(new ArrayList<>());
+    }
+
+    @Benchmark
+    public long fillDisabledArrayList() {
+        return fillAndIterate(ModificationTracer.traced(new ArrayList<>()));
+    }
+
+    @Benchmark
+    public long fillTracedArrayList(Enabled enabled) {
+        return fillAndIterate(ModificationTracer.traced(new ArrayList<>()));
+    }
+
+    @Benchmark
+    public Object cowFillCopyOnWriteArrayList() {
+        return fill(new CopyOnWriteArrayList<>());
+    }
+
+    @Benchmark
+    public Object cowFillDisabled() {
+        return fill(ModificationTracer.copyOnWriteList());
+    }
+
+    @Benchmark
+    public Object cowFillCounted(Enabled enabled) {
+        return fill(ModificationTracer.copyOnWriteList());
+    }
+
+    private long fillAndIterate(List<Integer> list) {
+        fill(list);
+        long sum = 0;
+        for (Integer v : list) sum += v;
+        return sum;
+    }
+
+    private List<Integer> fill(List<Integer> list) {
+        for (int i = 0; i < size; i++) list.add(VALUE);
+        return list;
+    }
+}
@@ -0,0 +1,90 @@
+package Benchmarks;
+
+import Java8.ParallelStreamLevel2;
+import Java8.StreamLevel2.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/*
+StreamLevel2 pipelines, sequential vs parallel, over array-backed datasets (ParallelStreamLevel2).
+
+    distinctSorted   Integer[] -> distinct().sorted().toList()     (values in 0..size/2, ~half duplicates)
+    distinctInts     int[]     -> distinct().sorted().toArray()
+    names            Employee[] -> map(name).toList()
+    salaryFilter     Employee[] -> filter(salary > 200_000).toList()   (~5% selectivity)
+    findFirst        Employee[] -> first salary > 250_000: never matches, so every element is tested
+
+Parallel runs execute inside a ForkJoinPool of size parallelism= (see ParallelStreamLevel2.inPool);
+SEQUENTIAL ignores the pool, so run it once with -p parallelism=1. One op = one pipeline over the
+whole dataset. Speedup = SEQUENTIAL score / parallel score at the same size; the crossover is the
+smallest size where it exceeds 1. Speedups above 1 need as many free cores as the pool has threads.
+
+Run:  gradle jmh -Pjmh='ParallelStreamBenchmarks -p size=100000,1000000,10000000 -p parallelism=1,4,8'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmarks {
+
+    @Param({"10000", "100000", "1000000"})
+    int size;
+
+    @Param({"SEQUENTIAL", "PARALLEL", "PARALLEL_UNORDERED"})
+    ParallelStreamLevel2.Mode mode;
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    @Param({"4096"})
+    int grain;
+
+    private Employee[] employees;
+    private int[] ints;
+    private Integer[] boxed;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        employees = ParallelStreamLevel2.generate(size, 42);
+        ints = KeyDistribution.UNIFORM.keys(size, Math.max(1, size / 2), 42);
+        boxed = new Integer[size];
+        for (int i = 0; i < size; i++) boxed[i] = ints[i];
+        pool = mode == ParallelStreamLevel2.Mode.SEQUENTIAL ? null : ParallelStreamLevel2.newPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    @Benchmark
+    public Object distinctSorted() {
+        return ParallelStreamLevel2.inPool(pool,
+                () -> ParallelStreamLevel2.stream(boxed, mode, grain).distinct().sorted().toList());
+    }
+
+    @Benchmark
+    public Object distinctInts() {
+        return ParallelStreamLevel2.inPool(pool, () -> ParallelStreamLevel2.distinctSorted(ints, mode));
+    }
+
+    @Benchmark
+    public Object names() {
+        return ParallelStreamLevel2.inPool(pool, () -> ParallelStreamLevel2.names(employees, mode));
+    }
+
+    @Benchmark
+    public Object salaryFilter() {
+        return ParallelStreamLevel2.inPool(pool, () -> ParallelStreamLevel2.salaryAbove(employees, 200_000, mode));
+    }
+
+    @Benchmark
+    public Object findFirst() {
+        return ParallelStreamLevel2.inPool(pool, () -> ParallelStreamLevel2.firstSalaryAbove(employees, 250_000, mode));
+    }
+}
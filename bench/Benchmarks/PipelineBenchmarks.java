@@ -0,0 +1,144 @@
+package Benchmarks;
+
+import CollectionFramework.QueueInterface.BoundedPipeline;
+import CollectionFramework.QueueInterface.BoundedPipeline.Backpressure;
+import CollectionFramework.QueueInterface.BoundedPipeline.QueueType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/*
+BoundedPipeline throughput and latency per queue type, with producer threads (JMH threads) and
+consumers= consumer threads draining in batches.
+
+    submit / submitFourProducers   one submit() call, including time spent blocked on a full queue;
+                                   thrpt = submits/s, sample = p50..p99.99 of a single submit
+    e2e p50 / p99                  printed per trial: submit -> handler, sampled from the first item of each batch
+    dropped/rejected               printed per trial: items lost to the DROP_OLDEST / REJECT policies
+
+ARRAY_BLOCKING is the baseline: producers and consumers take the same ReentrantLock.
+The handler does a little work per item (work= iterations of an xorshift) so consumers are not free.
+Other producer counts: -t N on either method.
+
+Run:  gradle jmh -Pjmh='PipelineBenchmarks -p consumers=2 -p batch=64'
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmarks {
+
+    // the submitted item: carries its creation time for the end-to-end latency
+    private static final class Event {
+        final long createdNanos;
+        final long payload;
+
+        Event(long createdNanos, long payload) {
+            this.createdNanos = createdNanos;
+            this.payload = payload;
+        }
+    }
+
+    // per consumer thread, merged after the run
+    private static final class Samples {
+        final long[] values = new long[1 << 16];
+        int count;
+        long sink;
+
+        void add(long nanos) {
+            values[count & (values.length - 1)] = nanos;
+            count++;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Pipeline {
+        @Param({"ARRAY_BLOCKING", "LINKED_BLOCKING", "LINKED_TRANSFER", "RING_BUFFER"})
+        QueueType queue;
+
+        @Param({"1", "2"})
+        int consumers;
+
+        @Param({"1", "64"})
+        int batch;
+
+        @Param({"1024"})
+        int capacity;
+
+        @Param({"BLOCK"})
+        Backpressure policy;
+
+        @Param({"16"})
+        int work;
+
+        final List<Samples> allSamples = new CopyOnWriteArrayList<>();
+        BoundedPipeline<Event> pipeline;
+
+        @Setup
+        public void setUp() {
+            ThreadLocal<Samples> samples = ThreadLocal.withInitial(() -> {
+                Samples s = new Samples();
+                allSamples.add(s);
+                return s;
+            });
+            int iterations = work;
+            pipeline = new BoundedPipeline<>(new BoundedPipeline.Config().capacity(capacity).consumers(consumers)
+                    .batchSize(batch).queueType(queue).backpressure(policy), batch -> {
+                Samples s = samples.get();
+                s.add(System.nanoTime() - batch.get(0).createdNanos);
+                long x = 0;
+                for (Event e : batch) {
+                    x = e.payload;
+                    for (int i = 0; i < iterations; i++) {
+                        x ^= x << 13;
+                        x ^= x >>> 7;
+                        x ^= x << 17;
+                    }
+                }
+                s.sink += x;
+            });
+        }
+
+        @TearDown
+        public void tearDown() {
+            pipeline.close();
+            long[] sorted = new long[0];
+            for (Samples s : allSamples) {
+                int n = Math.min(s.count, s.values.length);
+                int from = sorted.length;
+                sorted = Arrays.copyOf(sorted, from + n);
+                System.arraycopy(s.values, 0, sorted, from, n);
+            }
+            Arrays.sort(sorted);
+            System.out.printf(Locale.ROOT, "%n    e2e p50 %.1f us, p99 %.1f us | submitted %d, processed %d, dropped %d, rejected %d%n",
+                    percentile(sorted, 0.50) / 1e3, percentile(sorted, 0.99) / 1e3,
+                    pipeline.submitted(), pipeline.processed(), pipeline.dropped(), pipeline.rejected());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        long seq;
+    }
+
+    @Benchmark
+    public boolean submit(Pipeline p, Producer producer) throws InterruptedException {
+        return p.pipeline.submit(new Event(System.nanoTime(), ++producer.seq));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean submitFourProducers(Pipeline p, Producer producer) throws InterruptedException {
+        return p.pipeline.submit(new Event(System.nanoTime(), ++producer.seq));
+    }
+
+    private static double percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.max(0, Math.ceil(q * sorted.length) - 1))];
+    }
+}
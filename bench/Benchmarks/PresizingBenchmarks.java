@@ -0,0 +1,86 @@
+package Benchmarks;
+
+import CollectionFramework.ListInterface.CapacityProfiler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+/*
+What growth costs, and what CapacityProfiler costs while it watches.
+
+One op creates a list and add(x)s size= elements; with -prof gc, gc.alloc.rate.norm / size is the
+allocation per element (the final array's 4 B/element included).
+
+    arrayList / vector                   default constructors: every resize copies the array
+    arrayListPresized / vectorPresized   new ArrayList<>(size): one array, no copies
+    profiledArrayList*                   CapacityProfiler.arrayList() while enabled: the wrapper and the
+                                         growth model (one StackWalker walk per list)
+
+Run:  gradle jmh -Pjmh='PresizingBenchmarks -p size=50,1000000 -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PresizingBenchmarks {
+
+    private static final Integer VALUE = 7;
+
+    @Param({"10", "100", "10000"})
+    int size;
+
+    // enabled only for the rows that take it as a parameter
+    @State(Scope.Benchmark)
+    public static class Profiler {
+        @Setup
+        public void enable() {
+            CapacityProfiler.enable();
+        }
+
+        @TearDown
+        public void disable() {
+            CapacityProfiler.disable();
+            CapacityProfiler.reset();
+        }
+    }
+
+    @Benchmark
+    public Object arrayList() {
+        return fill(new ArrayList<>());
+    }
+
+    @Benchmark
+    public Object arrayListPresized() {
+        return fill(new ArrayList<>(size));
+    }
+
+    @Benchmark
+    public Object vector() {
+        return fill(new Vector<>());
+    }
+
+    @Benchmark
+    public Object vectorPresized() {
+        return fill(new Vector<>(size));
+    }
+
+    @Benchmark
+    public Object profiledArrayList(Profiler profiler) {
+        return fill(CapacityProfiler.arrayList());
+    }
+
+    @Benchmark
+    public Object profiledArrayListPresized(Profiler profiler) {
+        return fill(CapacityProfiler.arrayList(size));
+    }
+
+    private List<Integer> fill(List<Integer> list) {
+        for (int i = 0; i < size; i++) list.add(VALUE);
+        return list;
+    }
+}
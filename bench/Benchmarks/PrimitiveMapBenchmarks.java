@@ -0,0 +1,155 @@
+package Benchmarks;
+
+import CollectionFramework.MapInterface.LongObjectHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+HashMap<Long, String> (MapBasicDemo) vs LongObjectHashMap<String>.
+
+    *Put        one op builds a whole map of size= entries, so gc.alloc.rate.norm / size (-prof gc)
+                is the per-entry footprint (HashMap: boxed key + Node + table; LongObjectHashMap:
+                array slots only)
+    *Get        BATCH lookups per invocation, keys from dist=, roughly half of them miss; safe with -t 4
+    *RemovePut  churn, exercises backward-shift deletion; single-threaded
+
+loadFactor= applies to LongObjectHashMap only.
+
+Run:  gradle jmh -Pjmh='PrimitiveMapBenchmarks -p size=1000000 -p loadFactor=0.75'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PrimitiveMapBenchmarks {
+
+    private static final int BATCH = 64;
+    private static final int LOOKUPS = 1 << 16;
+    private static final String VALUE = "payload";
+
+    @State(Scope.Benchmark)
+    public static class Ids {
+        @Param({"100000", "1000000"})
+        int size;
+
+        long[] ids;
+
+        @Setup
+        public void setUp() {
+            // ids spread over the long range like database ids, not 0..n
+            ids = new long[size];
+            for (int i = 0; i < size; i++) ids[i] = (i + 1) * 2_654_435_761L;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Lookups {
+        @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+        KeyDistribution dist;
+
+        long[] keys;
+
+        @Setup
+        public void setUp(Ids ids) {
+            // index 0..2n: values >= n map to ids that are not in the map
+            int[] picks = dist.keys(LOOKUPS, ids.size * 2, 42);
+            keys = new long[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                keys[i] = picks[i] < ids.size ? ids.ids[picks[i]] : -picks[i] - 1L;
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Boxed {
+        Map<Long, String> filled;
+        Map<Long, String> churn;
+
+        @Setup
+        public void setUp(Ids ids) {
+            filled = new HashMap<>();
+            for (long id : ids.ids) filled.put(id, VALUE);
+            churn = new HashMap<>(filled);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Primitive {
+        @Param({"0.5", "0.75", "0.9"})
+        float loadFactor;
+
+        LongObjectHashMap<String> filled;
+        LongObjectHashMap<String> churn;
+
+        @Setup
+        public void setUp(Ids ids) {
+            filled = new LongObjectHashMap<>(ids.size, loadFactor);
+            churn = new LongObjectHashMap<>(ids.size, loadFactor);
+            for (long id : ids.ids) {
+                filled.put(id, VALUE);
+                churn.put(id, VALUE);
+            }
+        }
+    }
+
+    // ----------------- put -----------------
+
+    @Benchmark
+    public Map<Long, String> hashMapPut(Ids ids) {
+        Map<Long, String> map = new HashMap<>();
+        for (long id : ids.ids) map.put(id, VALUE);
+        return map;
+    }
+
+    @Benchmark
+    public LongObjectHashMap<String> longObjectHashMapPut(Ids ids, Primitive primitive) {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(16, primitive.loadFactor);
+        for (long id : ids.ids) map.put(id, VALUE);
+        return map;
+    }
+
+    // ----------------- get -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void hashMapGet(Boxed boxed, Lookups lookups, Cursor cursor, Blackhole bh) {
+        Map<Long, String> map = boxed.filled;
+        for (int i = 0; i < BATCH; i++) bh.consume(map.get(lookups.keys[cursor.next(LOOKUPS - 1)]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void longObjectHashMapGet(Primitive primitive, Lookups lookups, Cursor cursor, Blackhole bh) {
+        LongObjectHashMap<String> map = primitive.filled;
+        for (int i = 0; i < BATCH; i++) bh.consume(map.get(lookups.keys[cursor.next(LOOKUPS - 1)]));
+    }
+
+    // ----------------- remove + put -----------------
+
+    @Benchmark
+    @OperationsPerInvocation(2 * BATCH)
+    public void hashMapRemovePut(Boxed boxed, Lookups lookups, Cursor cursor, Blackhole bh) {
+        Map<Long, String> map = boxed.churn;
+        for (int i = 0; i < BATCH; i++) {
+            long key = lookups.keys[cursor.next(LOOKUPS - 1)];
+            map.remove(key);
+            bh.consume(map.put(key, VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * BATCH)
+    public void longObjectHashMapRemovePut(Primitive primitive, Lookups lookups, Cursor cursor, Blackhole bh) {
+        LongObjectHashMap<String> map = primitive.churn;
+        for (int i = 0; i < BATCH; i++) {
+            long key = lookups.keys[cursor.next(LOOKUPS - 1)];
+            map.remove(key);
+            bh.consume(map.put(key, VALUE));
+        }
+    }
+}
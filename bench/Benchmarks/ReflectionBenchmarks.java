@@ -0,0 +1,194 @@
+package Benchmarks;
+
+import Reflections.AccessorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/*
+Raw reflection vs cached reflection vs MethodHandle vs LambdaMetafactory on
+ReflectionDemoCustomClass.Person (private fields, private method, private/public constructors).
+
+    raw          getDeclaredX + setAccessible + get/invoke on every call (what ReflectionDemoCustomClass does)
+    cached       Field / Method resolved once by AccessorFactory
+    methodHandle cached MethodHandle, invokeExact
+    varHandle    cached VarHandle (fields only)
+    lambda       LambdaMetafactory-generated functional interface (methods / constructors only)
+
+Every accessor is resolved once into a static final field, as a real caller would hold it: only
+then can the JIT treat a MethodHandle / VarHandle as a constant and inline through it.
+
+rowMapping* = construct a Person and set both fields, like an object mapper does per row. Fields
+have no lambda form, so rowMappingLambdaCtor pairs a constructor lambda with MethodHandle setters.
+rowMappingAllArgsLambdaCtor is the shortcut when a constructor takes every column: one lambda
+call, no setters, so it does less work than the other rowMapping rows.
+
+Run:  gradle jmh -Pjmh='ReflectionBenchmarks.fieldGet'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReflectionBenchmarks {
+
+    private static final Class<?> PERSON;
+    private static final Field NAME_FIELD;
+    private static final Field AGE_FIELD;
+    private static final Method INCREMENT;
+    private static final Constructor<?> NO_ARG;
+    private static final MethodHandle NAME_GETTER;
+    private static final VarHandle NAME_VAR;
+    private static final MethodHandle INCREMENT_HANDLE;
+    private static final MethodHandle INCREMENT_SPREAD;
+    private static final MethodHandle NEW_PERSON;
+    private static final MethodHandle NAME_SETTER;
+    private static final MethodHandle AGE_SETTER;
+    private static final ObjIntConsumer<Object> INCREMENT_LAMBDA;
+    private static final Supplier<Object> NEW_PERSON_LAMBDA;
+    private static final BiFunction<String, Integer, Object> NEW_PERSON_ALL_ARGS_LAMBDA;
+
+    static {
+        try {
+            PERSON = Class.forName("Reflections.ReflectionDemoCustomClass$Person");
+        } catch (ClassNotFoundException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        AccessorFactory.ClassAccessors person = AccessorFactory.of(PERSON);
+        NAME_FIELD = person.field("name");
+        AGE_FIELD = person.field("age");
+        INCREMENT = person.method("incrementAge", int.class);
+        NO_ARG = person.constructor();
+        NAME_GETTER = person.getter("name");
+        NAME_VAR = person.varHandle("name");
+        INCREMENT_HANDLE = person.methodHandle("incrementAge", int.class)
+                .asType(MethodType.methodType(void.class, Object.class, int.class));
+        INCREMENT_SPREAD = person.invoker("incrementAge", int.class);
+        NEW_PERSON = person.constructorHandle().asType(MethodType.methodType(Object.class));
+        NAME_SETTER = person.setter("name");
+        AGE_SETTER = person.setter("age");
+        INCREMENT_LAMBDA = person.lambda(ObjIntConsumer.class, "incrementAge", int.class);
+        NEW_PERSON_LAMBDA = person.constructorLambda(Supplier.class);
+        NEW_PERSON_ALL_ARGS_LAMBDA = person.constructorLambda(BiFunction.class, String.class, int.class);
+    }
+
+    private Object target;
+    private int row;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        target = AccessorFactory.of(PERSON).constructor(String.class, int.class).newInstance("Alice", 30);
+    }
+
+    // ----------------- field read -----------------
+
+    @Benchmark
+    public Object fieldGetRaw() throws ReflectiveOperationException {
+        Field f = PERSON.getDeclaredField("name");
+        f.setAccessible(true);
+        return f.get(target);
+    }
+
+    @Benchmark
+    public Object fieldGetCached() throws IllegalAccessException {
+        return NAME_FIELD.get(target);
+    }
+
+    @Benchmark
+    public Object fieldGetMethodHandle() throws Throwable {
+        return (Object) NAME_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public Object fieldGetVarHandle() {
+        return NAME_VAR.get(target);
+    }
+
+    // ----------------- private method call: incrementAge(int) -----------------
+
+    @Benchmark
+    public Object methodInvokeRaw() throws ReflectiveOperationException {
+        Method m = PERSON.getDeclaredMethod("incrementAge", int.class);
+        m.setAccessible(true);
+        m.invoke(target, 1);
+        return target;
+    }
+
+    @Benchmark
+    public Object methodInvokeCached() throws ReflectiveOperationException {
+        INCREMENT.invoke(target, 1);
+        return target;
+    }
+
+    @Benchmark
+    public Object methodInvokeMethodHandle() throws Throwable {
+        INCREMENT_HANDLE.invokeExact(target, 1);
+        return target;
+    }
+
+    @Benchmark
+    public Object methodInvokeGenericInvoker() throws Throwable {
+        return (Object) INCREMENT_SPREAD.invokeExact(target, new Object[]{1});
+    }
+
+    @Benchmark
+    public Object methodInvokeLambda() {
+        INCREMENT_LAMBDA.accept(target, 1);
+        return target;
+    }
+
+    // ----------------- per-row mapping: new Person + set name + set age -----------------
+
+    @Benchmark
+    public Object rowMappingRaw() throws ReflectiveOperationException {
+        Constructor<?> c = PERSON.getDeclaredConstructor();
+        c.setAccessible(true);
+        Object person = c.newInstance();
+        Field name = PERSON.getDeclaredField("name");
+        name.setAccessible(true);
+        name.set(person, "row");
+        Field age = PERSON.getDeclaredField("age");
+        age.setAccessible(true);
+        age.setInt(person, row++);
+        return person;
+    }
+
+    @Benchmark
+    public Object rowMappingCached() throws ReflectiveOperationException {
+        Object person = NO_ARG.newInstance();
+        NAME_FIELD.set(person, "row");
+        AGE_FIELD.setInt(person, row++);
+        return person;
+    }
+
+    @Benchmark
+    public Object rowMappingMethodHandle() throws Throwable {
+        Object person = (Object) NEW_PERSON.invokeExact();
+        NAME_SETTER.invokeExact(person, (Object) "row");
+        AGE_SETTER.invokeExact(person, (Object) row++);
+        return person;
+    }
+
+    @Benchmark
+    public Object rowMappingLambdaCtor() throws Throwable {
+        Object person = NEW_PERSON_LAMBDA.get();
+        NAME_SETTER.invokeExact(person, (Object) "row");
+        AGE_SETTER.invokeExact(person, (Object) row++);
+        return person;
+    }
+
+    @Benchmark
+    public Object rowMappingAllArgsLambdaCtor() {
+        return NEW_PERSON_ALL_ARGS_LAMBDA.apply("row", row++);
+    }
+}
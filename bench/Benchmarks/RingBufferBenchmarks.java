@@ -0,0 +1,186 @@
+package Benchmarks;
+
+import CollectionFramework.QueueInterface.MpmcRingBuffer;
+import CollectionFramework.QueueInterface.MpscRingBuffer;
+import CollectionFramework.QueueInterface.SpscRingBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+Thread handoff through bounded / lock-free queues.
+
+    handoff        JMH threads offer, one background thread drains; ops/s = messages handed off
+    handoffBatch   SPSC / MPSC offer(E[]) + drain: one publication per batch of 32
+                   (the other queues have no batch offer and offer one by one, i.e. = handoff)
+    pingPong       round trip: JMH thread offers to queue A, an echo thread moves it to queue B,
+                   JMH thread polls B. sample mode = round-trip latency percentiles (two handoffs)
+
+Messages are preallocated Longs, so -prof gc shows what the queue itself allocates
+(ConcurrentLinkedQueue: a node per offer; the ring buffers: nothing).
+
+Waiting threads spin with Thread.onSpinWait() and yield after spin= failed attempts; use a large
+spin= on machines with a free core per thread (pinned threads), the default keeps 1-2 core boxes usable.
+Each queue= value runs in its own fork, so the java.util.Queue call sites see one receiver type.
+More producers: -t N on the handoff rows (SPSC rejects N > 1).
+
+Run:  gradle jmh -Pjmh='RingBufferBenchmarks -p queue=SPSC -p spin=100000'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferBenchmarks {
+
+    private static final int BATCH = 32;
+
+    public enum QueueKind { ABQ, CLQ, MPMC, SPSC, MPSC }
+
+    private static final Long[] TOKENS = new Long[1024];
+
+    static {
+        for (int i = 0; i < TOKENS.length; i++) TOKENS[i] = (long) i;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Queues {
+        @Param({"ABQ", "CLQ", "MPMC", "SPSC", "MPSC"})
+        QueueKind queue;
+
+        @Param({"1024"})
+        int capacity;
+
+        @Param({"100"})
+        int spin;
+
+        Queue<Long> ping;
+        Queue<Long> pong;
+        Thread background;
+        volatile long drained;
+
+        @Setup
+        public void setUp(BenchmarkParams params) {
+            if (queue == QueueKind.SPSC && params.getThreads() > 1) {
+                throw new IllegalStateException("SPSC takes a single producer, got -t " + params.getThreads());
+            }
+            ping = create(queue, capacity);
+            if (params.getBenchmark().endsWith("pingPong")) {
+                pong = create(queue, capacity);
+                background = new Thread(this::echo, "echo");
+            } else {
+                background = new Thread(this::drain, "drainer");
+            }
+            background.setDaemon(true);
+            background.start();
+        }
+
+        @TearDown
+        public void tearDown() throws InterruptedException {
+            background.interrupt();
+            background.join();
+        }
+
+        private void drain() {
+            long total = 0;
+            int idle = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                int n = RingBufferBenchmarks.drain(ping);
+                if (n == 0) {
+                    idle = idle(idle, spin);
+                } else {
+                    idle = 0;
+                    total += n;
+                }
+            }
+            drained = total;
+        }
+
+        private void echo() {
+            int idle = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                Long token = ping.poll();
+                if (token == null) {
+                    idle = idle(idle, spin);
+                    continue;
+                }
+                idle = 0;
+                while (!pong.offer(token)) Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object handoff(Queues q) {
+        Queue<Long> queue = q.ping;
+        for (int i = 0; i < BATCH; i++) {
+            Long token = TOKENS[i];
+            int idle = 0;
+            while (!queue.offer(token)) idle = idle(idle, q.spin);
+        }
+        return queue;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object handoffBatch(Queues q) {
+        Queue<Long> queue = q.ping;
+        int sent = 0;
+        int idle = 0;
+        while (sent < BATCH) {
+            int n = offerBatch(queue, TOKENS, sent, BATCH - sent);
+            if (n == 0) idle = idle(idle, q.spin);
+            sent += n;
+        }
+        return queue;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Long pingPong(Queues q) {
+        q.ping.offer(TOKENS[0]);
+        Long back;
+        int idle = 0;
+        while ((back = q.pong.poll()) == null) idle = idle(idle, q.spin);
+        return back;
+    }
+
+    private static Queue<Long> create(QueueKind kind, int capacity) {
+        return switch (kind) {
+            case ABQ -> new ArrayBlockingQueue<>(capacity);
+            case CLQ -> new ConcurrentLinkedQueue<>(); // unbounded: the drainer keeps it short
+            case MPMC -> new MpmcRingBuffer<>(capacity);
+            case SPSC -> new SpscRingBuffer<>(capacity);
+            case MPSC -> new MpscRingBuffer<>(capacity);
+        };
+    }
+
+    private static int offerBatch(Queue<Long> queue, Long[] src, int from, int length) {
+        if (queue instanceof SpscRingBuffer<Long> spsc) return spsc.offer(src, from, length);
+        if (queue instanceof MpscRingBuffer<Long> mpsc) return mpsc.offer(src, from, length);
+        int n = 0;
+        while (n < length && queue.offer(src[from + n])) n++;
+        return n;
+    }
+
+    private static int drain(Queue<Long> queue) {
+        if (queue instanceof SpscRingBuffer<Long> spsc) return spsc.drain(x -> {}, 256);
+        if (queue instanceof MpscRingBuffer<Long> mpsc) return mpsc.drain(x -> {}, 256);
+        if (queue instanceof MpmcRingBuffer<Long> mpmc) return mpmc.drain(x -> {}, 256);
+        int n = 0;
+        while (n < 256 && queue.poll() != null) n++;
+        return n;
+    }
+
+    private static int idle(int idle, int spin) {
+        if (idle < spin) Thread.onSpinWait();
+        else Thread.yield();
+        return idle + 1;
+    }
+}
@@ -0,0 +1,86 @@
+package Benchmarks;
+
+import Reflections.AccessorFactory;
+import Serialization.BinaryReader;
+import Serialization.BinaryWriter;
+import Serialization.CodecRegistry;
+import Serialization.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+Java serialization (ObjectOutputStream / ObjectInputStream, as in SerializationDemo and
+CustomSerialization) vs the compact binary codec (CodecRegistry) for User and Account.
+
+Each trial prints the encoded sizes once, then measures round-trip (encode + decode) time;
+add -prof gc for bytes per round trip. binaryRoundTripReusedWriter keeps one BinaryWriter per
+thread, the way a session cache would.
+
+Run:  gradle jmh -Pjmh='SerializationBenchmarks -p type=User -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmarks {
+
+    @Param({"User", "Account"})
+    String type;
+
+    private final CodecRegistry registry = CodecRegistry.withDefaults();
+    private final BinaryWriter out = new BinaryWriter();
+    private Object value;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        value = type.equals("User")
+                ? new User("divyam", 28, "123456")
+                // Account is package-private in Serialization; create it through the accessor factory
+                : AccessorFactory.of(Class.forName("Serialization.Account"))
+                        .constructor(String.class, String.class).newInstance("divyam", "mypwd");
+        System.out.printf("%n%-8s size: java=%d bytes, binary=%d bytes%n",
+                type, javaEncode(value).length, registry.encode(value).length);
+    }
+
+    @Benchmark
+    public Object javaRoundTrip() {
+        return javaDecode(javaEncode(value));
+    }
+
+    @Benchmark
+    public Object binaryRoundTrip() {
+        return registry.decode(registry.encode(value));
+    }
+
+    @Benchmark
+    public Object binaryRoundTripReusedWriter() {
+        registry.write(value, out.reset());
+        return registry.read(new BinaryReader(out.buffer(), 0, out.size()));
+    }
+
+    private static byte[] javaEncode(Object value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                oos.writeObject(value);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object javaDecode(byte[] bytes) {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package Benchmarks;
+
+import DesignPatterns.SingletonDemo;
+import DesignPatterns.SingletonVariants.DoubleCheckedSingleton;
+import DesignPatterns.SingletonVariants.EnumSingleton;
+import DesignPatterns.SingletonVariants.HolderSingleton;
+import DesignPatterns.SingletonVariants.VarHandleSingleton;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+Steady-state getInstance() cost of the thread-safe singleton variants (after initialization).
+Correctness under concurrent first access is checked separately by SingletonVariants.SingletonStressDemo.
+
+Expect holder/enum ≈ a constant (folded by the JIT), DCL volatile / VarHandle ≈ one memory load.
+On x86 the volatile and acquire loads are the same instruction; the difference shows on ARM.
+Every variant runs in its own fork, and JMH consumes the returned instance, so the load cannot
+be dropped as dead code.
+
+Run:  gradle jmh -Pjmh='SingletonBenchmarks -t 8'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingletonBenchmarks {
+
+    @Benchmark
+    public Object holder() {
+        return HolderSingleton.getInstance();
+    }
+
+    @Benchmark
+    public Object singletonDemo() {
+        return SingletonDemo.getInstance();
+    }
+
+    @Benchmark
+    public Object doubleCheckedVolatile() {
+        return DoubleCheckedSingleton.getInstance();
+    }
+
+    @Benchmark
+    public Object enumSingleton() {
+        return EnumSingleton.getInstance();
+    }
+
+    @Benchmark
+    public Object varHandleAcquireRelease() {
+        return VarHandleSingleton.getInstance();
+    }
+}
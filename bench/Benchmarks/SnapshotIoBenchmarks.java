@@ -0,0 +1,177 @@
+package Benchmarks;
+
+import Serialization.RecordFile;
+import Serialization.User;
+import Serialization.UserCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+Writing / reading a snapshot of count= users (default 1M) to one file.
+
+    javaUnbuffered   ObjectOutputStream(FileOutputStream)            — the Serialization demos' pattern
+    javaBuffered     ObjectOutputStream(BufferedOutputStream(...))
+    recordFile       RecordFile + UserCodec, buffer size from buffer= (bytes)
+
+One op = the whole snapshot. Every read row reads a file written in setup in its own format, so
+any subset of rows can run alone. Each trial also prints "write calls": calls that reach the
+FileOutputStream, i.e. write(2) syscalls. ObjectOutputStream is reset() every 1024 objects so its
+handle table does not pin all N users.
+
+Run:  gradle jmh -Pjmh='SnapshotIoBenchmarks -p count=1000000'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SnapshotIoBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Snapshot {
+        @Param({"1000000"})
+        int count;
+
+        List<User> users;
+        Path scratch;
+        Path javaSnapshot;
+
+        @Setup
+        public void setUp() throws IOException {
+            users = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                users.add(new User("user" + i, 18 + i % 60, "pwd"));
+            }
+            scratch = Files.createTempFile("snapshot", ".bin");
+            javaSnapshot = Files.createTempFile("snapshot", ".ser");
+            writeJava(new BufferedOutputStream(new FileOutputStream(javaSnapshot.toFile()), 64 * 1024), users);
+
+            // syscall proxy: one pass of each writer with a counting stream under any buffering
+            System.out.printf("%n%-40s %14s %12s %12s%n", "Writer", "write calls", "calls/record", "file bytes");
+            printWriteCalls("java.unbuffered", raw -> writeJava(raw, users));
+            printWriteCalls("java.buffered", raw -> writeJava(new BufferedOutputStream(raw, 64 * 1024), users));
+        }
+
+        void printWriteCalls(String name, StreamWriter writer) throws IOException {
+            CountingOutputStream counting = new CountingOutputStream(new FileOutputStream(scratch.toFile()));
+            writer.write(counting);
+            System.out.printf("%-40s %14d %12.4f %12d%n",
+                    name, counting.calls, (double) counting.calls / count, Files.size(scratch));
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(scratch);
+            Files.deleteIfExists(javaSnapshot);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Records {
+        @Param({"8192", "65536"})
+        int buffer;
+
+        RecordFile<User> scratch;
+        RecordFile<User> snapshot;
+        Path snapshotPath;
+
+        @Setup
+        public void setUp(Snapshot s) throws IOException {
+            s.printWriteCalls("recordFile[buffer=" + buffer + "]", raw -> {
+                try (RecordFile.Writer<User> w = RecordFile.writer(raw, new UserCodec(), buffer)) {
+                    w.writeAll(s.users);
+                }
+            });
+            scratch = new RecordFile<>(s.scratch, new UserCodec(), buffer);
+            snapshotPath = Files.createTempFile("snapshot", ".rec");
+            snapshot = new RecordFile<>(snapshotPath, new UserCodec(), buffer);
+            snapshot.writeAll(s.users);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(snapshotPath);
+        }
+    }
+
+    @FunctionalInterface
+    interface StreamWriter {
+        void write(OutputStream raw) throws IOException;
+    }
+
+    @Benchmark
+    public Object writeJavaUnbuffered(Snapshot s) throws IOException {
+        return writeJava(new FileOutputStream(s.scratch.toFile()), s.users);
+    }
+
+    @Benchmark
+    public Object writeJavaBuffered(Snapshot s) throws IOException {
+        return writeJava(new BufferedOutputStream(new FileOutputStream(s.scratch.toFile()), 64 * 1024), s.users);
+    }
+
+    @Benchmark
+    public Object readJavaBuffered(Snapshot s) throws IOException {
+        return readJava(new BufferedInputStream(new FileInputStream(s.javaSnapshot.toFile()), 64 * 1024), s.count);
+    }
+
+    @Benchmark
+    public Object writeRecordFile(Snapshot s, Records r) throws IOException {
+        r.scratch.writeAll(s.users);
+        return r.scratch;
+    }
+
+    @Benchmark
+    public long readRecordFile(Records r) throws IOException {
+        long[] ages = {0};
+        r.snapshot.forEach(u -> ages[0] += u.getAge());
+        return ages[0];
+    }
+
+    private static Object writeJava(OutputStream out, List<User> users) throws IOException {
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            int n = 0;
+            for (User u : users) {
+                oos.writeObject(u);
+                if (++n % 1024 == 0) oos.reset();
+            }
+        }
+        return users;
+    }
+
+    private static Object readJava(InputStream in, int count) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(in)) {
+            Object last = null;
+            for (int i = 0; i < count; i++) last = ois.readObject();
+            return last;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // counts write calls that reach the wrapped (file) stream
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long calls;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            calls++;
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            calls++;
+            out.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package Benchmarks;
+
+import CollectionFramework.MapInterface.CopyOnWriteSortedArrayMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+Shared sorted price book (Long price -> Long quantity) read by many threads.
+
+Each operation is either a range scan (subMap(from, from + scan) summing the quantities: "depth
+of the top scan levels") or, writes= times per 1000 operations, a put that changes one level's
+quantity. All JMH threads share one map. ops/s = scans + writes per second, all threads.
+
+    SYNCHRONIZED   Collections.synchronizedNavigableMap(new TreeMap<>()); scans hold the map's lock
+    SKIPLIST       ConcurrentSkipListMap
+    COW            CopyOnWriteSortedArrayMap: lock-free array scans, each write copies the arrays
+
+Every map= value runs in its own fork, so the depth() call site sees a single map class.
+scan runs on one thread, scanFourThreads on four; -t N for other counts.
+
+Run:  gradle jmh -Pjmh='SortedMapBenchmarks -p map=COW -p writes=0,1,10'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedMapBenchmarks {
+
+    private static final int BATCH = 64;
+
+    public enum MapKind { SYNCHRONIZED, SKIPLIST, COW }
+
+    @State(Scope.Benchmark)
+    public static class Book {
+        @Param({"1000", "100000"})
+        int size;
+
+        @Param({"SYNCHRONIZED", "SKIPLIST", "COW"})
+        MapKind map;
+
+        @Param({"0", "10"})
+        int writes;
+
+        @Param({"16"})
+        int scan;
+
+        Long[] prices;
+        NavigableMap<Long, Long> book;
+
+        @Setup
+        public void setUp() {
+            prices = new Long[size + scan]; // preboxed, so the loop does not allocate keys
+            for (int i = 0; i < prices.length; i++) prices[i] = (long) i;
+            book = create(map);
+            TreeMap<Long, Long> initial = new TreeMap<>();
+            for (int i = 0; i < size; i++) initial.put(prices[i], prices[i % 100 + 1]);
+            book.putAll(initial);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Random {
+        SplittableRandom random;
+
+        @Setup
+        public void setUp(ThreadParams thread) {
+            random = new SplittableRandom(thread.getThreadIndex() * 7919L);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long scan(Book b, Random r) {
+        return run(b, r.random);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH)
+    public long scanFourThreads(Book b, Random r) {
+        return run(b, r.random);
+    }
+
+    private static long run(Book b, SplittableRandom random) {
+        NavigableMap<Long, Long> map = b.book;
+        Long[] prices = b.prices;
+        long depth = 0;
+        for (int i = 0; i < BATCH; i++) {
+            int level = random.nextInt(b.size);
+            if (random.nextInt(1000) < b.writes) {
+                map.put(prices[level], prices[random.nextInt(100) + 1]);
+            } else if (b.map == MapKind.SYNCHRONIZED) {
+                synchronized (map) { // required to iterate a view of a synchronized map
+                    depth += depth(map, prices[level], prices[level + b.scan]);
+                }
+            } else {
+                depth += depth(map, prices[level], prices[level + b.scan]);
+            }
+        }
+        return depth;
+    }
+
+    private static NavigableMap<Long, Long> create(MapKind kind) {
+        return switch (kind) {
+            case SYNCHRONIZED -> Collections.synchronizedNavigableMap(new TreeMap<>());
+            case SKIPLIST -> new ConcurrentSkipListMap<>();
+            case COW -> new CopyOnWriteSortedArrayMap<>();
+        };
+    }
+
+    private static long depth(NavigableMap<Long, Long> map, Long from, Long to) {
+        long depth = 0;
+        for (Long quantity : map.subMap(from, true, to, false).values()) depth += quantity;
+        return depth;
+    }
+}
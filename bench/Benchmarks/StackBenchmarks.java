@@ -0,0 +1,283 @@
+package Benchmarks;
+
+import CollectionFramework.ListInterface.ArrayStack;
+import CollectionFramework.ListInterface.IntArrayStack;
+import CollectionFramework.ListInterface.LongArrayStack;
+import CollectionFramework.ListInterface.TreiberStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.Stack;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/*
+java.util.Stack vs ArrayDeque (as in ArrayDequeDemo) vs ArrayStack / IntArrayStack / LongArrayStack,
+and for shared stacks Stack vs ConcurrentLinkedDeque vs TreiberStack.
+
+    rpn*       evaluate a random postfix program of tokens= tokens (operands 0..999999, + - *),
+               one fresh evaluation per op. Operands are parsed from an int[] as an evaluator would,
+               so boxed stacks box every push (Integer cache misses)
+    pushPop*   push depth= values, then pop them all; one op = the whole round
+    shared*    four threads share one stack, each pushes BATCH values then pops BATCH; ops/s counts
+               pushes and pops (-t 1 for the uncontended cost)
+
+Stack pays a monitor per call (biased locking is gone since JDK 18, so even one thread pays a CAS).
+Every row runs in its own fork, so the stack call sites see one stack class.
+
+Run:  gradle jmh -Pjmh='StackBenchmarks.rpn'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmarks {
+
+    private static final int BATCH = 16;
+    private static final int PLUS = -1, MINUS = -2, TIMES = -3;
+    @State(Scope.Benchmark)
+    public static class Program {
+        @Param({"1024"})
+        int tokens;
+
+        int[] program;
+
+        @Setup
+        public void setUp() {
+            program = program(tokens, new SplittableRandom(9));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PushPop {
+        @Param({"16", "1024"})
+        int depth;
+
+        Integer[] boxed;
+        final Stack<Integer> stack = new Stack<>();
+        final ArrayDeque<Integer> deque = new ArrayDeque<>();
+        final ArrayStack<Integer> arrayStack = new ArrayStack<>();
+        final IntArrayStack ints = new IntArrayStack();
+        final LongArrayStack longs = new LongArrayStack();
+
+        @Setup
+        public void setUp() {
+            boxed = new Integer[depth];
+            for (int i = 0; i < depth; i++) boxed[i] = i;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final Integer[] values = new Integer[BATCH];
+        final Stack<Integer> stack = new Stack<>();
+        final ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+        final TreiberStack<Integer> treiber = new TreiberStack<>();
+
+        public Shared() {
+            for (int i = 0; i < BATCH; i++) values[i] = i;
+        }
+    }
+
+    // ----------------- rpn: one evaluation of the program -----------------
+
+    @Benchmark
+    public int rpnStack(Program p) {
+        return rpnStack(p.program);
+    }
+
+    @Benchmark
+    public int rpnArrayDeque(Program p) {
+        return rpnDeque(p.program);
+    }
+
+    @Benchmark
+    public int rpnArrayStack(Program p) {
+        return rpnArrayStack(p.program);
+    }
+
+    @Benchmark
+    public int rpnIntArrayStack(Program p) {
+        return rpnInt(p.program);
+    }
+
+    @Benchmark
+    public long rpnLongArrayStack(Program p) {
+        return rpnLong(p.program);
+    }
+
+    // ----------------- pushPop: depth pushes, then depth pops -----------------
+
+    @Benchmark
+    public long pushPopStack(PushPop s) {
+        long sum = 0;
+        for (Integer v : s.boxed) s.stack.push(v);
+        while (!s.stack.empty()) sum += s.stack.pop();
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopArrayDeque(PushPop s) {
+        long sum = 0;
+        for (Integer v : s.boxed) s.deque.push(v);
+        while (!s.deque.isEmpty()) sum += s.deque.pop();
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopArrayStack(PushPop s) {
+        long sum = 0;
+        for (Integer v : s.boxed) s.arrayStack.push(v);
+        while (!s.arrayStack.empty()) sum += s.arrayStack.pop();
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopIntArrayStack(PushPop s) {
+        long sum = 0;
+        for (int i = 0; i < s.depth; i++) s.ints.push(i);
+        while (!s.ints.empty()) sum += s.ints.pop();
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopLongArrayStack(PushPop s) {
+        long sum = 0;
+        for (int i = 0; i < s.depth; i++) s.longs.push(i);
+        while (!s.longs.empty()) sum += s.longs.pop();
+        return sum;
+    }
+
+    // ----------------- shared: every thread pops only after pushing as many, so the stack never runs dry -----------------
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(4)
+    @OperationsPerInvocation(2 * BATCH)
+    public long sharedStack(Shared s) {
+        long sum = 0;
+        for (Integer v : s.values) s.stack.push(v);
+        for (int i = 0; i < BATCH; i++) sum += s.stack.pop();
+        return sum;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(4)
+    @OperationsPerInvocation(2 * BATCH)
+    public long sharedConcurrentLinkedDeque(Shared s) {
+        long sum = 0;
+        for (Integer v : s.values) s.deque.push(v);
+        for (int i = 0; i < BATCH; i++) sum += s.deque.pop();
+        return sum;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(4)
+    @OperationsPerInvocation(2 * BATCH)
+    public long sharedTreiberStack(Shared s) {
+        long sum = 0;
+        for (Integer v : s.values) s.treiber.push(v);
+        for (int i = 0; i < BATCH; i++) sum += s.treiber.pop();
+        return sum;
+    }
+
+    // valid postfix program of ~tokens tokens: operands >= 0, operators negative, depth at most 32
+    private static int[] program(int tokens, SplittableRandom random) {
+        int[] program = new int[tokens + 2];
+        int n = 0;
+        int depth = 0;
+        while (n + depth - 1 < tokens) {
+            if (depth < 2 || (depth < 32 && random.nextBoolean())) {
+                program[n++] = random.nextInt(1_000_000);
+                depth++;
+            } else {
+                program[n++] = -1 - random.nextInt(3);
+                depth--;
+            }
+        }
+        for (; depth > 1; depth--) program[n++] = -1 - random.nextInt(3); // fold what is left
+        return Arrays.copyOf(program, n);
+    }
+
+    private static int rpnStack(int[] program) {
+        Stack<Integer> stack = new Stack<>();
+        for (int token : program) {
+            if (token >= 0) {
+                stack.push(token);
+            } else {
+                int right = stack.pop(), left = stack.pop();
+                stack.push(apply(token, left, right));
+            }
+        }
+        return stack.pop();
+    }
+
+    private static int rpnDeque(int[] program) {
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        for (int token : program) {
+            if (token >= 0) {
+                stack.push(token);
+            } else {
+                int right = stack.pop(), left = stack.pop();
+                stack.push(apply(token, left, right));
+            }
+        }
+        return stack.pop();
+    }
+
+    private static int rpnArrayStack(int[] program) {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        for (int token : program) {
+            if (token >= 0) {
+                stack.push(token);
+            } else {
+                int right = stack.pop(), left = stack.pop();
+                stack.push(apply(token, left, right));
+            }
+        }
+        return stack.pop();
+    }
+
+    private static int rpnInt(int[] program) {
+        IntArrayStack stack = new IntArrayStack();
+        for (int token : program) {
+            if (token >= 0) {
+                stack.push(token);
+            } else {
+                int right = stack.pop(), left = stack.pop();
+                stack.push(apply(token, left, right));
+            }
+        }
+        return stack.pop();
+    }
+
+    private static long rpnLong(int[] program) {
+        LongArrayStack stack = new LongArrayStack();
+        for (int token : program) {
+            if (token >= 0) {
+                stack.push(token);
+            } else {
+                long right = stack.pop(), left = stack.pop();
+                stack.push(token == PLUS ? left + right : token == MINUS ? left - right : left * right);
+            }
+        }
+        return stack.pop();
+    }
+
+    private static int apply(int operator, int left, int right) {
+        return switch (operator) {
+            case PLUS -> left + right;
+            case MINUS -> left - right;
+            case TIMES -> left * right;
+            default -> throw new IllegalArgumentException("operator " + operator);
+        };
+    }
+}
@@ -0,0 +1,218 @@
+package Benchmarks;
+
+import CollectionFramework.QueueInterface.HierarchicalTimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/*
+Connection-timeout churn: every operation moves a simulated clock forward, fires what is due, arms
+one new timeout (uniform in [timeout/2, timeout], timeout= in ms) and, with probability cancel= percent, cancels the
+timeout armed size/4 operations earlier (the request was answered). The clock step is chosen so that
+size timeouts are armed per timeout window, i.e. size timers are pending in steady state.
+
+    priorityQueue   java.util.PriorityQueue ordered by deadline; cancel = flag, skipped when polled
+    delayQueue      java.util.concurrent.DelayQueue (lock + PriorityQueue inside); cancel = flag
+    wheel           HierarchicalTimingWheel, 1 ms tick, wheel= buckets per level, 4 levels; cancel = unlink
+
+Cancelled entries stay in the two queues until their deadline because remove(Object) is an O(n) scan
+(ScheduledThreadPoolExecutor's removeOnCancel avoids that with an indexed heap, see IndexedDaryHeap).
+The wheel drops them immediately. ops/s = operations (arm + maybe cancel + advance) per second.
+
+The fork runs with a fixed 2 GB heap: a million linked Timeout nodes are slow to trace, and a small
+auto-sized heap (serial GC on 1-2 CPU machines) turns the size=1000000 rows into a full-GC benchmark.
+
+Run:  gradle jmh -Pjmh='TimingWheelBenchmarks -p size=1000000 -p cancel=90'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class TimingWheelBenchmarks {
+
+    private static final int BATCH = 64;
+
+    // queue element; getDelay reads the simulated clock so DelayQueue.poll works without real time passing
+    private static final class Timer implements Delayed {
+        final long deadline;
+        final long[] clock;
+        boolean cancelled;
+
+        Timer(long deadline, long[] clock) {
+            this.deadline = deadline;
+            this.clock = clock;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - clock[0], TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadline, ((Timer) other).deadline);
+        }
+    }
+
+    // one implementation: fire what is due at now, arm a timeout, cancel one armed earlier
+    private interface Timers {
+        void advance(long now);
+
+        Object arm(long now, long delay);
+
+        void cancel(Object handle);
+
+        long fired();
+    }
+
+    @Param({"priorityQueue", "delayQueue", "wheel"})
+    String impl;
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    @Param({"0", "90"})
+    int cancel;
+
+    @Param({"30000"})
+    int timeout;
+
+    @Param({"512"})
+    int wheel;
+
+    private final long[] clock = {0};
+    private Timers timers;
+    private long step;
+    private long timeoutNanos;
+    private Object[] armed;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private int op;
+
+    @Setup
+    public void setUp() {
+        timers = switch (impl) {
+            case "priorityQueue" -> priorityQueue(clock);
+            case "delayQueue" -> delayQueue(clock);
+            case "wheel" -> wheel(clock, wheel);
+            default -> throw new IllegalArgumentException("Unknown impl " + impl);
+        };
+        timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        step = Math.max(1, timeoutNanos / size);
+        armed = new Object[Math.max(1, size / 4)]; // armed size/4 ops ago: still pending (delay >= timeout / 2)
+        for (int i = 0; i < size; i++) one(); // fill one timeout window: steady state
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long churn() {
+        for (int i = 0; i < BATCH; i++) one();
+        return timers.fired();
+    }
+
+    private void one() {
+        long now = clock[0] += step;
+        timers.advance(now);
+        int slot = op++ % armed.length;
+        Object old = armed[slot];
+        if (old != null && random.nextInt(100) < cancel) timers.cancel(old);
+        armed[slot] = timers.arm(now, timeoutNanos / 2 + random.nextLong(timeoutNanos / 2 + 1));
+    }
+
+    private static Timers priorityQueue(long[] clock) {
+        PriorityQueue<Timer> queue = new PriorityQueue<>();
+        return new Timers() {
+            long fired;
+
+            @Override
+            public void advance(long now) {
+                Timer head;
+                while ((head = queue.peek()) != null && head.deadline <= now) {
+                    queue.poll();
+                    if (!head.cancelled) fired++;
+                }
+            }
+
+            @Override
+            public Object arm(long now, long delay) {
+                Timer timer = new Timer(now + delay, clock);
+                queue.offer(timer);
+                return timer;
+            }
+
+            @Override
+            public void cancel(Object handle) {
+                ((Timer) handle).cancelled = true;
+            }
+
+            @Override
+            public long fired() {
+                return fired;
+            }
+        };
+    }
+
+    private static Timers delayQueue(long[] clock) {
+        DelayQueue<Timer> queue = new DelayQueue<>();
+        return new Timers() {
+            long fired;
+
+            @Override
+            public void advance(long now) {
+                Timer due;
+                while ((due = queue.poll()) != null) {
+                    if (!due.cancelled) fired++;
+                }
+            }
+
+            @Override
+            public Object arm(long now, long delay) {
+                Timer timer = new Timer(now + delay, clock);
+                queue.offer(timer);
+                return timer;
+            }
+
+            @Override
+            public void cancel(Object handle) {
+                ((Timer) handle).cancelled = true;
+            }
+
+            @Override
+            public long fired() {
+                return fired;
+            }
+        };
+    }
+
+    private static Timers wheel(long[] clock, int wheelSize) {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, wheelSize, 4, () -> clock[0]);
+        long[] fired = {0};
+        Runnable task = () -> fired[0]++;
+        return new Timers() {
+            @Override
+            public void advance(long now) {
+                wheel.advanceTo(now);
+            }
+
+            @Override
+            public Object arm(long now, long delay) {
+                return wheel.schedule(task, delay, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void cancel(Object handle) {
+                ((HierarchicalTimingWheel.Timeout) handle).cancel();
+            }
+
+            @Override
+            public long fired() {
+                return fired[0];
+            }
+        };
+    }
+}
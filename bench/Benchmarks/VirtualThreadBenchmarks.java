@@ -0,0 +1,125 @@
+package Benchmarks;
+
+import CollectionFramework.MapInterface.ConcurrentHashMapDemo;
+import CollectionFramework.QueueInterface.BlockingQueueDemo;
+import jdk.jfr.consumer.RecordingStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ConcurrentHashMapDemo / BlockingQueueDemo executor workloads on virtual threads vs a fixed platform pool.
+
+    chm          readers + writers (1 in 10), ops= map operations after a simulated blocking call of io= ms
+    chmPinned    same, but writers block INSIDE computeIfAbsent (synchronized bin lock -> pinned carrier)
+    abq          producers / consumers over one ArrayBlockingQueue (ReentrantLock -> no pinning)
+
+One op = the whole run of tasks= tasks (single shot, ms). After every iteration a line is printed:
+    ops/s        completed map operations / queue items per second of wall time
+    pinned       jdk.VirtualThreadPinned JFR events (threshold 0): a virtual thread blocked while pinned
+    cpu util     process CPU time / (wall time * available processors); for VIRTUAL the carriers are a
+                 ForkJoinPool of ~availableProcessors threads, so this is roughly carrier utilization
+    peak thr     peak live platform threads during the run (virtual threads are not counted)
+
+Run:  gradle jmh -Pjmh='VirtualThreadBenchmarks -p tasks=10000,100000,1000000 -p pool=200'
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmarks {
+
+    public enum Executor { VIRTUAL, PLATFORM }
+
+    @Param({"10000", "100000"})
+    int tasks;
+
+    @Param({"VIRTUAL", "PLATFORM"})
+    Executor executor;
+
+    @Param({"200"})
+    int pool;
+
+    @Param({"1"})
+    int io;
+
+    @Param({"100"})
+    int ops;
+
+    @Param({"10"})
+    int items;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final LongAdder pinned = new LongAdder();
+    private RecordingStream jfr;
+    private long cpuBefore;
+    private long start;
+    private long completed;
+
+    @Setup(Level.Iteration)
+    public void startMonitoring() {
+        pinned.reset();
+        jfr = new RecordingStream();
+        jfr.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+        jfr.onEvent("jdk.VirtualThreadPinned", e -> pinned.increment());
+        jfr.startAsync();
+        threads.resetPeakThreadCount();
+        cpuBefore = processCpuNanos();
+        start = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printMonitoring() {
+        long wall = System.nanoTime() - start;
+        long cpu = processCpuNanos() - cpuBefore;
+        jfr.stop(); // waits until the recorded events have been delivered
+        jfr.close();
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf(Locale.ROOT, "%n    ops/s %.0f | pinned %d | cpu util %.0f%% | peak thr %d%n",
+                completed * 1e9 / wall, pinned.sum(), 100.0 * cpu / ((double) wall * cores),
+                threads.getPeakThreadCount());
+    }
+
+    @Benchmark
+    public long chm() throws InterruptedException {
+        try (ExecutorService ex = newExecutor()) {
+            return completed = ConcurrentHashMapDemo.runReadersAndWriters(ex, tasks, ops, io, false);
+        }
+    }
+
+    @Benchmark
+    public long chmPinned() throws InterruptedException {
+        try (ExecutorService ex = newExecutor()) {
+            return completed = ConcurrentHashMapDemo.runReadersAndWriters(ex, tasks, ops, io, true);
+        }
+    }
+
+    @Benchmark
+    public long abq() throws InterruptedException {
+        try (ExecutorService ex = newExecutor()) {
+            return completed = BlockingQueueDemo.runProducersAndConsumers(ex, tasks, items, 1024, io);
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        return executor == Executor.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(pool);
+    }
+
+    private static long processCpuNanos() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuTime();
+        }
+        return 0;
+    }
+}
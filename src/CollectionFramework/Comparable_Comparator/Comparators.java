@@ -0,0 +1,136 @@
+package CollectionFramework.Comparable_Comparator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/*
+Overflow-safe comparators that do not allocate or chain, for ordering-heavy code.
+
+    (a, b) -> b - a        WRONG once the difference overflows:
+                           b = Integer.MAX_VALUE, a = -1  ->  b - a = Integer.MIN_VALUE  ->  "b < a"
+                           TreeSet / PriorityQueue silently become unordered. Use Integer.compare.
+
+    Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder())
+                           correct, but every compare goes through 3 comparator objects and
+                           2 method references. LENGTH_THEN_ALPHA does the same in one method.
+
+IntComparator compares primitives, so sort(int[], IntComparator) orders an int[] by any rule
+without boxing a single element (Arrays.sort only takes a Comparator for Integer[]).
+
+For sorting many strings, sortByLengthThenAlpha computes a long key per string once
+(length in the high bits, first three chars below): most comparisons are one long compare and
+the full comparison runs only when the keys tie.
+ */
+public final class Comparators {
+
+    private Comparators() {}
+
+    // ----------------- boxed, but overflow-safe and capture-free -----------------
+    public static final Comparator<Integer> INT_ASCENDING = Comparator.naturalOrder();
+    public static final Comparator<Integer> INT_DESCENDING = (a, b) -> Integer.compare(b, a);
+    public static final Comparator<Long> LONG_DESCENDING = (a, b) -> Long.compare(b, a);
+
+    // shorter first, equal lengths alphabetically (String.compareTo)
+    public static final Comparator<String> LENGTH_THEN_ALPHA = new LengthThenAlpha();
+
+    private static final class LengthThenAlpha implements Comparator<String> {
+        @Override
+        public int compare(String a, String b) {
+            int byLength = Integer.compare(a.length(), b.length());
+            return byLength != 0 ? byLength : a.compareTo(b);
+        }
+    }
+
+    // ----------------- primitive -----------------
+    @FunctionalInterface
+    public interface IntComparator {
+        IntComparator ASCENDING = Integer::compare;
+        IntComparator DESCENDING = (a, b) -> Integer.compare(b, a);
+
+        int compare(int a, int b);
+
+        default IntComparator reversed() {
+            return (a, b) -> compare(b, a);
+        }
+
+        // for APIs that only take a Comparator (TreeSet, PriorityQueue): unboxes on every call
+        default Comparator<Integer> boxed() {
+            return (a, b) -> compare(a, b);
+        }
+    }
+
+    // stable merge sort of an int[] by any IntComparator, no boxing
+    public static void sort(int[] a, IntComparator comparator) {
+        if (comparator == IntComparator.ASCENDING) {
+            Arrays.sort(a);
+        } else if (comparator == IntComparator.DESCENDING) {
+            Arrays.sort(a);
+            reverse(a);
+        } else {
+            mergeSort(a, a.clone(), 0, a.length, comparator);
+        }
+    }
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    // sorts a[from, to) using tmp (same contents) as scratch
+    private static void mergeSort(int[] a, int[] tmp, int from, int to, IntComparator c) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int v = a[i];
+                int j = i - 1;
+                while (j >= from && c.compare(a[j], v) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = v;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, tmp, from, mid, c);
+        mergeSort(a, tmp, mid, to, c);
+        if (c.compare(a[mid - 1], a[mid]) <= 0) return; // halves already in order
+        System.arraycopy(a, from, tmp, from, to - from);
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) a[k++] = c.compare(tmp[j], tmp[i]) < 0 ? tmp[j++] : tmp[i++];
+        while (i < mid) a[k++] = tmp[i++];
+        while (j < to) a[k++] = tmp[j++];
+    }
+
+    private static void reverse(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    // ----------------- precomputed sort keys -----------------
+    // same order as LENGTH_THEN_ALPHA, in place
+    public static void sortByLengthThenAlpha(String[] a) {
+        Keyed[] keyed = new Keyed[a.length];
+        for (int i = 0; i < a.length; i++) keyed[i] = new Keyed(lengthAlphaKey(a[i]), a[i]);
+        Arrays.sort(keyed);
+        for (int i = 0; i < a.length; i++) a[i] = keyed[i].value;
+    }
+
+    // unsigned: length (16 bits) | first three chars (16 bits each), missing chars as 0.
+    // Lengths >= 0xFFFF share one key with no chars, since their real lengths may differ: they tie
+    // and fall through to the full comparison. So a key never contradicts LENGTH_THEN_ALPHA.
+    public static long lengthAlphaKey(String s) {
+        int length = s.length();
+        if (length >= 0xFFFF) return 0xFFFFL << 48;
+        long key = (long) length << 48;
+        for (int i = 0; i < 3 && i < length; i++) key |= (long) s.charAt(i) << (32 - 16 * i);
+        return key;
+    }
+
+    private record Keyed(long key, String value) implements Comparable<Keyed> {
+        @Override
+        public int compareTo(Keyed other) {
+            int byKey = Long.compareUnsigned(key, other.key);
+            return byKey != 0 ? byKey : LENGTH_THEN_ALPHA.compare(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package CollectionFramework;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/*
+A CopyOnWriteArrayList that counts its copies, for ModificationTracer.copyOnWriteList().
+
+Every successful write replaces the backing array with a fresh one; the count follows the JDK code:
+
+    add / add(i) / addIfAbsent     copy n elements into n + 1
+    set(i, x)                      copy n, unless x is the element already there (no copy then)
+    remove / remove(i)             copy n - 1 into n - 1
+    addAll / addAllAbsent          copy n into n + added (nothing when nothing is added)
+    removeAll / retainAll / removeIf   copy the survivors (nothing when nothing is removed)
+    sort / replaceAll              copy n
+    clear                          a new empty array
+
+n is read just before the write, so the counts are exact for one writer and close for several.
+addFirst / addLast / removeFirst / removeLast go through add / remove and are counted there;
+writes through subList() views and the one-time copy in the constructor are not counted.
+
+The first copy of each list, then every WRITER_SAMPLE-th, also walk the stack to charge the
+writing call site with the copies since the last sample (one StackWalker walk each).
+Serialized as a plain CopyOnWriteArrayList: the counters belong to this JVM's tracer.
+ */
+final class CopyCountingList<E> extends CopyOnWriteArrayList<E> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int WRITER_SAMPLE = 64;
+
+    private final transient ModificationTracer.CopySite site;
+    private transient int copies; // plain: a lost update only shifts the writer sampling
+
+    CopyCountingList(ModificationTracer.CopySite site) {
+        this.site = site;
+        site.registered();
+    }
+
+    CopyCountingList(Collection<? extends E> c, ModificationTracer.CopySite site) {
+        super(c);
+        this.site = site;
+        site.registered();
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new CopyOnWriteArrayList<>(this);
+    }
+
+    private void copied(int copied, int newLength) {
+        site.copied(copied, newLength);
+        int n = ++copies;
+        if (n == 1) {
+            site.writer(ModificationTracer.callerFrame(), 1);
+        } else if (n % WRITER_SAMPLE == 0) {
+            site.writer(ModificationTracer.callerFrame(), n == WRITER_SAMPLE ? WRITER_SAMPLE - 1 : WRITER_SAMPLE);
+        }
+    }
+
+    @Override
+    public boolean add(E e) {
+        int n = size();
+        boolean added = super.add(e);
+        copied(n, n + 1);
+        return added;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        int n = size();
+        super.add(index, element);
+        copied(n, n + 1);
+    }
+
+    @Override
+    public boolean addIfAbsent(E e) {
+        int n = size();
+        boolean added = super.addIfAbsent(e);
+        if (added) copied(n, n + 1);
+        return added;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        int n = size();
+        E old = super.set(index, element);
+        if (old != element) copied(n, n);
+        return old;
+    }
+
+    @Override
+    public E remove(int index) {
+        int n = size();
+        E removed = super.remove(index);
+        copied(n - 1, n - 1);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int n = size();
+        boolean removed = super.remove(o);
+        if (removed) copied(n - 1, n - 1);
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        int n = size();
+        boolean changed = super.addAll(c);
+        if (changed) copied(n, size());
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        int n = size();
+        boolean changed = super.addAll(index, c);
+        if (changed) copied(n, size());
+        return changed;
+    }
+
+    @Override
+    public int addAllAbsent(Collection<? extends E> c) {
+        int n = size();
+        int added = super.addAllAbsent(c);
+        if (added > 0) copied(n, n + added);
+        return added;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = super.removeAll(c);
+        if (changed) survivorsCopied();
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean changed = super.retainAll(c);
+        if (changed) survivorsCopied();
+        return changed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean changed = super.removeIf(filter);
+        if (changed) survivorsCopied();
+        return changed;
+    }
+
+    private void survivorsCopied() {
+        int survivors = size();
+        copied(survivors, survivors);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        int n = size();
+        super.sort(c);
+        copied(n, n);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        int n = size();
+        super.replaceAll(operator);
+        copied(n, n);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        copied(0, 0);
+    }
+}
@@ -3,6 +3,7 @@ package CollectionFramework;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 
 public class FailFastFailSafeDemo {
 
@@ -15,6 +16,12 @@ public class FailFastFailSafeDemo {
 
         System.out.println("\n=== Fail-Safe Demo (ConcurrentHashMap) ===");
         failSafeMapDemo();
+
+        System.out.println("\n=== Diagnostics: who invalidated the iterator (ModificationTracer.traced) ===");
+        tracedFailFastDemo();
+
+        System.out.println("\n=== Diagnostics: CopyOnWriteArrayList copies (ModificationTracer.copyOnWriteList) ===");
+        copyCountDemo();
     }
 
     // ----------------- FAIL-FAST -----------------
@@ -72,4 +79,57 @@ public class FailFastFailSafeDemo {
 
         System.out.println("Final map: " + map);
     }
+
+    // ----------------- DIAGNOSTICS: traced fail-fast -----------------
+    private static void tracedFailFastDemo() {
+        ModificationTracer.enable(); // or -DmodificationTracer=true; when disabled traced() returns the list itself
+        List<Integer> list = ModificationTracer.traced(new ArrayList<>(List.of(1, 2, 3)));
+
+        CountDownLatch iterating = new CountDownLatch(1);
+        CountDownLatch modified = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            try {
+                iterating.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            list.add(4); // another thread's add, long returned by the time the reader fails
+            modified.countDown();
+        }, "order-writer");
+        writer.start();
+
+        try {
+            for (Integer i : list) {
+                System.out.println("Current element: " + i);
+                if (i == 1) {
+                    iterating.countDown();
+                    modified.await();
+                }
+            }
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+            ModificationTracer.Modification cause = (ModificationTracer.Modification) e.getCause();
+            System.out.println("Modified by thread: " + cause.threadName() + " at " + cause.getStackTrace()[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ModificationTracer.disable();
+        }
+
+        System.out.println("Final list: " + list);
+    }
+
+    // ----------------- DIAGNOSTICS: copy-on-write copy count -----------------
+    private static void copyCountDemo() {
+        ModificationTracer.enable();
+        List<Integer> listeners = ModificationTracer.copyOnWriteList();
+        for (int i = 0; i < 1_000; i++) {
+            listeners.add(i); // 1000 writes = 1000 array copies, ~500k elements copied in all
+        }
+        listeners.removeIf(i -> i % 2 == 0); // one copy for the whole bulk removal
+        ModificationTracer.disable();
+
+        ModificationTracer.printCopyReport(System.out);
+    }
 }
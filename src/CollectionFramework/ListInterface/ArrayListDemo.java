@@ -74,7 +74,18 @@ public class ArrayListDemo {
             System.out.println();
         }
 
-
+        // 9. Lock-free reads without copying the whole array per write
+        // CopyOnWriteArrayList copies all n elements on each add/set; PersistentCopyOnWriteList copies
+        // only the ~32-element nodes on the path to the change and shares the rest
+        PersistentCopyOnWriteList<Object> cowList = new PersistentCopyOnWriteList<>(list);
+        Iterator<Object> snapshotIterator = cowList.iterator(); // sees the list as of now
+        cowList.add("B");
+        cowList.set(0, "Z");
+        cowList.addAll(List.of(1, 2, 3)); // a batch: one publish, no per-element copies
+        System.out.print("Snapshot iterator (no lock, no CME): ");
+        snapshotIterator.forEachRemaining(o -> System.out.print(o + " "));
+        System.out.println();
+        System.out.println("Current contents: " + cowList);
     }
 
 }
@@ -0,0 +1,146 @@
+package CollectionFramework.ListInterface;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/*
+java.util.Stack without the Vector underneath.
+
+Stack extends Vector, so every push / pop / peek is a synchronized method (a monitor enter / exit
+per call, even when one thread owns the stack), and it drags the whole List API along (add(0, x),
+remove(i), ... all break the LIFO contract). ArrayDeque is the usual replacement, but its
+push / pop / peek have the Deque names and null-handling, not Stack's:
+
+    Stack / ArrayStack      pop() / peek() on empty -> EmptyStackException, nulls allowed,
+                            search(o) -> 1-based distance from the top, toString() bottom .. top
+    ArrayDeque              pop() -> NoSuchElementException, peek() -> null, no nulls,
+                            toString() top .. bottom
+
+ArrayStack keeps Stack's method set and semantics over a plain Object[] (grows x2, popped slots
+are cleared for GC). Not thread-safe; for a shared stack see TreiberStack.
+For int / long operands use IntArrayStack / LongArrayStack: no Integer per push.
+ */
+public class ArrayStack<E> implements Iterable<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int size;
+    private int modCount;
+
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new Object[initialCapacity];
+    }
+
+    // ----------------- Stack API -----------------
+
+    public E push(E item) {
+        if (size == elements.length) grow();
+        elements[size++] = item;
+        modCount++;
+        return item;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        if (size == 0) throw new EmptyStackException();
+        E top = (E) elements[--size];
+        elements[size] = null;
+        modCount++;
+        return top;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (size == 0) throw new EmptyStackException();
+        return (E) elements[size - 1];
+    }
+
+    public boolean empty() {
+        return size == 0;
+    }
+
+    // 1-based position from the top (top = 1), -1 if absent; like Stack, compares with equals()
+    public int search(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, elements[i])) return size - i;
+        }
+        return -1;
+    }
+
+    // ----------------- collection basics -----------------
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    // bottom .. top, like Stack.toArray()
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow() {
+        if (elements.length >= Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Stack too large");
+        int capacity = elements.length == 0 ? DEFAULT_CAPACITY : elements.length << 1;
+        if (capacity < 0) capacity = Integer.MAX_VALUE - 8; // past 2^30 elements
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    // bottom .. top, like iterating a Stack; fail-fast
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (index >= size) throw new NoSuchElementException();
+                return (E) elements[index++];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size; i++) action.accept((E) elements[i]);
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[i] == this ? "(this Collection)" : elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
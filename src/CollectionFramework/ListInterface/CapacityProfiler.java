@@ -0,0 +1,236 @@
+package CollectionFramework.ListInterface;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Where do our ArrayLists / Vectors resize, and what should they be presized to?
+
+Create lists through the factories instead of new ArrayList<>() / new Vector<>():
+
+    List<Line> lines = CapacityProfiler.arrayList();
+
+    disabled (default)   returns the plain ArrayList / Vector: no wrapper, no cost
+    enabled              returns a ProfiledList, charged to its allocation site (the calling
+                         Class.method:line, found with one StackWalker walk per list)
+
+Per site it records:
+    lists            lists created
+    grows            resizes and the elements they copied (bytes allocated include ArrayList()'s
+                     lazy first array, which copies nothing)
+    peak / final     largest size each list reached, and its size when last modified
+    wasted           capacity - size at the last modification (unused slots still held)
+
+report() turns that into a presizing suggestion: the p90 peak size as initial capacity, with the
+copies that would remain (lists above p90 still grow, from a better start). Enable it in a test
+or staging run (-DcapacityProfiler=true, or enable()), take report(), then change the constructor
+calls; the factories can stay, they cost nothing once disabled again.
+
+Bytes assume 4-byte references (compressed oops, heaps below 32 GB) and a 16-byte array header.
+ */
+public final class CapacityProfiler {
+
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int MAX_SAMPLES_PER_SITE = 10_000;
+
+    private static final ConcurrentHashMap<String, Site> SITES = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = Boolean.getBoolean("capacityProfiler");
+
+    private CapacityProfiler() {}
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    // forgets every site; lists created before keep reporting into their (now detached) site
+    public static void reset() {
+        SITES.clear();
+    }
+
+    // ----------------- factories -----------------
+
+    public static <E> List<E> arrayList() {
+        if (!enabled) return new ArrayList<>();
+        return new ProfiledList<>(new ArrayList<>(), ProfiledList.Growth.ARRAY_LIST, 0, true, 0, callerSite());
+    }
+
+    public static <E> List<E> arrayList(int initialCapacity) {
+        if (!enabled) return new ArrayList<>(initialCapacity);
+        return new ProfiledList<>(new ArrayList<>(initialCapacity), ProfiledList.Growth.ARRAY_LIST,
+                initialCapacity, false, 0, callerSite());
+    }
+
+    public static <E> List<E> vector() {
+        return vector(10, 0);
+    }
+
+    public static <E> List<E> vector(int initialCapacity) {
+        return vector(initialCapacity, 0);
+    }
+
+    public static <E> List<E> vector(int initialCapacity, int capacityIncrement) {
+        if (!enabled) return new Vector<>(initialCapacity, capacityIncrement);
+        return new ProfiledList<>(new Vector<>(initialCapacity, capacityIncrement), ProfiledList.Growth.VECTOR,
+                initialCapacity, false, capacityIncrement, callerSite());
+    }
+
+    // first frame outside this class: the code that asked for the list
+    private static Site callerSite() {
+        String name = StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(CapacityProfiler.class.getName()))
+                .findFirst()
+                .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+        return SITES.computeIfAbsent(name, Site::new);
+    }
+
+    // ----------------- recording -----------------
+
+    static final class Site {
+        private final String name;
+        private final LongAdder lists = new LongAdder();
+        private final LongAdder grows = new LongAdder();
+        private final LongAdder copiedElements = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sampled = new AtomicInteger();
+
+        Site(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        // lists beyond MAX_SAMPLES_PER_SITE still count in the totals, but not in peak / final / wasted
+        Sample register(ProfiledList.Growth growth, int capacityIncrement) {
+            lists.increment();
+            Sample sample = new Sample(growth, capacityIncrement);
+            if (sampled.getAndIncrement() < MAX_SAMPLES_PER_SITE) samples.add(sample);
+            return sample;
+        }
+
+        void grown(int copied, int newCapacity) {
+            grows.increment();
+            copiedElements.add(copied);
+            allocatedBytes.add(arrayBytes(newCapacity));
+        }
+
+        void allocated(int capacity) {
+            allocatedBytes.add(arrayBytes(capacity));
+        }
+
+        void trimmed(int size) {
+            copiedElements.add(size);
+            allocatedBytes.add(arrayBytes(size));
+        }
+    }
+
+    // one list's sizes, written by its owner on every change; plain fields (no fence per add), so
+    // report() may see a list that is still being filled slightly out of date
+    static final class Sample {
+        final ProfiledList.Growth growth;
+        final int capacityIncrement;
+        int peak;
+        int size;
+        int capacity;
+
+        Sample(ProfiledList.Growth growth, int capacityIncrement) {
+            this.growth = growth;
+            this.capacityIncrement = capacityIncrement;
+        }
+
+        void update(int size, int capacity) {
+            this.size = size;
+            this.capacity = capacity;
+            if (size > peak) peak = size;
+        }
+    }
+
+    private static long arrayBytes(int length) {
+        return ARRAY_HEADER_BYTES + (long) length * REFERENCE_BYTES;
+    }
+
+    // ----------------- report -----------------
+
+    public record SiteReport(String site, long lists, long grows, long copiedBytes, long allocatedBytes,
+                             int peakP50, int peakP90, int peakMax, double meanFinalSize, long wastedBytes,
+                             int suggestedCapacity, long copiedBytesAfter) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%s lists=%d grows=%d copied=%dB allocated=%dB peak p50/p90/max=%d/%d/%d final=%.1f wasted=%dB"
+                            + " -> initialCapacity=%d (copied ~%dB)",
+                    site, lists, grows, copiedBytes, allocatedBytes, peakP50, peakP90, peakMax, meanFinalSize,
+                    wastedBytes, suggestedCapacity, copiedBytesAfter);
+        }
+    }
+
+    // one row per site, most bytes copied first
+    public static List<SiteReport> report() {
+        List<SiteReport> rows = new ArrayList<>();
+        for (Site site : SITES.values()) rows.add(report(site));
+        rows.sort(Comparator.comparingLong(SiteReport::copiedBytes).reversed());
+        return rows;
+    }
+
+    private static SiteReport report(Site site) {
+        List<Sample> samples = new ArrayList<>(site.samples);
+        int[] peaks = new int[samples.size()];
+        long finalSizes = 0;
+        long wastedSlots = 0;
+        for (int i = 0; i < peaks.length; i++) {
+            Sample sample = samples.get(i);
+            int size = sample.size;
+            peaks[i] = sample.peak;
+            finalSizes += size;
+            wastedSlots += Math.max(0, sample.capacity - size);
+        }
+        Arrays.sort(peaks);
+        int p90 = percentile(peaks, 0.90);
+
+        // copies left if every sampled list started at p90, scaled up to all lists of the site
+        long copiedAfter = 0;
+        for (Sample sample : samples) {
+            copiedAfter += ProfiledList.copiesToReach(sample.growth, sample.capacityIncrement, p90, sample.peak);
+        }
+        long lists = site.lists.sum();
+        if (!samples.isEmpty()) copiedAfter = copiedAfter * lists / samples.size();
+
+        return new SiteReport(site.name, lists, site.grows.sum(),
+                site.copiedElements.sum() * REFERENCE_BYTES, site.allocatedBytes.sum(),
+                percentile(peaks, 0.50), p90, peaks.length == 0 ? 0 : peaks[peaks.length - 1],
+                samples.isEmpty() ? 0 : (double) finalSizes / samples.size(),
+                wastedSlots * REFERENCE_BYTES, p90, copiedAfter * REFERENCE_BYTES);
+    }
+
+    private static int percentile(int[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    public static void printReport(PrintStream out) {
+        out.printf(Locale.ROOT, "%-56s %7s %7s %11s %15s %8s %10s %8s %10s%n",
+                "Site", "lists", "grows", "copied KB", "peak p50/p90/max", "final", "wasted KB", "suggest", "then KB");
+        for (SiteReport r : report()) {
+            out.printf(Locale.ROOT, "%-56s %7d %7d %11.1f %15s %8.1f %10.1f %8d %10.1f%n",
+                    r.site, r.lists, r.grows, r.copiedBytes / 1024.0,
+                    r.peakP50 + "/" + r.peakP90 + "/" + r.peakMax, r.meanFinalSize, r.wastedBytes / 1024.0,
+                    r.suggestedCapacity, r.copiedBytesAfter / 1024.0);
+        }
+    }
+}
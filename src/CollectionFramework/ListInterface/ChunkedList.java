@@ -0,0 +1,686 @@
+package CollectionFramework.ListInterface;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/*
+Chunked ("tiered" / unrolled) list: a List and a Deque for heavy inserts and removes anywhere.
+
+    ArrayList    add(i, e) shifts everything after i          O(n) copies
+    LinkedList   add(i, e) walks i nodes first                O(n) pointer chases, 24+ B Node per element
+    ChunkedList  elements in chunks of up to B slots:
+
+        chunks  [ c0 ][ c1 ][ c2 ] ...            each chunk: Object[B], start, size
+        offsets  0     |c0|  |c0|+|c1|            index of each chunk's first element
+
+    get(i)      find the chunk in offsets (interpolation, then        O(log(n / B))
+                binary search), then one array read
+    add(i, e)   shift inside one chunk (the shorter side), split it   O(B + n / B)
+                in two if full, then fix the offsets of later chunks
+    addFirst / addLast, removeFirst / removeLast                      O(1) amortized
+    iteration   array after array: as cache-friendly as ArrayList
+
+With B ~ sqrt(n) an indexed insert or remove is O(sqrt n): for 10M elements and B = 4096 that is
+~2k element moves + ~1.2k offset additions instead of ~5M moves. Offsets are fixed lazily: a change
+in chunk k only marks later offsets stale, and the next lookup past k recomputes them, so pure
+deque use never pays for them.
+
+Chunks shrinking below B / 4 are merged with a neighbour. Allows null. Not thread-safe; iterators
+are fail-fast (modCount). reversed() is a live view, as required of a List that is also a Deque.
+ */
+public final class ChunkedList<E> extends AbstractList<E> implements ListDeque<E> {
+
+    public static final int DEFAULT_CHUNK_CAPACITY = 1024;
+
+    private static final class Chunk {
+        final Object[] items;
+        int start; // elements are items[start, start + size)
+        int size;
+
+        Chunk(int capacity, int start) {
+            this.items = new Object[capacity];
+            this.start = start;
+        }
+    }
+
+    private final int chunkCapacity;
+    private Chunk[] chunks = new Chunk[8];
+    private int[] offsets = new int[8];
+    private int chunkCount;
+    private int validOffsets; // offsets[0, validOffsets) are up to date
+    private int size;
+
+    public ChunkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public ChunkedList(int chunkCapacity) {
+        if (chunkCapacity < 4) throw new IllegalArgumentException("Chunk capacity must be >= 4: " + chunkCapacity);
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public ChunkedList(Collection<? extends E> elements) {
+        this();
+        addAll(elements);
+    }
+
+    public int chunkCapacity() {
+        return chunkCapacity;
+    }
+
+    // ----------------- List -----------------
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        int k = locate(index);
+        Chunk c = chunks[k];
+        return element(c, c.start + index - offsets[k]);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int k = locate(index);
+        Chunk c = chunks[k];
+        int slot = c.start + index - offsets[k];
+        E old = element(c, slot);
+        c.items[slot] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            addLast(element);
+            return;
+        }
+        if (index == 0) {
+            addFirst(element);
+            return;
+        }
+        int k = locate(index);
+        Chunk c = chunks[k];
+        int pos = index - offsets[k];
+        if (c.size == chunkCapacity) {
+            Chunk right = split(k);
+            if (pos > c.size) {
+                c = right;
+                pos -= chunks[k].size;
+                k++;
+            }
+        }
+        insertInto(c, pos, element);
+        invalidateAfter(k);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        int k = locate(index);
+        E old = removeFrom(k, index - offsets[k]);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        validOffsets = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(false);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        for (int k = 0; k < chunkCount; k++) {
+            Chunk c = chunks[k];
+            for (int i = c.start, end = c.start + c.size; i < end; i++) action.accept(element(c, i));
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public ListDeque<E> reversed() {
+        return new ReversedView<>(this);
+    }
+
+    // ----------------- Deque -----------------
+    @Override
+    public void addFirst(E e) {
+        Chunk first = chunkCount == 0 ? null : chunks[0];
+        if (first != null && first.start == 0 && first.size < chunkCapacity) {
+            slide(first, chunkCapacity - first.size); // free slots are all on the right: move them left
+        } else if (first == null || first.start == 0) {
+            first = new Chunk(chunkCapacity, chunkCapacity); // grows to the left
+            insertChunk(0, first);
+        }
+        first.items[--first.start] = e;
+        first.size++;
+        invalidateAfter(0);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        Chunk last = chunkCount == 0 ? null : chunks[chunkCount - 1];
+        if (last != null && last.start + last.size == chunkCapacity && last.start > 0) {
+            slide(last, 0);
+        } else if (last == null || last.start + last.size == chunkCapacity) {
+            last = new Chunk(chunkCapacity, 0);
+            insertChunk(chunkCount, last);
+        }
+        last.items[last.start + last.size++] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return pollFirst();
+    }
+
+    @Override
+    public E removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return pollLast();
+    }
+
+    @Override
+    public E pollFirst() {
+        if (size == 0) return null;
+        Chunk first = chunks[0];
+        E e = element(first, first.start);
+        first.items[first.start++] = null;
+        if (--first.size == 0) removeChunk(0);
+        else invalidateAfter(0);
+        size--;
+        modCount++;
+        return e;
+    }
+
+    @Override
+    public E pollLast() {
+        if (size == 0) return null;
+        Chunk last = chunks[chunkCount - 1];
+        int slot = last.start + --last.size;
+        E e = element(last, slot);
+        last.items[slot] = null;
+        if (last.size == 0) removeChunk(chunkCount - 1);
+        size--;
+        modCount++;
+        return e;
+    }
+
+    @Override
+    public E getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return element(chunks[0], chunks[0].start);
+    }
+
+    @Override
+    public E getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        Chunk last = chunks[chunkCount - 1];
+        return element(last, last.start + last.size - 1);
+    }
+
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : getFirst();
+    }
+
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : getLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int i = indexOf(o);
+        if (i < 0) return false;
+        remove(i);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int i = lastIndexOf(o);
+        if (i < 0) return false;
+        remove(i);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new Itr(true);
+    }
+
+    // ----------------- chunks -----------------
+    @SuppressWarnings("unchecked")
+    private static <E> E element(Chunk c, int slot) {
+        return (E) c.items[slot];
+    }
+
+    // offsets of chunks after k are stale
+    private void invalidateAfter(int k) {
+        if (validOffsets > k + 1) validOffsets = k + 1;
+    }
+
+    // index of the chunk holding element index (0 <= index < size); offsets[result] is valid
+    private int locate(int index) {
+        if (validOffsets == 0) {
+            offsets[0] = 0;
+            validOffsets = 1;
+        }
+        int v = validOffsets - 1;
+        if (index >= offsets[v] + chunks[v].size) {
+            // extend the valid prefix up to the chunk that holds index
+            int offset = offsets[v] + chunks[v].size;
+            while (true) {
+                offsets[++v] = offset;
+                offset += chunks[v].size;
+                if (index < offset) break;
+            }
+            validOffsets = v + 1;
+            return v;
+        }
+        // chunks are similarly full, so interpolation usually lands on or next to the right one
+        int k = (int) ((long) index * (v + 1) / (offsets[v] + chunks[v].size));
+        for (int step = 0; step < 4; step++) {
+            if (offsets[k] > index) k--;
+            else if (k < v && offsets[k + 1] <= index) k++;
+            else return k;
+        }
+        int low = 0, high = v;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= index) low = mid;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    private void insertChunk(int k, Chunk chunk) {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            offsets = Arrays.copyOf(offsets, chunkCount * 2);
+        }
+        System.arraycopy(chunks, k, chunks, k + 1, chunkCount - k);
+        chunks[k] = chunk;
+        chunkCount++;
+        if (validOffsets > k) validOffsets = k;
+    }
+
+    private void removeChunk(int k) {
+        System.arraycopy(chunks, k + 1, chunks, k, chunkCount - k - 1);
+        chunks[--chunkCount] = null;
+        if (validOffsets > k) validOffsets = k;
+    }
+
+    // moves the elements of c to start at newStart
+    private static void slide(Chunk c, int newStart) {
+        System.arraycopy(c.items, c.start, c.items, newStart, c.size);
+        if (newStart > c.start) Arrays.fill(c.items, c.start, Math.min(newStart, c.start + c.size), null);
+        else Arrays.fill(c.items, Math.max(newStart + c.size, c.start), c.start + c.size, null);
+        c.start = newStart;
+    }
+
+    // moves the upper half of full chunk k into a new chunk k + 1
+    private Chunk split(int k) {
+        Chunk left = chunks[k];
+        int keep = left.size / 2;
+        Chunk right = new Chunk(chunkCapacity, 0);
+        right.size = left.size - keep;
+        System.arraycopy(left.items, left.start + keep, right.items, 0, right.size);
+        Arrays.fill(left.items, left.start + keep, left.start + left.size, null);
+        left.size = keep;
+        insertChunk(k + 1, right);
+        return right;
+    }
+
+    // c has a free slot; shift whichever side of pos is shorter and has room
+    private static void insertInto(Chunk c, int pos, Object e) {
+        boolean roomLeft = c.start > 0;
+        boolean roomRight = c.start + c.size < c.items.length;
+        if (roomLeft && (pos < c.size / 2 || !roomRight)) {
+            System.arraycopy(c.items, c.start, c.items, c.start - 1, pos);
+            c.start--;
+        } else if (roomRight) {
+            System.arraycopy(c.items, c.start + pos, c.items, c.start + pos + 1, c.size - pos);
+        } else { // cannot happen for size < capacity
+            throw new IllegalStateException();
+        }
+        c.items[c.start + pos] = e;
+        c.size++;
+    }
+
+    private E removeFrom(int k, int pos) {
+        Chunk c = chunks[k];
+        int slot = c.start + pos;
+        E old = element(c, slot);
+        if (pos < c.size / 2) {
+            System.arraycopy(c.items, c.start, c.items, c.start + 1, pos);
+            c.items[c.start++] = null;
+        } else {
+            System.arraycopy(c.items, slot + 1, c.items, slot, c.size - pos - 1);
+            c.items[c.start + c.size - 1] = null;
+        }
+        c.size--;
+        invalidateAfter(k);
+        if (c.size == 0) {
+            removeChunk(k);
+        } else if (c.size <= chunkCapacity / 4) {
+            mergeWithNeighbour(k);
+        }
+        return old;
+    }
+
+    // merges small chunk k with its smaller neighbour if the result stays at most half full
+    private void mergeWithNeighbour(int k) {
+        int left = k;
+        if (k > 0 && (k + 1 == chunkCount || chunks[k - 1].size <= chunks[k + 1].size)) left = k - 1;
+        if (left + 1 >= chunkCount) return;
+        Chunk a = chunks[left], b = chunks[left + 1];
+        if (a.size + b.size > chunkCapacity / 2) return;
+        if (a.start + a.size + b.size > chunkCapacity) slide(a, 0);
+        System.arraycopy(b.items, b.start, a.items, a.start + a.size, b.size);
+        a.size += b.size;
+        removeChunk(left + 1);
+        invalidateAfter(left);
+    }
+
+    // ----------------- iteration -----------------
+    // walks chunk arrays directly; after remove() the position is looked up again by index
+    private final class Itr implements Iterator<E> {
+        private final boolean descending;
+        private int next;      // index of the next element
+        private int chunk;     // chunk of next, or -1 if it must be looked up
+        private int slot;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        Itr(boolean descending) {
+            this.descending = descending;
+            this.next = descending ? size - 1 : 0;
+            this.chunk = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return descending ? next >= 0 : next < size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            if (chunk < 0) {
+                chunk = locate(next);
+                slot = chunks[chunk].start + next - offsets[chunk];
+            }
+            Chunk c = chunks[chunk];
+            E e = element(c, slot);
+            lastReturned = next;
+            if (descending) {
+                next--;
+                if (--slot < c.start && --chunk >= 0) slot = chunks[chunk].start + chunks[chunk].size - 1;
+            } else {
+                next++;
+                if (++slot == c.start + c.size) {
+                    if (++chunk < chunkCount) slot = chunks[chunk].start;
+                    else chunk = -1;
+                }
+            }
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) throw new IllegalStateException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            ChunkedList.this.remove(lastReturned);
+            if (!descending) next = lastReturned;
+            lastReturned = -1;
+            chunk = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    // ----------------- reversed view -----------------
+    private static final class ReversedView<E> extends AbstractList<E> implements ListDeque<E> {
+        private final ChunkedList<E> list;
+
+        ReversedView(ChunkedList<E> list) {
+            this.list = list;
+        }
+
+        private int mirror(int index) {
+            return list.size() - 1 - index;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size());
+            return list.get(mirror(index));
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size());
+            return list.set(mirror(index), element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            Objects.checkIndex(index, size() + 1);
+            list.add(size() - index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size());
+            return list.remove(mirror(index));
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.descendingIterator();
+        }
+
+        @Override
+        public ListDeque<E> reversed() {
+            return list;
+        }
+
+        @Override
+        public void addFirst(E e) {
+            list.addLast(e);
+        }
+
+        @Override
+        public void addLast(E e) {
+            list.addFirst(e);
+        }
+
+        @Override
+        public boolean offerFirst(E e) {
+            return list.offerLast(e);
+        }
+
+        @Override
+        public boolean offerLast(E e) {
+            return list.offerFirst(e);
+        }
+
+        @Override
+        public E removeFirst() {
+            return list.removeLast();
+        }
+
+        @Override
+        public E removeLast() {
+            return list.removeFirst();
+        }
+
+        @Override
+        public E pollFirst() {
+            return list.pollLast();
+        }
+
+        @Override
+        public E pollLast() {
+            return list.pollFirst();
+        }
+
+        @Override
+        public E getFirst() {
+            return list.getLast();
+        }
+
+        @Override
+        public E getLast() {
+            return list.getFirst();
+        }
+
+        @Override
+        public E peekFirst() {
+            return list.peekLast();
+        }
+
+        @Override
+        public E peekLast() {
+            return list.peekFirst();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object o) {
+            return list.removeLastOccurrence(o);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            return list.removeFirstOccurrence(o);
+        }
+
+        @Override
+        public boolean offer(E e) {
+            return offerLast(e);
+        }
+
+        @Override
+        public E remove() {
+            return removeFirst();
+        }
+
+        @Override
+        public E poll() {
+            return pollFirst();
+        }
+
+        @Override
+        public E element() {
+            return getFirst();
+        }
+
+        @Override
+        public E peek() {
+            return peekFirst();
+        }
+
+        @Override
+        public void push(E e) {
+            addFirst(e);
+        }
+
+        @Override
+        public E pop() {
+            return removeFirst();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return list.iterator();
+        }
+    }
+}
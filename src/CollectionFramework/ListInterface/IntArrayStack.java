@@ -0,0 +1,88 @@
+package CollectionFramework.ListInterface;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/*
+ArrayStack for int values: an int[] and a size, 4 bytes per element and no Integer per push.
+
+An operand stack (expression evaluation, bytecode-style interpreters, DFS over int ids) pushes and
+pops far more values than the Integer cache (-128..127) covers, so Stack<Integer> / ArrayDeque<Integer>
+allocate a box for most pushes and unbox on every pop. Same method names and empty-stack behaviour
+as java.util.Stack; search() takes the value itself. Not thread-safe.
+ */
+public class IntArrayStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArrayStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    public int push(int value) {
+        if (size == elements.length) grow();
+        elements[size++] = value;
+        return value;
+    }
+
+    public int pop() {
+        if (size == 0) throw new EmptyStackException();
+        return elements[--size];
+    }
+
+    public int peek() {
+        if (size == 0) throw new EmptyStackException();
+        return elements[size - 1];
+    }
+
+    public boolean empty() {
+        return size == 0;
+    }
+
+    // 1-based position from the top (top = 1), -1 if absent
+    public int search(int value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == value) return size - i;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // bottom .. top
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow() {
+        if (elements.length >= Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Stack too large");
+        int capacity = elements.length == 0 ? DEFAULT_CAPACITY : elements.length << 1;
+        if (capacity < 0) capacity = Integer.MAX_VALUE - 8;
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
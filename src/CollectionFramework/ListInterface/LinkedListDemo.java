@@ -45,5 +45,17 @@ public class LinkedListDemo {
         System.out.println("list instanceof Serializable : " + (list instanceof Serializable));
         System.out.println("list instanceof Cloneable    : " + (list instanceof Cloneable));
         System.out.println("list instanceof RandomAccess : " + (list instanceof java.util.RandomAccess));
+
+        // 6. The same List + Deque calls on ChunkedList: add(i, ...) does not walk nodes, it finds
+        //    the chunk by binary search and shifts at most one chunk (ChunkedList javadoc)
+        ChunkedList<Object> chunked = new ChunkedList<>(4); // tiny chunks so 6 elements already span 2+
+        chunked.addAll(List.of("ashok", 30, "ashok"));
+        chunked.add(1, "MIDDLE");
+        chunked.remove(2);
+        chunked.addFirst("FIRST");
+        chunked.addLast("LAST");
+        System.out.println("ChunkedList after the same calls: " + chunked);
+        System.out.println("pollFirst(): " + chunked.pollFirst() + ", pollLast(): " + chunked.pollLast());
+        System.out.println("reversed(): " + chunked.reversed());
     }
 }
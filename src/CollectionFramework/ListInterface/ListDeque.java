@@ -0,0 +1,34 @@
+package CollectionFramework.ListInterface;
+
+import java.util.Deque;
+import java.util.List;
+
+/*
+A List that is also a Deque (like LinkedList or ChunkedList).
+
+Since Java 21 both interfaces declare reversed() and the first / last methods (SequencedCollection),
+List with default bodies and Deque without: a type implementing both has to settle them here.
+ */
+public interface ListDeque<E> extends List<E>, Deque<E> {
+
+    @Override
+    ListDeque<E> reversed();
+
+    @Override
+    void addFirst(E e);
+
+    @Override
+    void addLast(E e);
+
+    @Override
+    E getFirst();
+
+    @Override
+    E getLast();
+
+    @Override
+    E removeFirst();
+
+    @Override
+    E removeLast();
+}
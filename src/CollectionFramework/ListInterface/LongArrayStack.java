@@ -0,0 +1,84 @@
+package CollectionFramework.ListInterface;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/*
+IntArrayStack for long values (64-bit operands, timestamps, packed pairs): a long[] and a size.
+Same method names and empty-stack behaviour as java.util.Stack. Not thread-safe.
+ */
+public class LongArrayStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongArrayStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new long[initialCapacity];
+    }
+
+    public long push(long value) {
+        if (size == elements.length) grow();
+        elements[size++] = value;
+        return value;
+    }
+
+    public long pop() {
+        if (size == 0) throw new EmptyStackException();
+        return elements[--size];
+    }
+
+    public long peek() {
+        if (size == 0) throw new EmptyStackException();
+        return elements[size - 1];
+    }
+
+    public boolean empty() {
+        return size == 0;
+    }
+
+    // 1-based position from the top (top = 1), -1 if absent
+    public int search(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == value) return size - i;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // bottom .. top
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow() {
+        if (elements.length >= Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Stack too large");
+        int capacity = elements.length == 0 ? DEFAULT_CAPACITY : elements.length << 1;
+        if (capacity < 0) capacity = Integer.MAX_VALUE - 8;
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
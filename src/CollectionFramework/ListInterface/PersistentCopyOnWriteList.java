@@ -0,0 +1,609 @@
+package CollectionFramework.ListInterface;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/*
+Thread-safe list with CopyOnWriteArrayList's read side (no locks, snapshot iterators that never throw
+ConcurrentModificationException) but without its O(n) array copy on every write.
+
+The contents are an immutable 32-way trie (the layout of Clojure's PersistentVector / Scala's Vector):
+
+    volatile Snapshot { size; shift; Object[] root; Object[] tail; }
+
+    leaves      32 elements each, internal nodes 32 children; depth = log32(n) (4 levels hold 1M)
+    tail        the last 1..32 elements outside the trie, so appends rarely touch it
+
+    get(i) / size / iterator / forEach    read ONE snapshot: no lock, no CAS, never sees a half-applied write
+    add(e) / set(i, e) / removeLast()     under a lock: copy the tail, or the O(log32 n) nodes on the
+                                          path to i, and publish a new snapshot with one volatile write.
+                                          Everything else is shared with the previous snapshot.
+    addAll(c)                             batched: builds into nodes that nobody can see yet, mutating
+                                          them in place, then publishes ONCE (no per-element copies)
+    add(i, e) / remove(i) in the middle,  rebuild the trie, O(n) like CopyOnWriteArrayList; batch them
+    removeIf / sort / replaceAll          with removeIf / replaceAll where possible
+
+Compared with the alternatives, per write of one element into n:
+    Vector, Collections.synchronizedList   O(1), but every read takes the same lock, and iteration must
+                                           hold it for the whole loop (or risk ConcurrentModificationException)
+    CopyOnWriteArrayList                   lock-free reads, O(n) copy per write
+    PersistentCopyOnWriteList              lock-free reads, O(log32 n) copy per write (~32 * depth references);
+                                           get() follows depth pointers instead of one array load
+
+iterator(), listIterator(), subList() and snapshot() see the contents at the time of the call and are
+read-only; writes through them throw UnsupportedOperationException. Null elements are allowed.
+ */
+public class PersistentCopyOnWriteList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_ROOT = new Object[WIDTH];
+    private static final Snapshot<?> EMPTY = new Snapshot<>(0, BITS, EMPTY_ROOT, new Object[0]);
+
+    private final Object lock = new Object();
+    private volatile Snapshot<E> snapshot;
+
+    public PersistentCopyOnWriteList() {
+        this.snapshot = empty();
+    }
+
+    public PersistentCopyOnWriteList(Collection<? extends E> c) {
+        Builder<E> builder = new Builder<>(empty());
+        for (E e : c) builder.add(e);
+        this.snapshot = builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Snapshot<E> empty() {
+        return (Snapshot<E>) EMPTY;
+    }
+
+    // the current contents as an immutable List; later writes to this list do not show up in it
+    public List<E> snapshot() {
+        return snapshot;
+    }
+
+    // ----------------- reads (current snapshot, no lock) -----------------
+
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    @Override
+    public E get(int index) {
+        return snapshot.get(index);
+    }
+
+    // List's defaults read size() and then get(): two snapshots, which can race with a remove
+    @Override
+    public E getFirst() {
+        Snapshot<E> current = snapshot;
+        if (current.size == 0) throw new NoSuchElementException();
+        return current.get(0);
+    }
+
+    @Override
+    public E getLast() {
+        Snapshot<E> current = snapshot;
+        if (current.size == 0) throw new NoSuchElementException();
+        return current.get(current.size - 1);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot.iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return snapshot.listIterator(index);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return snapshot.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        snapshot.forEach(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return snapshot.toArray(a);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return snapshot.indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return snapshot.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return snapshot.lastIndexOf(o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || snapshot.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return snapshot.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return snapshot.toString();
+    }
+
+    // ----------------- writes (path copy under the lock) -----------------
+
+    @Override
+    public boolean add(E e) {
+        synchronized (lock) {
+            snapshot = snapshot.append(e);
+        }
+        return true;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        synchronized (lock) {
+            Snapshot<E> current = snapshot;
+            E old = current.get(index);
+            snapshot = current.with(index, element);
+            return old;
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            Snapshot<E> current = snapshot;
+            checkPositionIndex(index, current.size);
+            if (index == current.size) {
+                snapshot = current.append(element);
+                return;
+            }
+            Object[] elements = current.toArray();
+            Builder<E> builder = new Builder<>(empty());
+            builder.addAll(elements, 0, index);
+            builder.add(element);
+            builder.addAll(elements, index, elements.length);
+            snapshot = builder.build();
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        synchronized (lock) {
+            Snapshot<E> current = snapshot;
+            E old = current.get(index);
+            if (index == current.size - 1) {
+                snapshot = current.pop();
+                return old;
+            }
+            Object[] elements = current.toArray();
+            Builder<E> builder = new Builder<>(empty());
+            builder.addAll(elements, 0, index);
+            builder.addAll(elements, index + 1, elements.length);
+            snapshot = builder.build();
+            return old;
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        synchronized (lock) {
+            if (snapshot.size == 0) throw new NoSuchElementException();
+            return remove(0);
+        }
+    }
+
+    @Override
+    public E removeLast() {
+        synchronized (lock) {
+            Snapshot<E> current = snapshot;
+            if (current.size == 0) throw new NoSuchElementException();
+            snapshot = current.pop();
+            return current.get(current.size - 1);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        synchronized (lock) {
+            int index = snapshot.indexOf(o);
+            if (index < 0) return false;
+            remove(index);
+            return true;
+        }
+    }
+
+    // one publish for the whole batch, however large
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        if (elements.length == 0) return false;
+        synchronized (lock) {
+            Builder<E> builder = new Builder<>(snapshot);
+            builder.addAll(elements, 0, elements.length);
+            snapshot = builder.build();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Object[] added = c.toArray();
+        synchronized (lock) {
+            Snapshot<E> current = snapshot;
+            checkPositionIndex(index, current.size);
+            if (added.length == 0) return false;
+            Builder<E> builder;
+            if (index == current.size) {
+                builder = new Builder<>(current);
+                builder.addAll(added, 0, added.length);
+            } else {
+                Object[] elements = current.toArray();
+                builder = new Builder<>(empty());
+                builder.addAll(elements, 0, index);
+                builder.addAll(added, 0, added.length);
+                builder.addAll(elements, index, elements.length);
+            }
+            snapshot = builder.build();
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        synchronized (lock) {
+            Snapshot<E> current = snapshot;
+            Builder<E> builder = new Builder<>(empty());
+            for (E e : current) {
+                if (!filter.test(e)) builder.add(e);
+            }
+            if (builder.size == current.size) return false;
+            snapshot = builder.build();
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        synchronized (lock) {
+            Builder<E> builder = new Builder<>(empty());
+            for (E e : snapshot) builder.add(operator.apply(e));
+            snapshot = builder.build();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        synchronized (lock) {
+            Object[] elements = snapshot.toArray();
+            Arrays.sort(elements, (Comparator<Object>) c);
+            Builder<E> builder = new Builder<>(empty());
+            builder.addAll(elements, 0, elements.length);
+            snapshot = builder.build();
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            snapshot = empty();
+        }
+    }
+
+    private static void checkPositionIndex(int index, int size) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // ----------------- trie -----------------
+
+    // nodes are plain Object[WIDTH] (one load per level): internal nodes hold nodes, leaves hold elements
+
+    // first index held in the tail
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    // a chain of single-child nodes from level down to the leaf
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) return leaf;
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static final class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        final int size;
+        final int shift; // level of the root: BITS * (depth - 1)
+        final Object[] root;
+        final Object[] tail; // exactly size - tailOffset(size) elements
+
+        Snapshot(int size, int shift, Object[] root, Object[] tail) {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        // the leaf (or tail) holding index
+        Object[] arrayFor(int index) {
+            if (index >= tailOffset(size)) return tail;
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(index >>> level) & MASK];
+            }
+            return node;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) arrayFor(index)[index & MASK];
+        }
+
+        Snapshot<E> append(E e) {
+            int inTail = size - tailOffset(size);
+            if (inTail < WIDTH) {
+                Object[] newTail = Arrays.copyOf(tail, inTail + 1);
+                newTail[inTail] = e;
+                return new Snapshot<>(size + 1, shift, root, newTail);
+            }
+            Object[] newRoot;
+            int newShift = shift;
+            if ((size >>> BITS) > (1 << shift)) { // root is full: grow a level
+                newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                newRoot[1] = newPath(shift, tail);
+                newShift += BITS;
+            } else {
+                newRoot = pushTail(shift, root, tail);
+            }
+            return new Snapshot<>(size + 1, newShift, newRoot, new Object[]{e});
+        }
+
+        // copy of parent with leaf hung at the position of index size - 1
+        private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+            int slot = ((size - 1) >>> level) & MASK;
+            Object[] copy = parent.clone();
+            if (level == BITS) {
+                copy[slot] = leaf;
+            } else {
+                Object[] child = (Object[]) parent[slot];
+                copy[slot] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+            }
+            return copy;
+        }
+
+        Snapshot<E> with(int index, E e) {
+            Objects.checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                Object[] newTail = tail.clone();
+                newTail[index & MASK] = e;
+                return new Snapshot<>(size, shift, root, newTail);
+            }
+            return new Snapshot<>(size, shift, with(shift, root, index, e), tail);
+        }
+
+        private static Object[] with(int level, Object[] node, int index, Object e) {
+            Object[] copy = node.clone();
+            if (level == 0) {
+                copy[index & MASK] = e;
+            } else {
+                int slot = (index >>> level) & MASK;
+                copy[slot] = with(level - BITS, (Object[]) node[slot], index, e);
+            }
+            return copy;
+        }
+
+        Snapshot<E> pop() {
+            if (size == 1) return empty();
+            if (size - tailOffset(size) > 1) {
+                return new Snapshot<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+            }
+            // the tail empties: the last leaf of the trie becomes the tail
+            Object[] newTail = arrayFor(size - 2);
+            Object[] newRoot = popTail(shift, root);
+            int newShift = shift;
+            if (newRoot == null) newRoot = EMPTY_ROOT;
+            if (shift > BITS && newRoot[1] == null) { // one child left: drop a level
+                newRoot = (Object[]) newRoot[0];
+                newShift -= BITS;
+            }
+            return new Snapshot<>(size - 1, newShift, newRoot, newTail);
+        }
+
+        // copy of node without its last leaf; null when nothing is left under it
+        private Object[] popTail(int level, Object[] node) {
+            int slot = ((size - 2) >>> level) & MASK;
+            if (level > BITS) {
+                Object[] child = popTail(level - BITS, (Object[]) node[slot]);
+                if (child == null && slot == 0) return null;
+                Object[] copy = node.clone();
+                copy[slot] = child;
+                return copy;
+            }
+            if (slot == 0) return null;
+            Object[] copy = node.clone();
+            copy[slot] = null;
+            return copy;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            for (int base = 0; base < size; base += WIDTH) {
+                Object[] leaf = arrayFor(base);
+                int n = Math.min(WIDTH, size - base);
+                for (int i = 0; i < n; i++) action.accept((E) leaf[i]);
+            }
+        }
+
+        @Override
+        public Object[] toArray() {
+            Object[] out = new Object[size];
+            for (int base = 0; base < size; base += WIDTH) {
+                System.arraycopy(arrayFor(base), 0, out, base, Math.min(WIDTH, size - base));
+            }
+            return out;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Itr();
+        }
+
+        // walks leaf by leaf: one trie descent per 32 elements
+        private final class Itr implements Iterator<E> {
+            private int index;
+            private int leafEnd; // index at which leaf runs out
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                int i = index;
+                if (i >= leafEnd) {
+                    if (i >= size) throw new NoSuchElementException();
+                    leaf = arrayFor(i);
+                    leafEnd = i + WIDTH;
+                }
+                index = i + 1;
+                return (E) leaf[i & MASK];
+            }
+        }
+    }
+
+    // ----------------- batched writes -----------------
+
+    /*
+    Appends without copying: internal nodes this builder created (or copied once) are remembered in
+    `owned` and mutated in place; the tail is a full-width array filled in place and hung into the trie
+    as a leaf once full. Nothing is visible to readers until build() returns the snapshot, which is then
+    published with one volatile write.
+     */
+    private static final class Builder<E> {
+        private Set<Object[]> owned; // created with the first leaf: small batches only fill the tail
+        int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail;
+
+        Builder(Snapshot<E> from) {
+            this.size = from.size;
+            this.shift = from.shift;
+            this.root = from.root;
+            this.tail = Arrays.copyOf(from.tail, WIDTH);
+        }
+
+        void addAll(Object[] elements, int from, int to) {
+            for (int i = from; i < to; i++) add(elements[i]);
+        }
+
+        void add(Object e) {
+            int inTail = size - tailOffset(size);
+            if (inTail < WIDTH) {
+                tail[inTail] = e;
+                size++;
+                return;
+            }
+            Object[] leaf = tail;
+            tail = new Object[WIDTH];
+            tail[0] = e;
+            if ((size >>> BITS) > (1 << shift)) {
+                Object[] newRoot = own(new Object[WIDTH]);
+                newRoot[0] = root;
+                newRoot[1] = ownedPath(shift, leaf);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, leaf);
+            }
+            size++;
+        }
+
+        private Object[] own(Object[] node) {
+            if (owned == null) owned = Collections.newSetFromMap(new IdentityHashMap<>());
+            owned.add(node);
+            return node;
+        }
+
+        private Object[] ownedPath(int level, Object[] leaf) {
+            if (level == 0) return leaf;
+            Object[] node = own(new Object[WIDTH]);
+            node[0] = ownedPath(level - BITS, leaf);
+            return node;
+        }
+
+        // once per WIDTH appends, so the identity lookups stay off the per-element path
+        private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+            Object[] node = owned != null && owned.contains(parent) ? parent : own(parent.clone());
+            int slot = ((size - 1) >>> level) & MASK;
+            if (level == BITS) {
+                node[slot] = leaf;
+            } else {
+                Object[] child = (Object[]) node[slot];
+                node[slot] = child != null ? pushTail(level - BITS, child, leaf) : ownedPath(level - BITS, leaf);
+            }
+            return node;
+        }
+
+        // the builder must not be used afterwards: the snapshot shares its nodes
+        Snapshot<E> build() {
+            if (size == 0) return empty();
+            return new Snapshot<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+    }
+}
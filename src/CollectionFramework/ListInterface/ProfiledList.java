@@ -0,0 +1,217 @@
+package CollectionFramework.ListInterface;
+
+import java.util.*;
+
+/*
+ArrayList / Vector wrapper that tracks the backing array's capacity and reports every resize to the
+CapacityProfiler site it was created at. Create it through CapacityProfiler.arrayList() / vector().
+
+The JDK does not expose ArrayList's capacity (and reading elementData needs --add-opens), so the
+wrapper replays the JDK's growth rule on each size change instead:
+
+    ArrayList()          capacity 0, first add allocates max(10, needed) without copying
+    ArrayList(n)         capacity n
+    grow (ArrayList)     old + max(needed - old, old / 2)          copies old elements
+    Vector(n, inc)       capacity n
+    grow (Vector)        old + max(needed - old, inc > 0 ? inc : old)
+
+addAll grows once to the size it needs, like the real lists. Every call still goes to the real list,
+so behaviour is unchanged; iterators and subList are AbstractList's, built on get / add / remove, so
+adds made through them are counted too.
+
+Not thread-safe, like ArrayList. A wrapped Vector stays safe to share (each call is still one
+synchronized Vector call), but the counters of a Vector written by many threads are approximate.
+ */
+public class ProfiledList<E> extends AbstractList<E> implements RandomAccess {
+
+    enum Growth { ARRAY_LIST, VECTOR }
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final List<E> delegate;
+    private final Growth growth;
+    private final int capacityIncrement;
+    private final CapacityProfiler.Site site;
+    private final CapacityProfiler.Sample sample;
+    private int capacity;
+    private boolean defaultEmpty; // ArrayList() before its first allocation
+
+    ProfiledList(List<E> delegate, Growth growth, int initialCapacity, boolean defaultEmpty, int capacityIncrement,
+                 CapacityProfiler.Site site) {
+        this.delegate = delegate;
+        this.growth = growth;
+        this.capacity = initialCapacity;
+        this.defaultEmpty = defaultEmpty;
+        this.capacityIncrement = capacityIncrement;
+        this.site = site;
+        this.sample = site.register(growth, capacityIncrement);
+    }
+
+    // capacity of the real list's backing array, as the JDK's growth rule computes it
+    public int capacity() {
+        return capacity;
+    }
+
+    public String site() {
+        return site.name();
+    }
+
+    // ----------------- reads -----------------
+
+    @Override
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return delegate.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return delegate.lastIndexOf(o);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return delegate.toArray(a);
+    }
+
+    // ----------------- writes -----------------
+
+    @Override
+    public E set(int index, E element) {
+        return delegate.set(index, element);
+    }
+
+    @Override
+    public boolean add(E e) {
+        delegate.add(e);
+        modCount++;
+        sized();
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate.add(index, element);
+        modCount++;
+        sized();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        boolean changed = delegate.addAll(c);
+        if (changed) {
+            modCount++;
+            sized();
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        boolean changed = delegate.addAll(index, c);
+        if (changed) {
+            modCount++;
+            sized();
+        }
+        return changed;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = delegate.remove(index);
+        modCount++;
+        sized();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        modCount++;
+        sized();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        delegate.subList(fromIndex, toIndex).clear();
+        modCount++;
+        sized();
+    }
+
+    // ArrayList.ensureCapacity / Vector.ensureCapacity
+    public void ensureCapacity(int minCapacity) {
+        if (delegate instanceof ArrayList<E> list) {
+            list.ensureCapacity(minCapacity);
+            if (minCapacity > capacity && !(defaultEmpty && minCapacity <= DEFAULT_CAPACITY)) grow(minCapacity);
+        } else {
+            ((Vector<E>) delegate).ensureCapacity(minCapacity);
+            if (minCapacity > capacity) grow(minCapacity);
+        }
+    }
+
+    // ArrayList.trimToSize / Vector.trimToSize: one more copy, of size elements
+    public void trimToSize() {
+        int size = delegate.size();
+        if (delegate instanceof ArrayList<E> list) list.trimToSize();
+        else ((Vector<E>) delegate).trimToSize();
+        if (size < capacity) {
+            site.trimmed(size);
+            capacity = size;
+            defaultEmpty = false;
+        }
+        sample.update(size, capacity);
+    }
+
+    // ----------------- growth model -----------------
+
+    // elements copied by new ArrayList<>(initialCapacity) / new Vector<>(initialCapacity, increment)
+    // growing one add at a time until its size reaches peak
+    static long copiesToReach(Growth growth, int capacityIncrement, int initialCapacity, int peak) {
+        long copied = 0;
+        int capacity = initialCapacity;
+        while (capacity < peak) {
+            copied += capacity;
+            int preferred = growth == Growth.ARRAY_LIST ? capacity >> 1 : (capacityIncrement > 0 ? capacityIncrement : capacity);
+            capacity += Math.max(1, preferred);
+        }
+        return copied;
+    }
+
+    private void sized() {
+        int size = delegate.size();
+        if (size > capacity) grow(size);
+        sample.update(size, capacity);
+    }
+
+    private void grow(int minCapacity) {
+        int old = capacity;
+        if (defaultEmpty) { // first allocation of ArrayList(): not a resize, nothing to copy
+            capacity = Math.max(DEFAULT_CAPACITY, minCapacity);
+            defaultEmpty = false;
+            site.allocated(capacity);
+            return;
+        }
+        int preferred = growth == Growth.ARRAY_LIST ? old >> 1 : (capacityIncrement > 0 ? capacityIncrement : old);
+        capacity = old + Math.max(minCapacity - old, preferred);
+        site.grown(old, capacity);
+    }
+}
@@ -29,6 +29,44 @@ public class StackDemo {
         System.out.println("search(\"D\"): " + stack.search("D")); // 1
         System.out.println("search(\"A\"): " + stack.search("A")); // 3
         System.out.println("search(\"X\"): " + stack.search("X")); // -1 (not found)
+
+        // 6. Same API without Vector's locks: ArrayStack
+        ArrayStack<String> arrayStack = new ArrayStack<>();
+        arrayStack.push("A");
+        arrayStack.push("B");
+        arrayStack.push("D");
+        System.out.println("ArrayStack: " + arrayStack + " peek(): " + arrayStack.peek()
+                + " search(\"A\"): " + arrayStack.search("A")); // [A, B, D] D 3
+
+        // 7. Primitive operand stack: evaluate "3 4 + 5 *" (RPN) with no Integer boxes
+        IntArrayStack operands = new IntArrayStack();
+        for (String token : "3 4 + 5 *".split(" ")) {
+            switch (token) {
+                case "+" -> operands.push(operands.pop() + operands.pop());
+                case "*" -> operands.push(operands.pop() * operands.pop());
+                default -> operands.push(Integer.parseInt(token));
+            }
+        }
+        System.out.println("3 4 + 5 * = " + operands.pop()); // 35
+
+        // 8. Shared between threads without a lock: TreiberStack (CAS on the head)
+        TreiberStack<Integer> shared = new TreiberStack<>();
+        Thread[] pushers = new Thread[4];
+        for (int t = 0; t < pushers.length; t++) {
+            int id = t;
+            pushers[t] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) shared.push(id);
+            });
+            pushers[t].start();
+        }
+        for (Thread pusher : pushers) {
+            try {
+                pusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.println("TreiberStack size after 4 x 1000 concurrent pushes: " + shared.size()); // 4000
     }
 }
 
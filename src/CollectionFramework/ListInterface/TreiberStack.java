@@ -0,0 +1,114 @@
+package CollectionFramework.ListInterface;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+Lock-free stack for many threads (R. K. Treiber's stack): a linked list whose head moves by CAS.
+
+    push(x)   node = {x, next = head}; CAS head: next -> node; retry if another thread won
+    pop()     top = head; CAS head: top -> top.next; retry if another thread won
+
+Nodes are never reused, so the ABA problem of a C implementation cannot happen: the GC keeps a node
+alive while any thread still holds it. Threads never block each other, but they all CAS the same
+head, so under heavy contention it scales no better than a lock; it wins on not parking threads
+and on uncontended push / pop without a monitor.
+
+Same method names and empty-stack behaviour as java.util.Stack. size(), search() and the iterator
+walk a snapshot of the chain from the current head (weakly consistent, O(n)).
+Null elements are allowed.
+ */
+public class TreiberStack<E> implements Iterable<E> {
+
+    private static final class Node<E> {
+        final E item;
+        final Node<E> next;
+
+        Node(E item, Node<E> next) {
+            this.item = item;
+            this.next = next;
+        }
+    }
+
+    private final AtomicReference<Node<E>> head = new AtomicReference<>();
+
+    public E push(E item) {
+        Node<E> top;
+        Node<E> node;
+        do {
+            top = head.get();
+            node = new Node<>(item, top);
+        } while (!head.compareAndSet(top, node));
+        return item;
+    }
+
+    public E pop() {
+        Node<E> top;
+        do {
+            top = head.get();
+            if (top == null) throw new EmptyStackException();
+        } while (!head.compareAndSet(top, top.next));
+        return top.item;
+    }
+
+    public E peek() {
+        Node<E> top = head.get();
+        if (top == null) throw new EmptyStackException();
+        return top.item;
+    }
+
+    public boolean empty() {
+        return head.get() == null;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    // 1-based position from the top (top = 1), -1 if absent
+    public int search(Object o) {
+        int position = 1;
+        for (Node<E> node = head.get(); node != null; node = node.next, position++) {
+            if (Objects.equals(o, node.item)) return position;
+        }
+        return -1;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Node<E> node = head.get(); node != null; node = node.next) size++;
+        return size;
+    }
+
+    public void clear() {
+        head.set(null);
+    }
+
+    // top .. bottom (the order of the chain)
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Node<E> next = head.get();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (next == null) throw new NoSuchElementException();
+                E item = next.item;
+                next = next.next;
+                return item;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (E e : this) joiner.add(String.valueOf(e));
+        return joiner.toString();
+    }
+}
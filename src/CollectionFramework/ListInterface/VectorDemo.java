@@ -2,6 +2,7 @@ package CollectionFramework.ListInterface;
 
 import java.io.Serializable;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.RandomAccess;
 import java.util.Vector;
 
@@ -52,5 +53,21 @@ public class VectorDemo {
         System.out.println("v instanceof RandomAccess : " + (v instanceof RandomAccess));
 
         // Note: All Vector methods are synchronized → thread-safe but slower.
+
+        // 6. How often do real lists grow? (CapacityProfiler, enabled for this run only)
+        CapacityProfiler.enable();
+        for (int order = 0; order < 1_000; order++) {
+            List<Integer> lines = CapacityProfiler.arrayList();        // default: grows 10 -> 15 -> 22 -> 33 -> 49
+            List<Integer> history = CapacityProfiler.vector();         // default: doubles 10 -> 20 -> 40
+            List<Integer> presized = CapacityProfiler.arrayList(48);   // sized from a previous report: no grows
+            for (int i = 0; i < 40 + order % 8; i++) {
+                lines.add(i);
+                history.add(i);
+                presized.add(i);
+            }
+        }
+        CapacityProfiler.printReport(System.out);
+        CapacityProfiler.disable();
+        System.out.println("Disabled again -> plain list: " + CapacityProfiler.arrayList().getClass().getSimpleName());
     }
 }
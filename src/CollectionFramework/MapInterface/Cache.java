@@ -0,0 +1,56 @@
+package CollectionFramework.MapInterface;
+
+import java.util.function.Function;
+
+/*
+Bounded key -> value cache with hit / miss / eviction counters.
+
+Implementations differ only in which entry they evict when full:
+    LruCache             least recently used (access-ordered LinkedHashMap), single thread
+    SegmentedLruCache    LRU per segment, one lock per segment, for many threads
+    WTinyLfuCache        small LRU window + frequency-filtered main area: a new key only
+                         replaces an old one if it has been asked for more often recently
+
+A miss is counted by get() when the key is absent; put() alone never counts a hit or a miss.
+ */
+public interface Cache<K, V> {
+
+    // the cached value, or null on a miss
+    V get(K key);
+
+    void put(K key, V value);
+
+    V remove(K key);
+
+    int size();
+
+    int capacity();
+
+    Stats stats();
+
+    // the cached value, or loader's value, which is then cached (a null value is not cached)
+    default V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) put(key, value);
+        }
+        return value;
+    }
+
+    record Stats(long hits, long misses, long evictions) {
+        public long requests() {
+            return hits + misses;
+        }
+
+        public double hitRatio() {
+            long requests = requests();
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d evictions=%d hitRatio=%.3f", hits, misses, evictions, hitRatio());
+        }
+    }
+}
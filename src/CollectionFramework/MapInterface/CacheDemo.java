@@ -0,0 +1,50 @@
+package CollectionFramework.MapInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CacheDemo {
+    public static void main(String[] args) throws InterruptedException {
+        // LRU: capacity 3, reading "a" saves it, "b" is the least recently used when "d" arrives
+        LruCache<String, Integer> lru = new LruCache<>(3);
+        lru.put("a", 1);
+        lru.put("b", 2);
+        lru.put("c", 3);
+        lru.get("a");
+        lru.put("d", 4);
+        System.out.println("LRU after get(a), put(d): " + lru);        // {c=3, a=1, d=4}
+        System.out.println("get(b): " + lru.get("b") + "  " + lru.stats()); // null, 1 hit 1 miss 1 eviction
+
+        // loader: a miss computes the value and caches it
+        Cache<Integer, String> users = new LruCache<>(100);
+        users.get(42, id -> "user-" + id); // miss -> loads
+        users.get(42, id -> "user-" + id); // hit
+        System.out.println("loader: " + users.stats());
+
+        // hot keys + a one-time scan: LRU loses its hot set, W-TinyLFU keeps it
+        System.out.println();
+        for (Cache<Integer, Integer> cache : List.<Cache<Integer, Integer>>of(new LruCache<>(1_000), new WTinyLfuCache<>(1_000))) {
+            Random random = new Random(1);
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < 5_000; i++) cache.get(random.nextInt(800), k -> k);      // 800 hot keys
+                for (int i = 0; i < 2_000; i++) cache.get(1_000_000 + round * 2_000 + i, k -> k); // scan, never repeated
+            }
+            System.out.printf("%-16s %s%n", cache.getClass().getSimpleName(), cache.stats());
+        }
+
+        // many threads: one lock per segment
+        SegmentedLruCache<Integer, Integer> shared = new SegmentedLruCache<>(10_000);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 100_000; i++) shared.get(random.nextInt(20_000), k -> k * 2);
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+        System.out.println("SegmentedLruCache (" + shared.segments() + " segments, 4 threads): " + shared.stats());
+    }
+}
@@ -0,0 +1,107 @@
+package CollectionFramework.MapInterface;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Frequency counter for many writer threads: ConcurrentHashMap<K, LongAdder>.
+
+Why not map.merge(key, 1, Integer::sum)?
+ - merge() locks the bin of that key on EVERY update, so all threads counting a hot key
+   queue up on one monitor, and every update also allocates a new Integer (outside -128..127).
+ - Here the map is only written once per key (to create the LongAdder). After that an
+   increment is a lock-free get() plus LongAdder.increment(), which spreads contended
+   updates over striped cells (one per CPU-ish) instead of one CAS target.
+
+Trade-off: reads (get / snapshot / topK) sum the cells, so they are slower and only
+weakly consistent while writers are running — fine for counting, not for exact limits.
+ */
+public class ConcurrentCounterMap<K> {
+
+    private final ConcurrentHashMap<K, LongAdder> counters;
+
+    public ConcurrentCounterMap() {
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    public ConcurrentCounterMap(int expectedKeys) {
+        this.counters = new ConcurrentHashMap<>(expectedKeys);
+    }
+
+    public void increment(K key) {
+        adder(key).increment();
+    }
+
+    public void add(K key, long delta) {
+        adder(key).add(delta);
+    }
+
+    public long get(K key) {
+        LongAdder adder = counters.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // sum over all keys (weakly consistent while writers run)
+    public long total() {
+        long total = 0;
+        for (LongAdder adder : counters.values()) total += adder.sum();
+        return total;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    // removes the key and returns its count. Not atomic with writers: an increment that fetched the
+    // adder just before the remove lands in the removed adder after sum() read it and is lost;
+    // increments after the remove start a new counter from 0
+    public long remove(K key) {
+        LongAdder adder = counters.remove(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // weakly consistent copy of the counts: each counter is read once, but not all at the same
+    // instant, so increments made during the copy may or may not be included
+    public Map<K, Long> snapshot() {
+        Map<K, Long> snapshot = new HashMap<>(Math.max(16, counters.size() * 4 / 3 + 1));
+        counters.forEach((key, adder) -> snapshot.put(key, adder.sum()));
+        return snapshot;
+    }
+
+    // k most frequent keys, highest count first; O(n log k) with a bounded min-heap
+    public List<Map.Entry<K, Long>> topK(int k) {
+        if (k <= 0) return List.of();
+        PriorityQueue<Map.Entry<K, Long>> heap = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        counters.forEach((key, adder) -> {
+            long count = adder.sum();
+            if (heap.size() < k) {
+                heap.offer(Map.entry(key, count));
+            } else if (count > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(Map.entry(key, count));
+            }
+        });
+        List<Map.Entry<K, Long>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+        return result;
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    private LongAdder adder(K key) {
+        // get() first: lock-free for existing keys; computeIfAbsent() locks the bin, so only use it on a miss
+        LongAdder adder = counters.get(key);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        return adder;
+    }
+}
@@ -0,0 +1,48 @@
+package CollectionFramework.MapInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+Frequency counting from many threads (builds on ConcurrentHashMapDemo).
+
+merge(k, 1, Integer::sum) is correct but serializes all writers of a hot key on that key's bin lock.
+ConcurrentCounterMap (ConcurrentHashMap<K, LongAdder>) gives the same totals without the lock on the hot path.
+ */
+public class ConcurrentCounterMapDemo {
+    public static void main(String[] args) throws InterruptedException {
+        String[] words = {"java", "java", "java", "map", "map", "stream", "lock", "java"};
+        int threads = 16;
+        int rounds = 10_000;
+
+        ConcurrentMap<String, Integer> merged = new ConcurrentHashMap<>();
+        ConcurrentCounterMap<String> counters = new ConcurrentCounterMap<>();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int r = 0; r < rounds; r++) {
+                    for (String w : words) {
+                        merged.merge(w, 1, Integer::sum);   // bin lock per update
+                        counters.increment(w);              // lock-free after first insert
+                    }
+                }
+            }, "Counter-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        System.out.println("merge() counts:      " + merged);
+        System.out.println("LongAdder counts:    " + counters);
+        System.out.println("total: " + counters.total() + " (expected " + (long) threads * rounds * words.length + ")");
+        System.out.println("top 2: " + counters.topK(2));
+
+        counters.add("map", 1_000_000);
+        System.out.println("after add(\"map\", 1_000_000), top 2: " + counters.topK(2));
+    }
+}
@@ -2,6 +2,7 @@ package CollectionFramework.MapInterface;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /*
@@ -15,6 +16,12 @@ Its iterators are weakly consistent, meaning they do not throw ConcurrentModific
  */
 public class ConcurrentHashMapDemo {
     public static void main(String[] args) throws InterruptedException {
+        // "virtual 100000" or "platform 100000": the same readers/writers as tasks on an executor
+        if (args.length > 0) {
+            runOnExecutor(args[0], args.length > 1 ? Integer.parseInt(args[1]) : 10_000);
+            return;
+        }
+
         ConcurrentMap<String, Integer> map = new ConcurrentHashMap<>();
         map.put("A", 1);
         map.put("B", 2);
@@ -45,5 +52,68 @@ public class ConcurrentHashMapDemo {
 
         System.out.println("Final Map: " + map);
     }
-}
 
+    /*
+     Executor mode: 'tasks' concurrent tasks, 1 in 10 a writer, each doing opsPerTask map operations
+     around a simulated blocking call (Thread.sleep(ioMillis), standing in for I/O).
+
+     blockInCompute = true does the blocking call INSIDE computeIfAbsent. computeIfAbsent holds the
+     bin's synchronized lock while the function runs, so a virtual thread sleeping there cannot unmount
+     from its carrier ("pinning", JDK 21): the carrier thread is blocked as well.
+     Numbers per mode, including pinning events: Benchmarks.VirtualThreadBenchmarks
+     */
+    public static long runReadersAndWriters(ExecutorService executor, int tasks, int opsPerTask,
+                                            long ioMillis, boolean blockInCompute) throws InterruptedException {
+        ConcurrentMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(tasks);
+        LongAdder ops = new LongAdder();
+        for (int t = 0; t < tasks; t++) {
+            boolean writer = t % 10 == 0;
+            int base = t;
+            executor.execute(() -> {
+                try {
+                    pause(ioMillis);
+                    for (int i = 0; i < opsPerTask; i++) {
+                        int key = (base + i) & 0xFFFF;
+                        if (!writer) {
+                            map.get(key);
+                        } else if (blockInCompute) {
+                            map.computeIfAbsent(key, k -> {
+                                pause(ioMillis);
+                                return k;
+                            });
+                        } else {
+                            map.put(key, i);
+                        }
+                    }
+                    ops.add(opsPerTask);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return ops.sum();
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runOnExecutor(String mode, int tasks) throws InterruptedException {
+        long start = System.nanoTime();
+        long ops;
+        try (ExecutorService executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200)) {
+            ops = runReadersAndWriters(executor, tasks, 100, 1, false);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(mode + ": " + tasks + " tasks, " + ops + " map ops in " + millis + " ms");
+    }
+}
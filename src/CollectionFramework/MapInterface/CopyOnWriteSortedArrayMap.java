@@ -0,0 +1,887 @@
+package CollectionFramework.MapInterface;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/*
+Sorted map for read-mostly data (price levels, routing tables, config indexes): every read runs
+lock-free against an immutable pair of sorted arrays, every write copies them.
+
+    volatile Snapshot { Object[] keys; Object[] values; }   keys sorted, no duplicates
+
+    get / floorKey / ceilingEntry / ...   binary search on the current snapshot, no lock, no CAS
+    subMap / headMap / tailMap / descendingMap / keySet / entrySet
+                                          read-only views of ONE snapshot: a range scan never sees a
+                                          half-applied write and never throws ConcurrentModificationException
+    put / remove / pollFirstEntry / ...   under a lock: copy the arrays with the change, publish the new
+                                          snapshot with one volatile write. O(n) per write.
+    putAll                                merges a whole batch in ONE copy
+    putIfAbsent / compute* / merge / replace
+                                          atomic: read, call the function and publish under the same lock,
+                                          one copy at most. The function must not write to this map.
+
+Same idea as CopyOnWriteArrayList, for the NavigableMap API. Compared with the alternatives:
+    Collections.synchronizedNavigableMap(new TreeMap<>())   every read takes the same lock
+    ConcurrentSkipListMap                                   lock-free reads AND writes, but a scan chases
+                                                            one pointer per node; arrays scan sequentially
+Use it when reads outnumber writes by orders of magnitude, and n is modest (copying 10^4 .. 10^5
+entries per write is fine, 10^7 is not).
+
+Views are snapshots, so they do not see later writes (unlike TreeMap views); sub-ranges of a view
+are clamped to the view's range instead of throwing. Null keys and values are not allowed.
+ */
+public class CopyOnWriteSortedArrayMap<K, V> extends AbstractMap<K, V> implements NavigableMap<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private final Object lock = new Object();
+    private volatile Snapshot<K, V> snapshot;
+
+    public CopyOnWriteSortedArrayMap() {
+        this((Comparator<? super K>) null);
+    }
+
+    public CopyOnWriteSortedArrayMap(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+        this.snapshot = new Snapshot<>(new Object[0], new Object[0], 0, 0, comparator, false);
+    }
+
+    public CopyOnWriteSortedArrayMap(Map<? extends K, ? extends V> map) {
+        this(map instanceof SortedMap<?, ?> sorted ? comparatorOf(sorted) : null);
+        mergeBatch(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Comparator<? super K> comparatorOf(SortedMap<?, ?> map) {
+        return (Comparator<? super K>) map.comparator();
+    }
+
+    // the current contents as an immutable NavigableMap (what every read method delegates to)
+    public NavigableMap<K, V> snapshot() {
+        return snapshot;
+    }
+
+    // ----------------- writes (copy under the lock) -----------------
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i >= 0) {
+                V old = s.valueAt(i);
+                setAt(s, i, value);
+                return old;
+            }
+            insertAt(s, -i - 1, key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i >= 0) return s.valueAt(i);
+            insertAt(s, -i - 1, key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (value == null) return false;
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i < 0 || !value.equals(s.values[i])) return false;
+            removeAt(s, i);
+            return true;
+        }
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Objects.requireNonNull(value);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i < 0) return null;
+            V old = s.valueAt(i);
+            setAt(s, i, value);
+            return old;
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i < 0 || !oldValue.equals(s.values[i])) return false;
+            setAt(s, i, newValue);
+            return true;
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i >= 0) return s.valueAt(i);
+            V value = mappingFunction.apply(key);
+            if (value != null) insertAt(s, -i - 1, key, value);
+            return value;
+        }
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i < 0) return null;
+            return update(s, i, remappingFunction.apply(key, s.valueAt(i)));
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i >= 0) return update(s, i, remappingFunction.apply(key, s.valueAt(i)));
+            V value = remappingFunction.apply(key, null);
+            if (value != null) insertAt(s, -i - 1, key, value);
+            return value;
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i >= 0) return update(s, i, remappingFunction.apply(s.valueAt(i), value));
+            insertAt(s, -i - 1, key, value);
+            return value;
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        mergeBatch(map);
+    }
+
+    // one copy for the whole batch: merge of the sorted snapshot with the sorted batch
+    private void mergeBatch(Map<? extends K, ? extends V> map) {
+        if (map.isEmpty()) return;
+        TreeMap<K, V> batch = new TreeMap<>(comparator);
+        for (Map.Entry<? extends K, ? extends V> e : map.entrySet()) {
+            batch.put(Objects.requireNonNull(e.getKey()), Objects.requireNonNull(e.getValue()));
+        }
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int n = s.keys.length;
+            Object[] keys = new Object[n + batch.size()];
+            Object[] values = new Object[keys.length];
+            int i = 0, k = 0;
+            for (Map.Entry<K, V> e : batch.entrySet()) {
+                while (i < n && s.compare(s.keyAt(i), e.getKey()) < 0) {
+                    keys[k] = s.keys[i];
+                    values[k++] = s.values[i++];
+                }
+                if (i < n && s.compare(s.keyAt(i), e.getKey()) == 0) i++; // replaced by the batch
+                keys[k] = e.getKey();
+                values[k++] = e.getValue();
+            }
+            while (i < n) {
+                keys[k] = s.keys[i];
+                values[k++] = s.values[i++];
+            }
+            snapshot = s.with(Arrays.copyOf(keys, k), Arrays.copyOf(values, k));
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            int i = s.search(key);
+            if (i < 0) return null;
+            V old = s.valueAt(i);
+            removeAt(s, i);
+            return old;
+        }
+    }
+
+    @Override
+    public Map.Entry<K, V> pollFirstEntry() {
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            if (s.keys.length == 0) return null;
+            Map.Entry<K, V> first = s.entryAt(0);
+            removeAt(s, 0);
+            return first;
+        }
+    }
+
+    @Override
+    public Map.Entry<K, V> pollLastEntry() {
+        synchronized (lock) {
+            Snapshot<K, V> s = snapshot;
+            if (s.keys.length == 0) return null;
+            Map.Entry<K, V> last = s.entryAt(s.keys.length - 1);
+            removeAt(s, s.keys.length - 1);
+            return last;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            snapshot = snapshot.with(new Object[0], new Object[0]);
+        }
+    }
+
+    // ----------------- copy helpers: caller holds the lock, s is the current snapshot -----------------
+    // a function's result for an existing key: null removes the entry
+    private V update(Snapshot<K, V> s, int i, V value) {
+        if (value == null) removeAt(s, i);
+        else setAt(s, i, value);
+        return value;
+    }
+
+    private void setAt(Snapshot<K, V> s, int i, V value) {
+        Object[] values = s.values.clone();
+        values[i] = value;
+        snapshot = s.with(s.keys, values);
+    }
+
+    private void insertAt(Snapshot<K, V> s, int at, K key, V value) {
+        int n = s.keys.length;
+        Object[] keys = new Object[n + 1];
+        Object[] values = new Object[n + 1];
+        System.arraycopy(s.keys, 0, keys, 0, at);
+        System.arraycopy(s.values, 0, values, 0, at);
+        keys[at] = key;
+        values[at] = value;
+        System.arraycopy(s.keys, at, keys, at + 1, n - at);
+        System.arraycopy(s.values, at, values, at + 1, n - at);
+        snapshot = s.with(keys, values);
+    }
+
+    private void removeAt(Snapshot<K, V> s, int i) {
+        int n = s.keys.length;
+        Object[] keys = new Object[n - 1];
+        Object[] values = new Object[n - 1];
+        System.arraycopy(s.keys, 0, keys, 0, i);
+        System.arraycopy(s.values, 0, values, 0, i);
+        System.arraycopy(s.keys, i + 1, keys, i, n - i - 1);
+        System.arraycopy(s.values, i + 1, values, i, n - i - 1);
+        snapshot = s.with(keys, values);
+    }
+
+    // ----------------- reads (delegate to the current snapshot) -----------------
+    @Override
+    public V get(Object key) {
+        return snapshot.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return snapshot.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return snapshot.entrySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return snapshot.values();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        snapshot.forEach(action);
+    }
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public K firstKey() {
+        return snapshot.firstKey();
+    }
+
+    @Override
+    public K lastKey() {
+        return snapshot.lastKey();
+    }
+
+    @Override
+    public Map.Entry<K, V> firstEntry() {
+        return snapshot.firstEntry();
+    }
+
+    @Override
+    public Map.Entry<K, V> lastEntry() {
+        return snapshot.lastEntry();
+    }
+
+    @Override
+    public Map.Entry<K, V> lowerEntry(K key) {
+        return snapshot.lowerEntry(key);
+    }
+
+    @Override
+    public K lowerKey(K key) {
+        return snapshot.lowerKey(key);
+    }
+
+    @Override
+    public Map.Entry<K, V> floorEntry(K key) {
+        return snapshot.floorEntry(key);
+    }
+
+    @Override
+    public K floorKey(K key) {
+        return snapshot.floorKey(key);
+    }
+
+    @Override
+    public Map.Entry<K, V> ceilingEntry(K key) {
+        return snapshot.ceilingEntry(key);
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        return snapshot.ceilingKey(key);
+    }
+
+    @Override
+    public Map.Entry<K, V> higherEntry(K key) {
+        return snapshot.higherEntry(key);
+    }
+
+    @Override
+    public K higherKey(K key) {
+        return snapshot.higherKey(key);
+    }
+
+    @Override
+    public NavigableMap<K, V> descendingMap() {
+        return snapshot.descendingMap();
+    }
+
+    @Override
+    public NavigableSet<K> navigableKeySet() {
+        return snapshot.navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> keySet() {
+        return snapshot.navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> descendingKeySet() {
+        return snapshot.descendingKeySet();
+    }
+
+    @Override
+    public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        return snapshot.subMap(fromKey, fromInclusive, toKey, toInclusive);
+    }
+
+    @Override
+    public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+        return snapshot.headMap(toKey, inclusive);
+    }
+
+    @Override
+    public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        return snapshot.tailMap(fromKey, inclusive);
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    // ----------------- immutable view: arrays[lo, hi), ascending or descending -----------------
+    private static final class Snapshot<K, V> extends AbstractMap<K, V> implements NavigableMap<K, V> {
+        final Object[] keys;
+        final Object[] values;
+        final int lo, hi;
+        final Comparator<? super K> comparator; // ascending order of the arrays
+        final boolean descending;
+        private Set<Map.Entry<K, V>> entrySet;
+
+        Snapshot(Object[] keys, Object[] values, int lo, int hi, Comparator<? super K> comparator, boolean descending) {
+            this.keys = keys;
+            this.values = values;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
+            this.descending = descending;
+        }
+
+        Snapshot<K, V> with(Object[] keys, Object[] values) {
+            return new Snapshot<>(keys, values, 0, keys.length, comparator, false);
+        }
+
+        @SuppressWarnings("unchecked")
+        K keyAt(int i) {
+            return (K) keys[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        V valueAt(int i) {
+            return (V) values[i];
+        }
+
+        Map.Entry<K, V> entryAt(int i) {
+            return i >= lo && i < hi ? new AbstractMap.SimpleImmutableEntry<>(keyAt(i), valueAt(i)) : null;
+        }
+
+        K keyOrNull(int i) {
+            return i >= lo && i < hi ? keyAt(i) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        int compare(Object a, Object b) {
+            return comparator != null ? comparator.compare((K) a, (K) b) : ((Comparable<Object>) a).compareTo(b);
+        }
+
+        // Arrays.binarySearch contract within [lo, hi): index, or -(insertion point) - 1
+        @SuppressWarnings("unchecked")
+        int search(Object key) {
+            Objects.requireNonNull(key);
+            return comparator != null
+                    ? Arrays.binarySearch((K[]) keys, lo, hi, (K) key, comparator)
+                    : Arrays.binarySearch(keys, lo, hi, key);
+        }
+
+        // ascending-array helpers: first index >= key (> if !inclusive), hi if none
+        int ceilingIndex(Object key, boolean inclusive) {
+            int r = search(key);
+            return r >= 0 ? (inclusive ? r : r + 1) : -r - 1;
+        }
+
+        // last index <= key (< if !inclusive), lo - 1 if none
+        int floorIndex(Object key, boolean inclusive) {
+            int r = search(key);
+            return r >= 0 ? (inclusive ? r : r - 1) : -r - 2;
+        }
+
+        @Override
+        public V get(Object key) {
+            int i = search(key);
+            return i >= 0 ? valueAt(i) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return search(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return hi - lo;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return hi == lo;
+        }
+
+        @Override
+        public Comparator<? super K> comparator() {
+            if (!descending) return comparator;
+            return comparator != null ? Collections.reverseOrder(comparator) : (Comparator<? super K>) Collections.reverseOrder();
+        }
+
+        // ---- navigation: in a descending view, "ceiling" is the ascending floor, "first" the last, ... ----
+        @Override
+        public Map.Entry<K, V> firstEntry() {
+            return entryAt(descending ? hi - 1 : lo);
+        }
+
+        @Override
+        public Map.Entry<K, V> lastEntry() {
+            return entryAt(descending ? lo : hi - 1);
+        }
+
+        @Override
+        public K firstKey() {
+            if (isEmpty()) throw new NoSuchElementException();
+            return keyAt(descending ? hi - 1 : lo);
+        }
+
+        @Override
+        public K lastKey() {
+            if (isEmpty()) throw new NoSuchElementException();
+            return keyAt(descending ? lo : hi - 1);
+        }
+
+        private int ceiling(K key, boolean inclusive) {
+            return descending ? floorIndex(key, inclusive) : ceilingIndex(key, inclusive);
+        }
+
+        private int floor(K key, boolean inclusive) {
+            return descending ? ceilingIndex(key, inclusive) : floorIndex(key, inclusive);
+        }
+
+        @Override
+        public Map.Entry<K, V> ceilingEntry(K key) {
+            return entryAt(ceiling(key, true));
+        }
+
+        @Override
+        public K ceilingKey(K key) {
+            return keyOrNull(ceiling(key, true));
+        }
+
+        @Override
+        public Map.Entry<K, V> higherEntry(K key) {
+            return entryAt(ceiling(key, false));
+        }
+
+        @Override
+        public K higherKey(K key) {
+            return keyOrNull(ceiling(key, false));
+        }
+
+        @Override
+        public Map.Entry<K, V> floorEntry(K key) {
+            return entryAt(floor(key, true));
+        }
+
+        @Override
+        public K floorKey(K key) {
+            return keyOrNull(floor(key, true));
+        }
+
+        @Override
+        public Map.Entry<K, V> lowerEntry(K key) {
+            return entryAt(floor(key, false));
+        }
+
+        @Override
+        public K lowerKey(K key) {
+            return keyOrNull(floor(key, false));
+        }
+
+        @Override
+        public Map.Entry<K, V> pollFirstEntry() {
+            throw new UnsupportedOperationException("Snapshot views are read-only");
+        }
+
+        @Override
+        public Map.Entry<K, V> pollLastEntry() {
+            throw new UnsupportedOperationException("Snapshot views are read-only");
+        }
+
+        // ---- views ----
+        private Snapshot<K, V> range(int from, int to, boolean descending) {
+            from = Math.max(from, lo);
+            to = Math.max(from, Math.min(to, hi));
+            return new Snapshot<>(keys, values, from, to, comparator, descending);
+        }
+
+        @Override
+        public NavigableMap<K, V> descendingMap() {
+            return range(lo, hi, !descending);
+        }
+
+        @Override
+        public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+            if (descending) {
+                if (compare(fromKey, toKey) < 0) throw new IllegalArgumentException("fromKey > toKey");
+                return range(ceilingIndex(toKey, toInclusive), floorIndex(fromKey, fromInclusive) + 1, true);
+            }
+            if (compare(fromKey, toKey) > 0) throw new IllegalArgumentException("fromKey > toKey");
+            return range(ceilingIndex(fromKey, fromInclusive), floorIndex(toKey, toInclusive) + 1, false);
+        }
+
+        @Override
+        public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+            return descending
+                    ? range(ceilingIndex(toKey, inclusive), hi, true)
+                    : range(lo, floorIndex(toKey, inclusive) + 1, false);
+        }
+
+        @Override
+        public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+            return descending
+                    ? range(lo, floorIndex(fromKey, inclusive) + 1, true)
+                    : range(ceilingIndex(fromKey, inclusive), hi, false);
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey) {
+            return subMap(fromKey, true, toKey, false);
+        }
+
+        @Override
+        public SortedMap<K, V> headMap(K toKey) {
+            return headMap(toKey, false);
+        }
+
+        @Override
+        public SortedMap<K, V> tailMap(K fromKey) {
+            return tailMap(fromKey, true);
+        }
+
+        @Override
+        public NavigableSet<K> navigableKeySet() {
+            return new KeySet<>(this);
+        }
+
+        @Override
+        public NavigableSet<K> keySet() {
+            return navigableKeySet();
+        }
+
+        @Override
+        public NavigableSet<K> descendingKeySet() {
+            return new KeySet<>((Snapshot<K, V>) descendingMap());
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            Set<Map.Entry<K, V>> es = entrySet;
+            if (es == null) {
+                entrySet = es = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Map.Entry<K, V>> iterator() {
+                        return new Cursor<>(Snapshot.this) {
+                            @Override
+                            Map.Entry<K, V> at(int i) {
+                                return new AbstractMap.SimpleImmutableEntry<>(keyAt(i), valueAt(i));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return Snapshot.this.size();
+                    }
+                };
+            }
+            return es;
+        }
+
+        // values and forEach walk the arrays directly: no entry object per element
+        @Override
+        public Collection<V> values() {
+            return new AbstractCollection<>() {
+                @Override
+                public Iterator<V> iterator() {
+                    return new Cursor<K, V, V>(Snapshot.this) {
+                        @Override
+                        V at(int i) {
+                            return valueAt(i);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return Snapshot.this.size();
+                }
+            };
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            if (descending) {
+                for (int i = hi - 1; i >= lo; i--) action.accept(keyAt(i), valueAt(i));
+            } else {
+                for (int i = lo; i < hi; i++) action.accept(keyAt(i), valueAt(i));
+            }
+        }
+    }
+
+    // iterates a snapshot's range in its direction; at(i) builds the element
+    private abstract static class Cursor<K, V, T> implements Iterator<T> {
+        private final Snapshot<K, V> s;
+        private int next;
+
+        Cursor(Snapshot<K, V> s) {
+            this.s = s;
+            this.next = s.descending ? s.hi - 1 : s.lo;
+        }
+
+        abstract T at(int i);
+
+        @Override
+        public boolean hasNext() {
+            return s.descending ? next >= s.lo : next < s.hi;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            T value = at(next);
+            next += s.descending ? -1 : 1;
+            return value;
+        }
+    }
+
+    // read-only NavigableSet over a snapshot's keys
+    private static final class KeySet<K, V> extends AbstractSet<K> implements NavigableSet<K> {
+        private final Snapshot<K, V> s;
+
+        KeySet(Snapshot<K, V> s) {
+            this.s = s;
+        }
+
+        private static <K, V> NavigableSet<K> keys(NavigableMap<K, V> map) {
+            return new KeySet<>((Snapshot<K, V>) map);
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return new Cursor<K, V, K>(s) {
+                @Override
+                K at(int i) {
+                    return s.keyAt(i);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return s.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return s.containsKey(o);
+        }
+
+        @Override
+        public K lower(K k) {
+            return s.lowerKey(k);
+        }
+
+        @Override
+        public K floor(K k) {
+            return s.floorKey(k);
+        }
+
+        @Override
+        public K ceiling(K k) {
+            return s.ceilingKey(k);
+        }
+
+        @Override
+        public K higher(K k) {
+            return s.higherKey(k);
+        }
+
+        @Override
+        public K pollFirst() {
+            throw new UnsupportedOperationException("Snapshot views are read-only");
+        }
+
+        @Override
+        public K pollLast() {
+            throw new UnsupportedOperationException("Snapshot views are read-only");
+        }
+
+        @Override
+        public NavigableSet<K> descendingSet() {
+            return keys(s.descendingMap());
+        }
+
+        @Override
+        public Iterator<K> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        @Override
+        public NavigableSet<K> subSet(K from, boolean fromInclusive, K to, boolean toInclusive) {
+            return keys(s.subMap(from, fromInclusive, to, toInclusive));
+        }
+
+        @Override
+        public NavigableSet<K> headSet(K to, boolean inclusive) {
+            return keys(s.headMap(to, inclusive));
+        }
+
+        @Override
+        public NavigableSet<K> tailSet(K from, boolean inclusive) {
+            return keys(s.tailMap(from, inclusive));
+        }
+
+        @Override
+        public SortedSet<K> subSet(K from, K to) {
+            return subSet(from, true, to, false);
+        }
+
+        @Override
+        public SortedSet<K> headSet(K to) {
+            return headSet(to, false);
+        }
+
+        @Override
+        public SortedSet<K> tailSet(K from) {
+            return tailSet(from, true);
+        }
+
+        @Override
+        public Comparator<? super K> comparator() {
+            return s.comparator();
+        }
+
+        @Override
+        public K first() {
+            return s.firstKey();
+        }
+
+        @Override
+        public K last() {
+            return s.lastKey();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package CollectionFramework.MapInterface;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Concurrent canonicalizing cache: intern(x) returns one shared instance for all objects equal to x,
+so millions of equal strings / descriptors cost the memory of one.
+
+Why not Collections.synchronizedMap(new WeakHashMap<T, WeakReference<T>>())?
+ - one lock for every lookup
+ - WeakHashMap purges cleared entries (expungeStaleEntries) inside get / put / size, under that lock
+ - each entry costs the map's Entry + the WeakReference value
+
+Here:
+    ConcurrentHashMap<Ref, Ref>   key == value, a Weak- or SoftReference to the canonical instance
+                                  that remembers its hash, so lookups never touch cleared referents
+    lookup                        a LookupKey wrapping the argument, equal to a Ref with an equal referent
+    cleanup                       the GC enqueues cleared Refs on one ReferenceQueue shared by all
+                                  interners; one daemon thread removes them from their map, so
+                                  intern() never does cleanup work
+
+    weak()   canonical instance lives while anyone else uses it (strings, descriptors, keys)
+    soft()   also kept while memory is plentiful: survives gaps in which nobody holds it
+
+String.intern() also canonicalizes, but into the JVM string table: strings only, and the table is
+fixed-size unless -XX:StringTableSize is tuned.
+ */
+public final class Interner<T> {
+
+    public enum Strength { WEAK, SOFT }
+
+    public record Stats(long hits, long misses, long cleared) {
+        @Override
+        public String toString() {
+            return "hits=" + hits + " misses=" + misses + " cleared=" + cleared;
+        }
+    }
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    static {
+        Thread cleaner = new Thread(Interner::cleanLoop, "interner-cleaner");
+        cleaner.setDaemon(true);
+        cleaner.start();
+    }
+
+    private final ConcurrentHashMap<Object, Ref> map = new ConcurrentHashMap<>();
+    private final Strength strength;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder cleared = new LongAdder();
+
+    private Interner(Strength strength) {
+        this.strength = strength;
+    }
+
+    public static <T> Interner<T> weak() {
+        return new Interner<>(Strength.WEAK);
+    }
+
+    public static <T> Interner<T> soft() {
+        return new Interner<>(Strength.SOFT);
+    }
+
+    public Strength strength() {
+        return strength;
+    }
+
+    // the canonical instance equal to value; value itself becomes canonical if there is none
+    @SuppressWarnings("unchecked")
+    public T intern(T value) {
+        Objects.requireNonNull(value);
+        int hash = value.hashCode();
+        while (true) {
+            Ref existing = map.get(new LookupKey(value, hash));
+            if (existing != null) {
+                Object canonical = existing.referent();
+                if (canonical != null) {
+                    hits.increment();
+                    return (T) canonical;
+                }
+                // cleared, not yet cleaned: add ours next to it (a cleared Ref only equals itself)
+            }
+            Ref ref = strength == Strength.WEAK ? new WeakRef(value, hash, this) : new SoftRef(value, hash, this);
+            Ref raced = map.putIfAbsent(ref, ref);
+            if (raced == null) {
+                misses.increment();
+                return value;
+            }
+            Object canonical = raced.referent();
+            if (canonical != null) {
+                hits.increment();
+                return (T) canonical;
+            }
+        }
+    }
+
+    // live entries plus cleared ones the cleaner has not removed yet
+    public int size() {
+        return map.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), cleared.sum());
+    }
+
+    private static void cleanLoop() {
+        while (true) {
+            try {
+                Reference<?> reference = QUEUE.remove();
+                Ref ref = (Ref) reference;
+                Interner<?> owner = ref.owner();
+                if (owner.map.remove(ref, ref)) owner.cleared.increment();
+            } catch (InterruptedException e) {
+                // daemon thread: keep draining
+            }
+        }
+    }
+
+    // ----------------- keys -----------------
+    private interface Ref {
+        Object referent();
+
+        Interner<?> owner();
+    }
+
+    // equals(): same referent by equals(), compared through whichever side is a lookup / live Ref
+    private static boolean refEquals(Object self, Object selfReferent, int selfHash, Object other) {
+        if (self == other) return true;
+        if (selfReferent == null) return false; // cleared: only equal to itself
+        Object otherReferent;
+        int otherHash;
+        if (other instanceof LookupKey key) {
+            otherReferent = key.value;
+            otherHash = key.hash;
+        } else if (other instanceof WeakRef ref) {
+            otherReferent = ref.get();
+            otherHash = ref.hash;
+        } else if (other instanceof SoftRef ref) {
+            otherReferent = ref.get();
+            otherHash = ref.hash;
+        } else {
+            return false;
+        }
+        return selfHash == otherHash && otherReferent != null && selfReferent.equals(otherReferent);
+    }
+
+    private static final class WeakRef extends WeakReference<Object> implements Ref {
+        final int hash;
+        final Interner<?> owner;
+
+        WeakRef(Object value, int hash, Interner<?> owner) {
+            super(value, QUEUE);
+            this.hash = hash;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public Interner<?> owner() {
+            return owner;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return refEquals(this, get(), hash, other);
+        }
+    }
+
+    private static final class SoftRef extends SoftReference<Object> implements Ref {
+        final int hash;
+        final Interner<?> owner;
+
+        SoftRef(Object value, int hash, Interner<?> owner) {
+            super(value, QUEUE);
+            this.hash = hash;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public Interner<?> owner() {
+            return owner;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return refEquals(this, get(), hash, other);
+        }
+    }
+
+    // short-lived probe for map.get(): no reference object, no queue registration
+    private static final class LookupKey {
+        final Object value;
+        final int hash;
+
+        LookupKey(Object value, int hash) {
+            this.value = value;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return refEquals(this, value, hash, other);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package CollectionFramework.MapInterface;
+
+import java.util.*;
+
+/*
+Open-addressing hash map with primitive long keys (int keys widen automatically).
+
+HashMap<Integer, V> per entry:  Integer key (16 B) + Node (32 B) + table slot (4-8 B)
+LongObjectHashMap<V> per entry: long key (8 B) + value slot (4-8 B), at load factor 0.75 ≈ 16-21 B
+
+How it works
+ - Two parallel arrays: long[] keys and Object[] values, power-of-two length.
+ - Linear probing: on collision try the next slot. Neighbouring slots share cache lines.
+ - Key 0 marks an empty slot, so the real key 0 is stored on the side (hasZeroKey/zeroValue).
+ - Deletion uses backward shift instead of tombstones: entries after the removed slot are moved
+   back if that brings them closer to their home slot, so lookups never scan deleted garbage.
+
+Same surface as MapBasicDemo uses: put / get / containsKey / containsValue / remove / size / isEmpty
+and iteration over keys, values and entries (cursor, no Map.Entry object per entry).
+Not thread-safe; iteration is fail-fast like HashMap.
+ */
+public class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;          // entries in the arrays (excludes key 0)
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private V zeroValue;
+    private int modCount;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongObjectHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be in (0, 1): " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(expectedSize, loadFactor));
+    }
+
+    // ----------------- Map-like API -----------------
+    public V put(long key, V value) {
+        if (key == 0) {
+            V old = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                modCount++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        int slot = slot(key);
+        long k;
+        while ((k = keys[slot]) != 0) {
+            if (k == key) {
+                V old = valueAt(slot);
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // grow before inserting: a full table at MAX_CAPACITY rejects the key and stays unchanged
+        if (size + 1 >= resizeAt) {
+            resize(keys.length << 1);
+            slot = slot(key);
+            while (keys[slot] != 0) slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        modCount++;
+        size++;
+        return null;
+    }
+
+    public V get(long key) {
+        if (key == 0) return hasZeroKey ? zeroValue : null;
+        int slot = find(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+        int slot = find(key);
+        return slot < 0 ? defaultValue : valueAt(slot);
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    public boolean containsValue(Object value) {
+        if (hasZeroKey && Objects.equals(zeroValue, value)) return true;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0 && Objects.equals(values[i], value)) return true;
+        }
+        return false;
+    }
+
+    public V remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) return null;
+            V old = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            modCount++;
+            return old;
+        }
+        int slot = find(key);
+        if (slot < 0) return null;
+        V old = valueAt(slot);
+        shiftBack(slot);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+        modCount++;
+    }
+
+    // ----------------- iteration -----------------
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    public void forEach(EntryConsumer<? super V> action) {
+        int expected = modCount;
+        if (hasZeroKey) action.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], valueAt(i));
+        }
+        if (modCount != expected) throw new ConcurrentModificationException();
+    }
+
+    // keySet() equivalent, as a primitive array copy
+    public long[] keys() {
+        long[] result = new long[size()];
+        int n = 0;
+        if (hasZeroKey) result[n++] = 0;
+        for (long k : keys) {
+            if (k != 0) result[n++] = k;
+        }
+        return result;
+    }
+
+    // values() equivalent
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size());
+        if (hasZeroKey) result.add(zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) result.add(valueAt(i));
+        }
+        return result;
+    }
+
+    // entrySet() equivalent without a Map.Entry per entry:
+    //   for (var c = map.cursor(); c.advance(); ) { c.key(); c.value(); }
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public class Cursor {
+        private int index = hasZeroKey ? -2 : -1;   // -2 = zero key not yet visited
+        private final int expectedModCount = modCount;
+        private long key;
+        private V value;
+
+        public boolean advance() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (index == -2) {
+                index = -1;
+                key = 0;
+                value = zeroValue;
+                return true;
+            }
+            while (++index < keys.length) {
+                if (keys[index] != 0) {
+                    key = keys[index];
+                    value = valueAt(index);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public long key() {
+            return key;
+        }
+
+        public V value() {
+            return value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "{", "}");
+        forEach((k, v) -> sj.add(k + "=" + v));
+        return sj.toString();
+    }
+
+    // ----------------- internals -----------------
+    private int find(long key) {
+        int slot = slot(key);
+        long k;
+        while ((k = keys[slot]) != 0) {
+            if (k == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // backward-shift deletion: pull later entries of the same probe run into the hole
+    private void shiftBack(int hole) {
+        int i = hole;
+        int j = hole;
+        while (true) {
+            j = (j + 1) & mask;
+            long k = keys[j];
+            if (k == 0) break;
+            int home = slot(k);
+            // move k into the hole unless its home lies cyclically in (i, j]
+            boolean homeBetween = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!homeBetween) {
+                keys[i] = k;
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = 0;
+        values[i] = null;
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("LongObjectHashMap cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long k = oldKeys[i];
+            if (k != 0) {
+                int slot = slot(k);
+                while (keys[slot] != 0) slot = (slot + 1) & mask;
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    private int slot(long key) {
+        // murmur3 fmix64: sequential ids must not land in sequential slots
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    private static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+}
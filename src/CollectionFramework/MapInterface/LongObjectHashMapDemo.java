@@ -0,0 +1,56 @@
+package CollectionFramework.MapInterface;
+
+// Same walkthrough as MapBasicDemo, on the primitive-key open-addressing map.
+public class LongObjectHashMapDemo {
+    public static void main(String[] args) {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        // put / overwrite
+        map.put(101, "A");
+        map.put(102, "B");
+        map.put(103, "C");
+        map.put(101, "UPDATED"); // same key → value overwritten
+        map.put(0, "ZERO");      // key 0 is the empty-slot marker internally, still a valid key
+
+        System.out.println("Map: " + map);
+
+        // get / contains (no Integer/Long boxing for the key)
+        System.out.println("get(102): " + map.get(102));          // B
+        System.out.println("containsKey(103): " + map.containsKey(103));
+        System.out.println("containsValue(\"C\"): " + map.containsValue("C"));
+
+        // size / isEmpty
+        System.out.println("size: " + map.size());
+        System.out.println("isEmpty: " + map.isEmpty());
+
+        // keySet view → primitive long[]
+        System.out.println("\nIterating over keys:");
+        for (long key : map.keys()) {
+            System.out.println(key);
+        }
+
+        // values view
+        System.out.println("\nIterating over values:");
+        for (String value : map.values()) {
+            System.out.println(value);
+        }
+
+        // entrySet view → cursor, no Map.Entry object per entry
+        System.out.println("\nIterating over entries:");
+        for (LongObjectHashMap<String>.Cursor c = map.cursor(); c.advance(); ) {
+            System.out.println(c.key() + " -> " + c.value());
+        }
+
+        // remove (backward-shift deletion, no tombstones left behind)
+        map.remove(103);
+        System.out.println("\nAfter remove(103): " + map);
+
+        // tunable load factor: lower = fewer probes, more memory
+        LongObjectHashMap<String> sparse = new LongObjectHashMap<>(1_000, 0.5f);
+        for (long id = 1; id <= 1_000; id++) {
+            sparse.put(id * 1_000_003L, "id-" + id);
+        }
+        System.out.println("\nLoad factor 0.5 map size: " + sparse.size()
+                + ", get(500 * 1_000_003): " + sparse.get(500 * 1_000_003L));
+    }
+}
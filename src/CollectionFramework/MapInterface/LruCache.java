@@ -0,0 +1,77 @@
+package CollectionFramework.MapInterface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+LRU cache = LinkedHashMap in access order + removeEldestEntry.
+
+    new LinkedHashMap<>(capacity, 0.75f, true)   get() / put() move the entry to the tail
+    removeEldestEntry(eldest)                     called after each put: true drops the head,
+                                                  i.e. the least recently used entry
+
+Everything is O(1). Because get() relinks entries, even reads modify the map: not thread-safe
+(use SegmentedLruCache or wrap every call in one lock).
+
+Weak spot: one pass over many keys that are never read again (a scan, a batch job) pushes out
+the whole hot set. WTinyLfuCache filters those.
+ */
+public class LruCache<K, V> implements Cache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> map;
+    private long hits, misses, evictions;
+
+    public LruCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        // sized so that capacity entries never trigger a resize
+        this.map = new LinkedHashMap<>((int) (capacity / 0.75f) + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= LruCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public V get(K key) {
+        V value = map.get(key);
+        if (value != null) hits++;
+        else misses++;
+        return value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        map.put(Objects.requireNonNull(key), Objects.requireNonNull(value));
+    }
+
+    @Override
+    public V remove(K key) {
+        return map.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats(hits, misses, evictions);
+    }
+
+    @Override
+    public String toString() {
+        return map.toString(); // least recently used first
+    }
+}
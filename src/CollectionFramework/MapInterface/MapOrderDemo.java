@@ -27,6 +27,14 @@ public class MapOrderDemo {
         System.out.println("HashMap (no order):      " + hashMap);
         System.out.println("LinkedHashMap (insertion): " + linkedHashMap);
         System.out.println("TreeMap (sorted by key): " + treeMap);
+
+        // access order: get() moves the key to the end -> the head is the least recently used (LruCache)
+        Map<Integer, String> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+        accessOrder.put(3, "C");
+        accessOrder.put(1, "A");
+        accessOrder.put(2, "B");
+        accessOrder.get(3);
+        System.out.println("LinkedHashMap (access):  " + accessOrder); // {1=A, 2=B, 3=C}
     }
 }
 
@@ -1,10 +1,14 @@
 package CollectionFramework.MapInterface;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class NavigableMapDemo {
-    public static void main(String[] args) {
-        NavigableMap<Integer, String> map = new TreeMap<>();
+    public static void main(String[] args) throws InterruptedException {
+        // "treemap" (default), "skiplist" or "cow": the same calls on a different NavigableMap
+        String mode = args.length > 0 ? args[0] : "treemap";
+        NavigableMap<Integer, String> map = create(mode);
 
         map.put(10, "ten");
         map.put(20, "twenty");
@@ -12,7 +16,7 @@ public class NavigableMapDemo {
         map.put(40, "forty");
         map.put(50, "fifty");
 
-        System.out.println("Map: " + map);
+        System.out.println(map.getClass().getSimpleName() + ": " + map);
 
         System.out.println("ceilingKey(25): " + map.ceilingKey(25)); // 30
         System.out.println("floorKey(25):   " + map.floorKey(25));   // 20
@@ -24,6 +28,73 @@ public class NavigableMapDemo {
         System.out.println("After polls:       " + map);
 
         System.out.println("descendingMap():   " + map.descendingMap());
+
+        // TreeMap is not thread-safe: a concurrent writer breaks readers (ConcurrentModificationException)
+        if (!mode.equals("treemap")) concurrentRangeScans(mode);
     }
-}
 
+    /*
+     Concurrent sorted index:
+       ConcurrentSkipListMap       lock-free reads and writes; views are live, iteration weakly consistent
+       CopyOnWriteSortedArrayMap   lock-free reads on an immutable sorted array; each write copies it.
+                                   Views are snapshots: a scan sees the map as of one moment.
+       synchronizedNavigableMap    every read AND write takes one lock; scans must hold it too
+     */
+    public static <K, V> NavigableMap<K, V> create(String mode) {
+        return switch (mode) {
+            case "treemap" -> new TreeMap<>();
+            case "skiplist" -> new ConcurrentSkipListMap<>();
+            case "cow" -> new CopyOnWriteSortedArrayMap<>();
+            case "synchronized" -> Collections.synchronizedNavigableMap(new TreeMap<>());
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + " (treemap|skiplist|cow|synchronized)");
+        };
+    }
+
+    // price book: one writer moves price levels, readers look up the best level and scan the top 5
+    private static void concurrentRangeScans(String mode) throws InterruptedException {
+        NavigableMap<Long, Long> asks = create(mode);
+        for (long price = 100; price < 200; price++) asks.put(price, 10L);
+
+        AtomicLong scans = new AtomicLong();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(1);
+            for (int i = 0; i < 10_000; i++) {
+                long price = 100 + random.nextInt(100);
+                if (random.nextBoolean()) asks.remove(price);
+                else asks.put(price, 1L + random.nextInt(100));
+            }
+        }, "writer");
+
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            readers.add(new Thread(() -> {
+                while (writer.isAlive()) {
+                    if (mode.equals("synchronized")) {
+                        // iterating a view of a synchronized map without its lock -> ConcurrentModificationException
+                        synchronized (asks) {
+                            topOfBook(asks);
+                        }
+                    } else {
+                        topOfBook(asks);
+                    }
+                    scans.incrementAndGet();
+                }
+            }, "reader-" + r));
+        }
+
+        writer.start();
+        readers.forEach(Thread::start);
+        writer.join();
+        for (Thread reader : readers) reader.join();
+        System.out.println(mode + ": " + scans.get() + " range scans during 10000 writes, levels now " + asks.size());
+    }
+
+    // quantity at the best 5 price ticks
+    private static long topOfBook(NavigableMap<Long, Long> asks) {
+        Long best = asks.ceilingKey(100L);
+        if (best == null) return 0;
+        long depth = 0;
+        for (long qty : asks.subMap(best, true, best + 5, false).values()) depth += qty;
+        return depth;
+    }
+}
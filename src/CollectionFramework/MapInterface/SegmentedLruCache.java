@@ -0,0 +1,101 @@
+package CollectionFramework.MapInterface;
+
+/*
+Concurrent LRU: the key's hash picks one of N LruCache segments, each guarded by its own lock.
+
+An LRU get() relinks the entry, so reads need a lock too. One lock around one LinkedHashMap
+serializes every thread; with N segments, threads only collide when they hit the same segment.
+
+Trade-off: eviction is LRU per segment, not global. Each segment holds capacity / N entries, so a
+segment that happens to get more hot keys evicts earlier than a global LRU would. Keep
+capacity / N in the thousands and that difference disappears in the hit ratio: the default N is
+capacity / MIN_SEGMENT_CAPACITY rounded down to a power of two, at most MAX_DEFAULT_SEGMENTS.
+ */
+public class SegmentedLruCache<K, V> implements Cache<K, V> {
+
+    private static final int MIN_SEGMENT_CAPACITY = 2048;
+    private static final int MAX_DEFAULT_SEGMENTS = 64;
+
+    private final LruCache<K, V>[] segments;
+    private final int mask;
+    private final int capacity;
+
+    public SegmentedLruCache(int capacity) {
+        this(capacity, Math.min(capacity / MIN_SEGMENT_CAPACITY, MAX_DEFAULT_SEGMENTS));
+    }
+
+    public SegmentedLruCache(int capacity, int segments) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        int n = Integer.highestOneBit(Math.max(1, Math.min(segments, capacity)));
+        @SuppressWarnings("unchecked")
+        LruCache<K, V>[] array = (LruCache<K, V>[]) new LruCache<?, ?>[n];
+        this.segments = array;
+        for (int i = 0; i < n; i++) this.segments[i] = new LruCache<>(capacity / n + (i < capacity % n ? 1 : 0));
+        this.mask = n - 1;
+        this.capacity = capacity;
+    }
+
+    private LruCache<K, V> segment(Object key) {
+        int h = key.hashCode() * 0x9E3779B9; // spread: LinkedHashMap uses the low bits, we use the high ones
+        return segments[(h >>> 16) & mask];
+    }
+
+    @Override
+    public V get(K key) {
+        LruCache<K, V> segment = segment(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        LruCache<K, V> segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        LruCache<K, V> segment = segment(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (LruCache<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    public int segments() {
+        return segments.length;
+    }
+
+    // sum over segments, each read under its lock (not one atomic snapshot)
+    @Override
+    public Stats stats() {
+        long hits = 0, misses = 0, evictions = 0;
+        for (LruCache<K, V> segment : segments) {
+            synchronized (segment) {
+                Stats s = segment.stats();
+                hits += s.hits();
+                misses += s.misses();
+                evictions += s.evictions();
+            }
+        }
+        return new Stats(hits, misses, evictions);
+    }
+}
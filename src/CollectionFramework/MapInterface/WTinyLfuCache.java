@@ -0,0 +1,250 @@
+package CollectionFramework.MapInterface;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/*
+W-TinyLFU (Einziger, Friedman, Manes; the policy behind Caffeine), simplified.
+
+    new key -> [ window LRU, 1% ] --evicted--> candidate
+                                                   |  admitted only if sketch says
+                                                   v  freq(candidate) > freq(victim)
+               [ main: probation LRU (20%) -> protected LRU (80%) ]   victim = probation's LRU entry
+
+    sketch   count-min sketch, 4-bit counters, 4 rows: ~8 bytes per cached entry to estimate how often
+             ANY key (cached or not) was requested lately. Every get() counts. After 10 x capacity
+             counts all counters are halved, so old popularity fades.
+
+The window lets a new burst settle in like LRU. The main area only takes keys that are asked for
+more often than what they would replace, so a scan of one-hit keys dies in the window instead of
+flushing the hot set (LruCache's weak spot). A probation entry read again moves to protected.
+
+Differences from Caffeine: fixed window size (no hill climbing), no doorkeeper bloom filter, no
+jitter on admission ties, and one lock (synchronized) instead of buffered, lock-free reads.
+ */
+public class WTinyLfuCache<K, V> implements Cache<K, V> {
+
+    private static final int WINDOW = 0, PROBATION = 1, PROTECTED = 2;
+
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        int queue;
+        Node<K, V> prev, next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // intrusive doubly linked list, least recently used at the head
+    private static final class AccessQueue<K, V> {
+        final Node<K, V> sentinel = new Node<>(null, null);
+        int size;
+
+        AccessQueue() {
+            sentinel.prev = sentinel.next = sentinel;
+        }
+
+        Node<K, V> first() {
+            return sentinel.next == sentinel ? null : sentinel.next;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = sentinel.prev;
+            node.next = sentinel;
+            sentinel.prev.next = node;
+            sentinel.prev = node;
+            size++;
+        }
+
+        void remove(Node<K, V> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = node.next = null;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    private final int capacity;
+    private final int maxWindow;
+    private final int maxProtected;
+    private final HashMap<K, Node<K, V>> data;
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> probation = new AccessQueue<>();
+    private final AccessQueue<K, V> protectedQueue = new AccessQueue<>();
+    private final FrequencySketch sketch;
+    private long hits, misses, evictions;
+
+    public WTinyLfuCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.maxWindow = Math.max(1, capacity / 100);
+        this.maxProtected = (int) ((capacity - maxWindow) * 0.8);
+        this.data = new HashMap<>((int) (capacity / 0.75f) + 2);
+        this.sketch = new FrequencySketch(capacity);
+    }
+
+    @Override
+    public synchronized V get(K key) {
+        sketch.increment(key);
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        onAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public synchronized void put(K key, V value) {
+        Objects.requireNonNull(value);
+        Node<K, V> node = data.get(Objects.requireNonNull(key));
+        if (node != null) {
+            node.value = value;
+            onAccess(node);
+            return;
+        }
+        node = new Node<>(key, value);
+        node.queue = WINDOW;
+        data.put(key, node);
+        window.addLast(node);
+        if (window.size > maxWindow) evictFromWindow();
+    }
+
+    @Override
+    public synchronized V remove(K key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) return null;
+        queue(node.queue).remove(node);
+        return node.value;
+    }
+
+    @Override
+    public synchronized int size() {
+        return data.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions);
+    }
+
+    // estimated recent request count of key, 0..15
+    public synchronized int frequency(K key) {
+        return sketch.frequency(key);
+    }
+
+    private AccessQueue<K, V> queue(int queue) {
+        return queue == WINDOW ? window : queue == PROBATION ? probation : protectedQueue;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROTECTED -> protectedQueue.moveToLast(node);
+            default -> { // read again while on probation: promote
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                if (protectedQueue.size > maxProtected) {
+                    Node<K, V> demoted = protectedQueue.first();
+                    protectedQueue.remove(demoted);
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+        }
+    }
+
+    // the window's LRU entry either joins the main area or is dropped
+    private void evictFromWindow() {
+        Node<K, V> candidate = window.first();
+        window.remove(candidate);
+        if (data.size() <= capacity) { // main area not full yet: everyone gets in
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            return;
+        }
+        Node<K, V> victim = probation.first();
+        if (victim == null) victim = protectedQueue.first();
+        evictions++;
+        if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            queue(victim.queue).remove(victim);
+            data.remove(victim.key);
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+        } else {
+            data.remove(candidate.key);
+        }
+    }
+
+    /*
+     Count-min sketch: 4 rows share one table of 4-bit counters (16 per long). A key's frequency is
+     the minimum of its 4 counters, so collisions can only overestimate. Counters saturate at 15.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+        private final long[] table;
+        private final int counterMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int longs = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1); // next power of two >= capacity
+            this.table = new long[longs];
+            this.counterMask = longs * 16 - 1;
+            this.sampleSize = 10 * Math.max(capacity, 16);
+        }
+
+        private int index(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            return (int) (h >>> 32) & counterMask;
+        }
+
+        void increment(Object key) {
+            int hash = key.hashCode();
+            boolean added = false;
+            for (int row = 0; row < 4; row++) {
+                int i = index(hash, row);
+                int shift = (i & 15) << 2;
+                if (((table[i >>> 4] >>> shift) & 0xF) < 15) {
+                    table[i >>> 4] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) reset();
+        }
+
+        int frequency(Object key) {
+            int hash = key.hashCode();
+            int min = 15;
+            for (int row = 0; row < 4; row++) {
+                int i = index(hash, row);
+                min = Math.min(min, (int) ((table[i >>> 4] >>> ((i & 15) << 2)) & 0xF));
+            }
+            return min;
+        }
+
+        // halve every counter: popularity from long ago counts half as much
+        private void reset() {
+            for (int i = 0; i < table.length; i++) table[i] = (table[i] >>> 1) & RESET_MASK;
+            additions /= 2;
+        }
+    }
+}
@@ -23,6 +23,29 @@ public class WeakHashMapDemo {
 
         System.out.println("After GC hint: " + map);
         System.out.println("Note: entry with collected key MAY disappear.");
+
+        interning();
+    }
+
+    // Interner: the same GC-driven cleanup, for deduplicating equal objects across threads
+    private static void interning() throws InterruptedException {
+        Interner<String> interner = Interner.weak();
+
+        String a = interner.intern(new String("order-status:SHIPPED"));
+        String b = interner.intern(new String("order-status:SHIPPED")); // equal, but a different object
+        System.out.println("same instance after intern: " + (a == b)); // true
+        System.out.println(interner.stats());                           // hits=1 misses=1 cleared=0
+
+        List<String> held = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) held.add(interner.intern("sku-" + (i % 1_000)));
+        System.out.println("100000 strings, distinct instances kept: " + interner.size());
+
+        // drop every canonical instance: the cleaner thread removes the entries, not intern()
+        held.clear();
+        a = b = null;
+        System.gc();
+        Thread.sleep(200);
+        System.out.println("after GC: size=" + interner.size() + " " + interner.stats());
     }
 }
 
@@ -0,0 +1,217 @@
+package CollectionFramework;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Debug mode for the two failure modes of FailFastFailSafeDemo that are hard to chase in production:
+
+    fail-fast   a ConcurrentModificationException says THAT the list changed under an iterator,
+                not WHO changed it: the modifying call has long returned, often on another thread
+    fail-safe   every CopyOnWriteArrayList write copies the whole array; a write loop over a big
+                list (a "copy storm") shows up only as allocation rate and GC time
+
+Create the lists through the factories instead of new ArrayList<>(...) / new CopyOnWriteArrayList<>():
+
+    List<Order> open = ModificationTracer.traced(new ArrayList<>());
+    List<Listener> listeners = ModificationTracer.copyOnWriteList();
+
+    disabled (default)   traced() returns its argument, copyOnWriteList() a plain CopyOnWriteArrayList:
+                         no wrapper, no cost after creation
+    enabled              traced() returns a TracedList: every add / remove / clear / sort ... captures
+                         the calling thread and stack (one Throwable, ~1-2 us). A CME out of its
+                         iterators, forEach and removeIf carries the first modification made after
+                         the iterator was created as its cause, later ones as suppressed
+                         copyOnWriteList() returns a CopyCountingList charged to its allocation site
+                         (Class.method:line): arrays copied, elements copied, and the sites that write
+
+Enable with -DmodificationTracer=true or enable(). Modifications that bypass the wrapper (made on
+the list passed to traced()) cannot be traced; the CME then says so.
+
+Bytes assume 4-byte references (compressed oops, heaps below 32 GB) and a 16-byte array header.
+ */
+public final class ModificationTracer {
+
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private static final ConcurrentHashMap<String, CopySite> COPY_SITES = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = Boolean.getBoolean("modificationTracer");
+
+    private ModificationTracer() {}
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    // forgets every copy site; lists created before keep counting into their (now detached) site
+    public static void reset() {
+        COPY_SITES.clear();
+    }
+
+    // ----------------- factories -----------------
+
+    public static <E> List<E> traced(List<E> list) {
+        Objects.requireNonNull(list);
+        if (!enabled) return list;
+        return new TracedList<>(list);
+    }
+
+    public static <E> CopyOnWriteArrayList<E> copyOnWriteList() {
+        if (!enabled) return new CopyOnWriteArrayList<>();
+        return new CopyCountingList<>(COPY_SITES.computeIfAbsent(callerFrame(), CopySite::new));
+    }
+
+    public static <E> CopyOnWriteArrayList<E> copyOnWriteList(Collection<? extends E> c) {
+        if (!enabled) return new CopyOnWriteArrayList<>(c);
+        return new CopyCountingList<>(c, COPY_SITES.computeIfAbsent(callerFrame(), CopySite::new));
+    }
+
+    // first frame outside the tracer's classes: the code that asked for the list / made the write
+    static String callerFrame() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !isTracerClass(f.getClassName()))
+                .findFirst()
+                .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    private static boolean isTracerClass(String className) {
+        return className.equals(ModificationTracer.class.getName())
+                || className.startsWith(TracedList.class.getName())
+                || className.equals(CopyCountingList.class.getName())
+                || className.equals(CopyOnWriteArrayList.class.getName());
+    }
+
+    // ----------------- fail-fast: who modified the list -----------------
+
+    /*
+    One structural modification through a TracedList: the stack trace is where it was made.
+    Used as the cause (or a suppressed exception) of the ConcurrentModificationException it led to.
+     */
+    public static final class Modification extends Throwable {
+        private static final long serialVersionUID = 1L;
+
+        private final String operation;
+        private final String threadName;
+        private final long threadId;
+        private final int sequence;
+
+        Modification(String operation, int sequence) {
+            this(operation, sequence, Thread.currentThread());
+        }
+
+        private Modification(String operation, int sequence, Thread thread) {
+            super(operation + " by thread \"" + thread.getName() + "\" (id " + thread.threadId()
+                    + ", modification #" + sequence + ")");
+            this.operation = operation;
+            this.threadName = thread.getName();
+            this.threadId = thread.threadId();
+            this.sequence = sequence;
+        }
+
+        public String operation() {
+            return operation;
+        }
+
+        public String threadName() {
+            return threadName;
+        }
+
+        public long threadId() {
+            return threadId;
+        }
+
+        public int sequence() {
+            return sequence;
+        }
+
+        // drops the tracer's own frames from the top; done when a CME is built, not per modification
+        void trimTracerFrames() {
+            StackTraceElement[] frames = getStackTrace();
+            int top = 0;
+            while (top < frames.length - 1 && isTracerClass(frames[top].getClassName())) top++;
+            if (top > 0) setStackTrace(Arrays.copyOfRange(frames, top, frames.length));
+        }
+    }
+
+    // ----------------- fail-safe: what copy-on-write costs -----------------
+
+    static final class CopySite {
+        private final String name;
+        private final LongAdder lists = new LongAdder();
+        private final LongAdder copies = new LongAdder();
+        private final LongAdder copiedElements = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final ConcurrentHashMap<String, LongAdder> writers = new ConcurrentHashMap<>();
+
+        CopySite(String name) {
+            this.name = name;
+        }
+
+        void registered() {
+            lists.increment();
+        }
+
+        void copied(int copied, int newLength) {
+            copies.increment();
+            copiedElements.add(copied);
+            allocatedBytes.add(ARRAY_HEADER_BYTES + (long) newLength * REFERENCE_BYTES);
+        }
+
+        // sampled: charges `copies` copies to the writing call site
+        void writer(String frame, long copies) {
+            writers.computeIfAbsent(frame, k -> new LongAdder()).add(copies);
+        }
+    }
+
+    public record CopyReport(String site, long lists, long copies, long copiedBytes, long allocatedBytes,
+                             String topWriter, long topWriterCopies) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s lists=%d copies=%d copied=%dB allocated=%dB top writer=%s (~%d copies)",
+                    site, lists, copies, copiedBytes, allocatedBytes, topWriter, topWriterCopies);
+        }
+    }
+
+    // one row per allocation site, most bytes copied first
+    public static List<CopyReport> copyReport() {
+        List<CopyReport> rows = new ArrayList<>();
+        for (CopySite site : COPY_SITES.values()) {
+            String topWriter = "-";
+            long topCopies = 0;
+            for (Map.Entry<String, LongAdder> writer : site.writers.entrySet()) {
+                long copies = writer.getValue().sum();
+                if (copies > topCopies) {
+                    topWriter = writer.getKey();
+                    topCopies = copies;
+                }
+            }
+            rows.add(new CopyReport(site.name, site.lists.sum(), site.copies.sum(),
+                    site.copiedElements.sum() * REFERENCE_BYTES, site.allocatedBytes.sum(), topWriter, topCopies));
+        }
+        rows.sort(Comparator.comparingLong(CopyReport::copiedBytes).reversed());
+        return rows;
+    }
+
+    public static void printCopyReport(PrintStream out) {
+        out.printf(Locale.ROOT, "%-56s %6s %9s %11s %14s  %s%n",
+                "Site", "lists", "copies", "copied KB", "allocated KB", "top writer (~copies)");
+        for (CopyReport r : copyReport()) {
+            out.printf(Locale.ROOT, "%-56s %6d %9d %11.1f %14.1f  %s (~%d)%n",
+                    r.site, r.lists, r.copies, r.copiedBytes / 1024.0, r.allocatedBytes / 1024.0,
+                    r.topWriter, r.topWriterCopies);
+        }
+    }
+}
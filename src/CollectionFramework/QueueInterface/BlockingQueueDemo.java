@@ -1,10 +1,16 @@
 package CollectionFramework.QueueInterface;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
 public class BlockingQueueDemo {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
+        // "virtual 100000" or "platform 100000": the same producer/consumer as tasks on an executor
+        if (args.length > 0) {
+            runOnExecutor(args[0], args.length > 1 ? Integer.parseInt(args[1]) : 10_000);
+            return;
+        }
+
         BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(2);
 
         // Producer
@@ -38,5 +44,64 @@ public class BlockingQueueDemo {
         new Thread(producer).start();
         new Thread(consumer).start();
     }
-}
 
+    /*
+     Executor mode: tasks/2 producers and tasks/2 consumers sharing one ArrayBlockingQueue; each
+     producer puts itemsPerTask items, each consumer takes itemsPerTask, with a simulated blocking
+     call (Thread.sleep(ioMillis)) before every put.
+
+     ArrayBlockingQueue blocks on a ReentrantLock condition, so a waiting virtual thread unmounts and
+     frees its carrier (no pinning). Tasks are submitted alternating producer / consumer so that a
+     fixed-size pool always has producers running before the consumers that depend on them.
+     Numbers per mode: Benchmarks.VirtualThreadBenchmarks
+     */
+    public static long runProducersAndConsumers(ExecutorService executor, int tasks, int itemsPerTask,
+                                                int capacity, long ioMillis) throws InterruptedException {
+        BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(capacity);
+        int pairs = Math.max(1, tasks / 2);
+        CountDownLatch done = new CountDownLatch(2 * pairs);
+        LongAdder consumed = new LongAdder();
+        Runnable producer = () -> {
+            try {
+                for (int i = 0; i < itemsPerTask; i++) {
+                    if (ioMillis > 0) Thread.sleep(ioMillis);
+                    queue.put(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        };
+        Runnable consumer = () -> {
+            try {
+                for (int i = 0; i < itemsPerTask; i++) {
+                    queue.take();
+                    consumed.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        };
+        for (int p = 0; p < pairs; p++) {
+            executor.execute(producer);
+            executor.execute(consumer);
+        }
+        done.await();
+        return consumed.sum();
+    }
+
+    private static void runOnExecutor(String mode, int tasks) throws InterruptedException {
+        long start = System.nanoTime();
+        long items;
+        try (ExecutorService executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200)) {
+            items = runProducersAndConsumers(executor, tasks, 10, 1024, 1);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(mode + ": " + tasks + " tasks, " + items + " items through the queue in " + millis + " ms");
+    }
+}
@@ -0,0 +1,380 @@
+package CollectionFramework.QueueInterface;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/*
+One pipeline stage: any number of producers submit(), N consumer threads take items in batches
+and hand each batch to a handler.
+
+    queue type     ARRAY_BLOCKING   ArrayBlockingQueue: one lock shared by producers AND consumers
+                   LINKED_BLOCKING  LinkedBlockingQueue: separate put/take locks, a node per item
+                   LINKED_TRANSFER  LinkedTransferQueue: lock-free but unbounded -> bounded here by a Semaphore
+                   RING_BUFFER      MpmcRingBuffer: lock-free, preallocated (capacity rounded up to 2^n)
+    backpressure   BLOCK            submit() waits for space
+                   DROP_OLDEST      submit() evicts the oldest queued item (counted in dropped())
+                   REJECT           submit() returns false (counted in rejected())
+
+Consumers use drainTo(batch, batchSize): one lock acquisition (or one pass over the ring) for up to
+batchSize items instead of one take() per item. A handler that throws fails only its batch: the
+items are counted in failed(), the exception goes to the onError callback and the consumer moves on.
+close() stops accepting items, lets the consumers finish what is queued and joins them;
+awaitTermination(..) waits with a timeout instead. A submit() racing with close() either fails with
+IllegalStateException or its item is processed: consumers keep running until no submit() is in flight.
+Interrupting a consumer thread closes the pipeline the same way. Consumers are daemon threads, so a
+pipeline that is never closed does not keep the JVM alive (but then queued items may be lost at exit).
+ */
+public class BoundedPipeline<T> implements AutoCloseable {
+
+    public enum QueueType { ARRAY_BLOCKING, LINKED_BLOCKING, LINKED_TRANSFER, RING_BUFFER }
+
+    public enum Backpressure { BLOCK, DROP_OLDEST, REJECT }
+
+    public static class Config {
+        private int capacity = 1024;
+        private int consumers = 1;
+        private int batchSize = 64;
+        private QueueType queueType = QueueType.ARRAY_BLOCKING;
+        private Backpressure backpressure = Backpressure.BLOCK;
+        private Consumer<? super RuntimeException> onError = e -> { };
+
+        public Config capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Config consumers(int consumers) {
+            this.consumers = consumers;
+            return this;
+        }
+
+        public Config batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Config queueType(QueueType queueType) {
+            this.queueType = queueType;
+            return this;
+        }
+
+        public Config backpressure(Backpressure backpressure) {
+            this.backpressure = backpressure;
+            return this;
+        }
+
+        // called on the consumer thread with whatever the handler threw
+        public Config onError(Consumer<? super RuntimeException> onError) {
+            this.onError = onError;
+            return this;
+        }
+    }
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1); // bounds how late close() is noticed
+
+    private final Channel<T> channel;
+    private final Backpressure backpressure;
+    private final int batchSize;
+    private final Consumer<? super List<T>> handler;
+    private final Consumer<? super RuntimeException> onError;
+    private final Thread[] consumers;
+    private volatile boolean closed;
+    private final AtomicInteger inFlight = new AtomicInteger(); // submit() calls past the closed check
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    // handler is called on consumer threads with a batch list that is reused: copy it to keep items
+    public BoundedPipeline(Config config, Consumer<? super List<T>> handler) {
+        if (config.capacity < 2 || config.consumers < 1 || config.batchSize < 1) {
+            throw new IllegalArgumentException("capacity >= 2, consumers >= 1 and batchSize >= 1 required");
+        }
+        this.channel = channel(config.queueType, config.capacity);
+        this.backpressure = Objects.requireNonNull(config.backpressure);
+        this.batchSize = config.batchSize;
+        this.handler = Objects.requireNonNull(handler);
+        this.onError = Objects.requireNonNull(config.onError);
+        this.consumers = new Thread[config.consumers];
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i] = new Thread(this::consumeLoop, "pipeline-consumer-" + i);
+            consumers[i].setDaemon(true);
+            consumers[i].start();
+        }
+    }
+
+    // ----------------- producer side -----------------
+    // false only with REJECT when the queue is full
+    public boolean submit(T item) throws InterruptedException {
+        Objects.requireNonNull(item);
+        // counted BEFORE the closed check: a consumer that sees closed && inFlight == 0 knows nothing
+        // more can be enqueued
+        inFlight.incrementAndGet();
+        try {
+            if (closed) throw new IllegalStateException("Pipeline is closed");
+            switch (backpressure) {
+                case BLOCK -> channel.put(item);
+                case REJECT -> {
+                    if (!channel.offer(item)) {
+                        rejected.increment();
+                        return false;
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!channel.offer(item)) {
+                        if (channel.poll() != null) dropped.increment();
+                    }
+                }
+            }
+            submitted.increment();
+            return true;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public long submitted() {
+        return submitted.sum();
+    }
+
+    public long processed() {
+        return processed.sum();
+    }
+
+    // items in batches whose handler threw
+    public long failed() {
+        return failed.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public int queued() {
+        return channel.size();
+    }
+
+    // ----------------- consumer side -----------------
+    private void consumeLoop() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (true) {
+            int n = channel.drainTo(batch, batchSize);
+            if (n == 0) {
+                if (closed && inFlight.get() == 0 && channel.size() == 0) return;
+                // queue empty: wait for one item, then take whatever else arrived with it
+                T first = channel.poll(IDLE_WAIT_NANOS);
+                if (first == null) {
+                    // interrupted: shut down instead of re-polling (an interrupted poll returns at once,
+                    // so looping would spin); the loop exits once the in-flight submits are drained
+                    if (Thread.currentThread().isInterrupted()) closed = true;
+                    continue;
+                }
+                batch.add(first);
+                n = 1 + channel.drainTo(batch, batchSize - 1);
+            }
+            try {
+                handler.accept(batch);
+                processed.add(n);
+            } catch (RuntimeException e) {
+                failed.add(n);
+                try {
+                    onError.accept(e);
+                } catch (RuntimeException ignored) {
+                    // a failing callback must not kill the consumer either
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // stop accepting, drain what is queued, join consumers; if interrupted, returns early with the flag set
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            for (Thread consumer : consumers) {
+                consumer.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // stop accepting and wait up to timeout for the consumers to drain the queue; false on timeout
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        closed = true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Thread consumer : consumers) {
+            if (!consumer.join(Duration.ofNanos(deadline - System.nanoTime()))) return false; // <= 0: no wait
+        }
+        return true;
+    }
+
+    // ----------------- queue adapters -----------------
+    private interface Channel<T> {
+        void put(T item) throws InterruptedException;
+        boolean offer(T item);
+        T poll();
+        T poll(long nanos);             // waits up to nanos; null on timeout / interrupt
+        int drainTo(List<T> batch, int max);
+        int size();
+    }
+
+    private static <T> Channel<T> channel(QueueType type, int capacity) {
+        return switch (type) {
+            case ARRAY_BLOCKING -> new BlockingChannel<>(new ArrayBlockingQueue<>(capacity));
+            case LINKED_BLOCKING -> new BlockingChannel<>(new LinkedBlockingQueue<>(capacity));
+            case LINKED_TRANSFER -> new SemaphoreBoundedChannel<>(new LinkedTransferQueue<>(), capacity);
+            case RING_BUFFER -> new RingChannel<>(new MpmcRingBuffer<>(capacity));
+        };
+    }
+
+    private static class BlockingChannel<T> implements Channel<T> {
+        private final BlockingQueue<T> queue;
+
+        BlockingChannel(BlockingQueue<T> queue) {
+            this.queue = queue;
+        }
+
+        public void put(T item) throws InterruptedException {
+            queue.put(item);
+        }
+
+        public boolean offer(T item) {
+            return queue.offer(item);
+        }
+
+        public T poll() {
+            return queue.poll();
+        }
+
+        public T poll(long nanos) {
+            try {
+                return queue.poll(nanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        public int drainTo(List<T> batch, int max) {
+            return queue.drainTo(batch, max);
+        }
+
+        public int size() {
+            return queue.size();
+        }
+    }
+
+    // LinkedTransferQueue has no capacity; permits = free slots
+    private static final class SemaphoreBoundedChannel<T> extends BlockingChannel<T> {
+        private final Semaphore free;
+
+        SemaphoreBoundedChannel(BlockingQueue<T> queue, int capacity) {
+            super(queue);
+            this.free = new Semaphore(capacity);
+        }
+
+        @Override
+        public void put(T item) throws InterruptedException {
+            free.acquire();
+            super.put(item);
+        }
+
+        @Override
+        public boolean offer(T item) {
+            if (!free.tryAcquire()) return false;
+            super.offer(item);
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            T item = super.poll();
+            if (item != null) free.release();
+            return item;
+        }
+
+        @Override
+        public T poll(long nanos) {
+            T item = super.poll(nanos);
+            if (item != null) free.release();
+            return item;
+        }
+
+        @Override
+        public int drainTo(List<T> batch, int max) {
+            int n = super.drainTo(batch, max);
+            if (n > 0) free.release(n);
+            return n;
+        }
+    }
+
+    private static final class RingChannel<T> implements Channel<T> {
+        private final MpmcRingBuffer<T> ring;
+
+        RingChannel(MpmcRingBuffer<T> ring) {
+            this.ring = ring;
+        }
+
+        // spin, then yield, then park: the ring has no wait/notify, so a full queue is waited out
+        public void put(T item) throws InterruptedException {
+            int idle = 0;
+            while (!ring.offer(item)) {
+                if (Thread.interrupted()) throw new InterruptedException();
+                idle = backoff(idle);
+            }
+        }
+
+        public boolean offer(T item) {
+            return ring.offer(item);
+        }
+
+        public T poll() {
+            return ring.poll();
+        }
+
+        public T poll(long nanos) {
+            long deadline = System.nanoTime() + nanos;
+            int idle = 0;
+            T item;
+            while ((item = ring.poll()) == null && System.nanoTime() < deadline) {
+                idle = backoff(idle);
+            }
+            return item;
+        }
+
+        public int drainTo(List<T> batch, int max) {
+            return ring.drain(batch::add, max);
+        }
+
+        public int size() {
+            return ring.size();
+        }
+    }
+
+    private static int backoff(int idle) {
+        if (idle < 100) {
+            Thread.onSpinWait();
+        } else if (idle < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000);
+        }
+        return idle + 1;
+    }
+}
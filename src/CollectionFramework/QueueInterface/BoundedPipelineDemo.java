@@ -0,0 +1,56 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BoundedPipelineDemo {
+
+    public static void main(String[] args) throws InterruptedException {
+        int producers = 4;
+        int perProducer = 250_000;
+
+        for (BoundedPipeline.QueueType type : BoundedPipeline.QueueType.values()) {
+            AtomicLong sum = new AtomicLong();
+            BoundedPipeline.Config config = new BoundedPipeline.Config()
+                    .capacity(1024).consumers(2).batchSize(128).queueType(type);
+
+            long start = System.nanoTime();
+            BoundedPipeline<Integer> pipeline = new BoundedPipeline<>(config, batch -> {
+                long local = 0;
+                for (Integer i : batch) local += i;
+                sum.addAndGet(local); // one atomic update per batch, not per item
+            });
+            Thread[] threads = new Thread[producers];
+            for (int p = 0; p < producers; p++) {
+                threads[p] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < perProducer; i++) pipeline.submit(i & 1023);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                threads[p].start();
+            }
+            for (Thread t : threads) t.join();
+            pipeline.close();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(type + ": processed=" + pipeline.processed() + " sum=" + sum + " in " + millis + " ms");
+        }
+
+        // Backpressure: a slow consumer and a producer that never waits
+        for (BoundedPipeline.Backpressure policy : BoundedPipeline.Backpressure.values()) {
+            BoundedPipeline.Config config = new BoundedPipeline.Config()
+                    .capacity(16).batchSize(4).backpressure(policy);
+            BoundedPipeline<Integer> pipeline = new BoundedPipeline<>(config, batch -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            for (int i = 0; i < 1_000; i++) pipeline.submit(i);
+            pipeline.close();
+            System.out.println(policy + ": submitted=" + pipeline.submitted() + " processed=" + pipeline.processed()
+                    + " dropped=" + pipeline.dropped() + " rejected=" + pipeline.rejected());
+        }
+    }
+}
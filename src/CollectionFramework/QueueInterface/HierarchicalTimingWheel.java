@@ -0,0 +1,292 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/*
+Hierarchical hashed timing wheel (the Linux kernel / Kafka / Netty timer layout) for huge numbers
+of timeouts that are mostly cancelled before they fire (connection, request, idle timeouts).
+
+Time is cut into ticks. Level 0 has wheelSize buckets of one tick each, level 1 has wheelSize
+buckets of wheelSize ticks each, and so on:
+
+    level 0   bucket = deadlineTick & mask                     deadlines in the next wheelSize ticks
+    level 1   bucket = (deadlineTick >> bits) & mask           ... next wheelSize^2 ticks
+    level l   bucket = (deadlineTick >> l * bits) & mask       ... next wheelSize^(l+1) ticks
+
+A bucket is an intrusive doubly linked list of Timeouts, so:
+
+    schedule   O(1)   pick level + bucket, link at the head
+    cancel     O(1)   unlink through the Timeout's own prev / next
+    tick       O(1) amortized: run level 0's current bucket; when level 0 wraps around, level 1's
+               current bucket is cascaded (each timeout re-inserted one level lower), and so on up
+
+PriorityQueue / DelayQueue pay O(log n) per offer and poll, and O(n) for remove(Object).
+
+Precision is one tick: a timeout fires on the first tick at or after its deadline, never early.
+Deadlines beyond wheelSize^levels ticks wait in the top level and are re-inserted on every cascade
+until they are in range.
+
+Expired tasks run on the thread calling advanceTo (the driver thread from start()), outside the
+lock, so they must be short: hand real work to an executor. One lock guards the wheel; schedule and
+cancel only link / unlink a node while holding it.
+ */
+public class HierarchicalTimingWheel implements AutoCloseable {
+
+    private static final int PENDING = 0, CANCELLED = 1, EXPIRED = 2;
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 2; // ~73 years, keeps tick math overflow-free
+
+    public static final class Timeout {
+        private final HierarchicalTimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final long deadlineTick;
+        private volatile int state = PENDING;
+        // guarded by the wheel's lock
+        private Timeout prev, next;
+        private int bucket = -1;
+
+        private Timeout(HierarchicalTimingWheel wheel, Runnable task, long deadlineNanos, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.deadlineTick = deadlineTick;
+        }
+
+        // false if the timeout already fired or was cancelled
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        // in the wheel clock's time base (System.nanoTime() by default)
+        public long deadlineNanos() {
+            return deadlineNanos;
+        }
+
+        public Runnable task() {
+            return task;
+        }
+    }
+
+    private final long tickNanos;
+    private final int wheelSize;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Timeout[] buckets; // level l, bucket b -> buckets[l * wheelSize + b]
+    private final LongSupplier clock;
+    private final long startNanos;
+
+    private long currentTick;
+    private int pending;
+    private Thread driver;
+    private volatile boolean closed;
+
+    public HierarchicalTimingWheel(long tick, TimeUnit unit, int wheelSize, int levels) {
+        this(tick, unit, wheelSize, levels, System::nanoTime);
+    }
+
+    // clock: a nanoTime-like source; pass a manual one to drive the wheel with advanceTo in tests / benchmarks
+    public HierarchicalTimingWheel(long tick, TimeUnit unit, int wheelSize, int levels, LongSupplier clock) {
+        if (tick <= 0) throw new IllegalArgumentException("Tick must be > 0: " + tick);
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two >= 2: " + wheelSize);
+        }
+        int bits = Integer.numberOfTrailingZeros(wheelSize);
+        if (levels < 1 || (long) bits * levels > 60) {
+            throw new IllegalArgumentException("Levels must be in 1.." + 60 / bits + ": " + levels);
+        }
+        this.tickNanos = unit.toNanos(tick);
+        this.wheelSize = wheelSize;
+        this.bits = bits;
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.buckets = new Timeout[wheelSize * levels];
+        this.clock = Objects.requireNonNull(clock);
+        this.startNanos = clock.getAsLong();
+    }
+
+    // ----------------- schedule / cancel -----------------
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task);
+        long delayNanos = Math.min(unit.toNanos(Math.max(0, delay)), MAX_DELAY_NANOS);
+        long now = clock.getAsLong();
+        long deadlineTick = (now - startNanos + delayNanos + tickNanos - 1) / tickNanos; // round up: never early
+        Timeout timeout = new Timeout(this, task, now + delayNanos, deadlineTick);
+        synchronized (this) {
+            if (closed) throw new IllegalStateException("Timing wheel is closed");
+            insert(timeout, currentTick + 1);
+            pending++;
+        }
+        return timeout;
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.state != PENDING) return false;
+        timeout.state = CANCELLED;
+        unlink(timeout);
+        pending--;
+        return true;
+    }
+
+    public synchronized int pending() {
+        return pending;
+    }
+
+    public long tickNanos() {
+        return tickNanos;
+    }
+
+    // ----------------- driving -----------------
+    // runs every tick up to nowNanos (same time base as the clock) and the tasks that expire on it
+    public void advanceTo(long nowNanos) {
+        long target = (nowNanos - startNanos) / tickNanos;
+        while (true) {
+            Timeout expired;
+            synchronized (this) {
+                if (currentTick >= target) return;
+                if (pending == 0) { // nothing can fire: jump straight there
+                    currentTick = target;
+                    return;
+                }
+                expired = tick();
+            }
+            for (Timeout t = expired; t != null; ) {
+                Timeout next = t.next;
+                t.next = null;
+                run(t.task);
+                t = next;
+            }
+        }
+    }
+
+    // starts a daemon thread that advances the wheel once per tick
+    public synchronized HierarchicalTimingWheel start() {
+        if (closed) throw new IllegalStateException("Timing wheel is closed");
+        if (driver == null) {
+            driver = new Thread(this::drive, "timing-wheel");
+            driver.setDaemon(true);
+            driver.start();
+        }
+        return this;
+    }
+
+    // stops the driver; pending timeouts never fire
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            thread = driver;
+        }
+        if (thread == null || thread == Thread.currentThread()) return;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drive() {
+        while (!closed) {
+            long now = clock.getAsLong();
+            advanceTo(now);
+            long nextTick = (now - startNanos) / tickNanos + 1;
+            LockSupport.parkNanos(startNanos + nextTick * tickNanos - clock.getAsLong());
+        }
+    }
+
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e); // keep the driver alive
+        }
+    }
+
+    // ----------------- internals (hold the lock) -----------------
+    // advances one tick; returns the expired timeouts chained through next
+    private Timeout tick() {
+        long now = ++currentTick;
+        for (int level = 1; level < levels; level++) {
+            int shift = bits * level;
+            if ((now & ((1L << shift) - 1)) != 0) break; // level below has not wrapped around
+            Timeout t = detach(level * wheelSize + (int) ((now >>> shift) & mask));
+            while (t != null) {
+                Timeout next = t.next;
+                t.next = null;
+                insert(t, now); // lands lower down; deadline == now goes into the bucket expired below
+                t = next;
+            }
+        }
+
+        Timeout expired = null;
+        Timeout t = detach((int) (now & mask));
+        while (t != null) {
+            Timeout next = t.next;
+            if (t.deadlineTick <= now) {
+                t.state = EXPIRED;
+                pending--;
+                t.next = expired;
+                expired = t;
+            } else {
+                t.next = null;
+                insert(t, now + 1);
+            }
+            t = next;
+        }
+        return expired;
+    }
+
+    // minTick: deadlines already behind it go into minTick's bucket
+    private void insert(Timeout timeout, long minTick) {
+        long tick = Math.max(timeout.deadlineTick, minTick);
+        long range = 1L << (bits * levels);
+        if (tick - currentTick >= range) tick = currentTick + range - 1; // out of range: furthest top-level bucket
+        long delta = tick - currentTick;
+        int level = 0;
+        while (delta >= 1L << (bits * (level + 1))) level++;
+        link(timeout, level * wheelSize + (int) ((tick >>> (bits * level)) & mask));
+    }
+
+    private void link(Timeout timeout, int bucket) {
+        Timeout head = buckets[bucket];
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) head.prev = timeout;
+        buckets[bucket] = timeout;
+        timeout.bucket = bucket;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) timeout.prev.next = timeout.next;
+        else buckets[timeout.bucket] = timeout.next;
+        if (timeout.next != null) timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    // empties a bucket; returns its timeouts chained through next (prev / bucket cleared)
+    private Timeout detach(int bucket) {
+        Timeout head = buckets[bucket];
+        buckets[bucket] = null;
+        for (Timeout t = head; t != null; t = t.next) {
+            t.prev = null;
+            t.bucket = -1;
+        }
+        return head;
+    }
+}
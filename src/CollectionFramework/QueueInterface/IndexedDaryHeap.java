@@ -0,0 +1,203 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.*;
+
+/*
+Min-heap (by comparator) with handles, for priorities that change while queued.
+
+java.util.PriorityQueue has no way to find an element's slot, so remove(Object) and "change the
+priority" (remove + add) scan the whole array: O(n). Here every element lives in an Entry that
+remembers its current array index, which the heap updates on every move. With the entry in hand:
+
+    update(entry, newValue)   O(log n)  sift up or down from the entry's slot
+    remove(entry)             O(log n)  move the last element into the slot, then sift
+    poll / add                O(log n)
+
+The heap is 4-ary (children of i at 4i+1 .. 4i+4): half the depth of a binary heap, and the four
+children are adjacent in the array, so a sift-down touches fewer cache lines.
+Not thread-safe.
+ */
+public class IndexedDaryHeap<E> {
+
+    private static final int ARITY_SHIFT = 2; // 4 children per node
+
+    public static final class Entry<E> {
+        private E value;
+        private int index;
+
+        private Entry(E value, int index) {
+            this.value = value;
+            this.index = index;
+        }
+
+        public E value() {
+            return value;
+        }
+
+        // false once polled or removed
+        public boolean isQueued() {
+            return index >= 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+
+    private final Comparator<? super E> comparator;
+    private Entry<E>[] heap;
+    private int size;
+
+    public IndexedDaryHeap(Comparator<? super E> comparator) {
+        this(comparator, 16);
+    }
+
+    public IndexedDaryHeap(Comparator<? super E> comparator, int initialCapacity) {
+        this.comparator = Objects.requireNonNull(comparator);
+        @SuppressWarnings("unchecked")
+        Entry<E>[] heap = (Entry<E>[]) new Entry<?>[Math.max(1, initialCapacity)];
+        this.heap = heap;
+    }
+
+    public static <E extends Comparable<? super E>> IndexedDaryHeap<E> natural() {
+        return new IndexedDaryHeap<>(Comparator.naturalOrder());
+    }
+
+    // ----------------- queue operations -----------------
+    public Entry<E> add(E value) {
+        Objects.requireNonNull(value);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length + (heap.length >> 1) + 1);
+        }
+        Entry<E> entry = new Entry<>(value, size);
+        heap[size++] = entry;
+        siftUp(entry.index);
+        return entry;
+    }
+
+    public E peek() {
+        return size == 0 ? null : heap[0].value;
+    }
+
+    public Entry<E> peekEntry() {
+        return size == 0 ? null : heap[0];
+    }
+
+    public E poll() {
+        if (size == 0) return null;
+        Entry<E> top = heap[0];
+        removeAt(0);
+        return top.value;
+    }
+
+    // ----------------- handle operations -----------------
+    // replaces the entry's value and restores heap order (decrease-key or increase-key)
+    public void update(Entry<E> entry, E newValue) {
+        Objects.requireNonNull(newValue);
+        checkQueued(entry);
+        E old = entry.value;
+        entry.value = newValue;
+        if (comparator.compare(newValue, old) < 0) siftUp(entry.index);
+        else siftDown(entry.index);
+    }
+
+    // re-positions after the caller mutated the value in place (e.g. a mutable task's deadline)
+    public void changed(Entry<E> entry) {
+        checkQueued(entry);
+        int i = entry.index;
+        siftUp(i);
+        if (entry.index == i) siftDown(i);
+    }
+
+    public boolean remove(Entry<E> entry) {
+        if (entry.index < 0 || entry.index >= size || heap[entry.index] != entry) return false;
+        removeAt(entry.index);
+        return true;
+    }
+
+    public boolean contains(Entry<E> entry) {
+        return entry.index >= 0 && entry.index < size && heap[entry.index] == entry;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i].index = -1;
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    // values in heap-array order (like PriorityQueue.toString)
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) joiner.add(String.valueOf(heap[i].value));
+        return joiner.toString();
+    }
+
+    // ----------------- internals -----------------
+    private void checkQueued(Entry<E> entry) {
+        if (!contains(entry)) {
+            throw new NoSuchElementException("Entry is not in this heap: " + entry);
+        }
+    }
+
+    private void removeAt(int i) {
+        Entry<E> removed = heap[i];
+        removed.index = -1;
+        int last = --size;
+        if (i != last) {
+            Entry<E> moved = heap[last];
+            heap[i] = moved;
+            moved.index = i;
+            heap[last] = null;
+            siftUp(i);
+            if (moved.index == i) siftDown(i);
+        } else {
+            heap[last] = null;
+        }
+    }
+
+    // hole technique: shift parents down into the hole, place the entry once
+    private void siftUp(int i) {
+        Entry<E> entry = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> ARITY_SHIFT;
+            Entry<E> p = heap[parent];
+            if (comparator.compare(entry.value, p.value) >= 0) break;
+            heap[i] = p;
+            p.index = i;
+            i = parent;
+        }
+        heap[i] = entry;
+        entry.index = i;
+    }
+
+    private void siftDown(int i) {
+        Entry<E> entry = heap[i];
+        while (true) {
+            int first = (i << ARITY_SHIFT) + 1;
+            if (first >= size) break;
+            int last = Math.min(first + (1 << ARITY_SHIFT), size);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (comparator.compare(heap[c].value, heap[best].value) < 0) best = c;
+            }
+            if (comparator.compare(heap[best].value, entry.value) >= 0) break;
+            heap[i] = heap[best];
+            heap[i].index = i;
+            i = best;
+        }
+        heap[i] = entry;
+        entry.index = i;
+    }
+}
@@ -0,0 +1,37 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.Comparator;
+
+public class IndexedHeapDemo {
+
+    record Task(String name, long deadline) {}
+
+    public static void main(String[] args) {
+        // Generic heap: keep the Entry handle to re-prioritize or cancel later
+        IndexedDaryHeap<Task> heap = new IndexedDaryHeap<>(Comparator.comparingLong(Task::deadline));
+        IndexedDaryHeap.Entry<Task> backup = heap.add(new Task("backup", 300));
+        IndexedDaryHeap.Entry<Task> report = heap.add(new Task("report", 200));
+        heap.add(new Task("email", 100));
+        IndexedDaryHeap.Entry<Task> cleanup = heap.add(new Task("cleanup", 400));
+        System.out.println("Heap: " + heap);
+
+        heap.update(backup, new Task("backup", 50));    // decrease-key: O(log n), no scan
+        heap.update(report, new Task("report", 500));   // increase-key
+        heap.remove(cleanup);                           // cancel by handle: O(log n)
+        System.out.println("cleanup still queued? " + cleanup.isQueued()); // false
+
+        while (!heap.isEmpty()) {
+            System.out.println("poll(): " + heap.poll()); // backup(50), email(100), report(500)
+        }
+
+        // Primitive heap: ids 0..capacity-1, long priorities, no objects at all
+        IndexedLongHeap timers = new IndexedLongHeap(8);
+        timers.add(3, 30);
+        timers.add(5, 10);
+        timers.add(1, 20);
+        timers.update(3, 5);    // id 3 is now the earliest
+        timers.remove(1);
+        System.out.println("peek: id " + timers.peekId() + " at " + timers.peekPriority()); // id 3 at 5
+        System.out.println("poll: " + timers.poll() + ", then " + timers.poll());        // 3, then 5
+    }
+}
@@ -0,0 +1,179 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/*
+Primitive variant of IndexedDaryHeap: int ids in [0, capacity) with long priorities, smallest first.
+Meant for schedulers where tasks already have dense ids (array index, slot number).
+
+    int[]  ids        heap order: ids[i] is the id stored in slot i
+    long[] priorities heap order, next to ids so a sift compares without chasing pointers
+    int[]  position   by id: slot of the id, -1 if not queued
+
+No Entry objects, no boxing, no allocation after construction (arrays are sized by capacity).
+Same 4-ary layout and O(log n) decrease/increase-key and remove(id) as IndexedDaryHeap.
+Not thread-safe.
+ */
+public class IndexedLongHeap {
+
+    private static final int ARITY_SHIFT = 2;
+
+    private final int[] ids;
+    private final long[] priorities;
+    private final int[] position;
+    private int size;
+
+    public IndexedLongHeap(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must be >= 0: " + capacity);
+        this.ids = new int[capacity];
+        this.priorities = new long[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int capacity() {
+        return position.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return position[checkId(id)] >= 0;
+    }
+
+    // ----------------- queue operations -----------------
+    public void add(int id, long priority) {
+        if (position[checkId(id)] >= 0) {
+            throw new IllegalArgumentException("Id already queued: " + id);
+        }
+        int i = size++;
+        ids[i] = id;
+        priorities[i] = priority;
+        position[id] = i;
+        siftUp(i);
+    }
+
+    public int peekId() {
+        if (size == 0) throw new NoSuchElementException();
+        return ids[0];
+    }
+
+    public long peekPriority() {
+        if (size == 0) throw new NoSuchElementException();
+        return priorities[0];
+    }
+
+    // removes the smallest; returns its id
+    public int poll() {
+        if (size == 0) throw new NoSuchElementException();
+        int id = ids[0];
+        removeAt(0);
+        return id;
+    }
+
+    // ----------------- by id -----------------
+    public long priority(int id) {
+        int i = position[checkId(id)];
+        if (i < 0) throw new NoSuchElementException("Id not queued: " + id);
+        return priorities[i];
+    }
+
+    // decrease-key or increase-key
+    public void update(int id, long priority) {
+        int i = position[checkId(id)];
+        if (i < 0) throw new NoSuchElementException("Id not queued: " + id);
+        long old = priorities[i];
+        priorities[i] = priority;
+        if (priority < old) siftUp(i);
+        else if (priority > old) siftDown(i);
+    }
+
+    // add if absent, otherwise update
+    public void upsert(int id, long priority) {
+        if (position[checkId(id)] >= 0) update(id, priority);
+        else add(id, priority);
+    }
+
+    public boolean remove(int id) {
+        int i = position[checkId(id)];
+        if (i < 0) return false;
+        removeAt(i);
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) position[ids[i]] = -1;
+        size = 0;
+    }
+
+    // ----------------- internals -----------------
+    private int checkId(int id) {
+        if (id < 0 || id >= position.length) {
+            throw new IndexOutOfBoundsException("Id " + id + ", capacity " + position.length);
+        }
+        return id;
+    }
+
+    private void removeAt(int i) {
+        position[ids[i]] = -1;
+        int last = --size;
+        if (i == last) return;
+        int moved = ids[last];
+        place(i, moved, priorities[last]);
+        siftUp(i);
+        if (position[moved] == i) siftDown(i); // did not move up, so it may have to move down
+    }
+
+    private void siftUp(int i) {
+        int id = ids[i];
+        long priority = priorities[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> ARITY_SHIFT;
+            if (priority >= priorities[parent]) break;
+            move(parent, i);
+            i = parent;
+        }
+        place(i, id, priority);
+    }
+
+    private void siftDown(int i) {
+        int id = ids[i];
+        long priority = priorities[i];
+        while (true) {
+            int first = (i << ARITY_SHIFT) + 1;
+            if (first >= size) break;
+            int last = Math.min(first + (1 << ARITY_SHIFT), size);
+            int best = first;
+            long bestPriority = priorities[first];
+            for (int c = first + 1; c < last; c++) {
+                if (priorities[c] < bestPriority) {
+                    best = c;
+                    bestPriority = priorities[c];
+                }
+            }
+            if (bestPriority >= priority) break;
+            move(best, i);
+            i = best;
+        }
+        place(i, id, priority);
+    }
+
+    private void move(int from, int to) {
+        ids[to] = ids[from];
+        priorities[to] = priorities[from];
+        position[ids[to]] = to;
+    }
+
+    private void place(int i, int id, long priority) {
+        ids[i] = id;
+        priorities[i] = priority;
+        position[id] = i;
+    }
+}
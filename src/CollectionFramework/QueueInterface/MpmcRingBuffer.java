@@ -0,0 +1,138 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/*
+Bounded lock-free multi-producer / multi-consumer queue over a power-of-two array
+(Dmitry Vyukov's bounded MPMC queue).
+
+Every slot carries a sequence number that says whose turn it is:
+    sequence == pos        slot is free for the producer that claims position pos
+    sequence == pos + 1    slot holds the element of position pos, ready for a consumer
+Producers claim a position with a CAS on 'tail', write the element, then publish it by storing the
+sequence (release). Consumers do the same on 'head'. No lock, and producers only contend with
+producers, consumers with consumers — unlike ArrayBlockingQueue, where both sides share one lock.
+
+offer() returns false when full and poll() returns null when empty; waiting is the caller's job
+(see BoundedPipeline). Null elements are not allowed.
+ */
+public class MpmcRingBuffer<E> extends AbstractQueue<E> {
+
+    private final E[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // next position to write
+    private final AtomicLong head = new AtomicLong(); // next position to read
+
+    @SuppressWarnings("unchecked")
+    public MpmcRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be >= 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1; // round up to a power of two
+        this.buffer = (E[]) new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long pos = tail.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer[index] = e;
+                    sequences.setRelease(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // the slot still holds an element from one lap ago: full
+            } else {
+                pos = tail.get(); // another producer took this position
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.getAcquire(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E e = buffer[index];
+                    buffer[index] = null;
+                    sequences.setRelease(index, pos + buffer.length); // free for the next lap
+                    return e;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null; // not yet published: empty
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    // polls up to 'limit' elements into the action; returns how many were taken
+    public int drain(Consumer<? super E> action, int limit) {
+        int n = 0;
+        E e;
+        while (n < limit && (e = poll()) != null) {
+            action.accept(e);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public E peek() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            if (sequences.getAcquire(index) != pos + 1) return null;
+            E e = buffer[index];
+            if (head.get() == pos && e != null) return e; // still the head, so e was not consumed meanwhile
+        }
+    }
+
+    // approximate under concurrency, exact when quiescent
+    @Override
+    public int size() {
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.max(0, Math.min(buffer.length, t - h));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // weakly consistent snapshot of the elements published at the time of the call; remove() unsupported
+    @Override
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        long h = head.get();
+        long t = tail.get();
+        for (long pos = h; pos < t; pos++) {
+            int index = (int) pos & mask;
+            E e = buffer[index];
+            if (sequences.getAcquire(index) == pos + 1 && e != null) snapshot.add(e);
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+}
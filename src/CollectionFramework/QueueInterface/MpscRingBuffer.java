@@ -0,0 +1,149 @@
+package CollectionFramework.QueueInterface;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/*
+Bounded multi-producer / single-consumer queue: any number of threads may offer, exactly ONE thread
+may poll / peek / drain.
+
+Producers claim positions with a CAS on 'tail' and then publish the element itself with a release
+store into its slot; the consumer treats a non-null slot as "published". A slot that is claimed but
+not yet written (producer preempted between CAS and store) makes poll() spin briefly, because the
+queue is not empty. The consumer frees slots with a release store of 'head' (lazySet), no CAS.
+
+producerLimit (head + capacity) is shared by the producers and written racily: every value ever
+written was a valid limit at the time and head only grows, so a stale value is merely conservative.
+
+Same padded layout as SpscRingBuffer (RingBufferLayout). Null elements are not allowed.
+ */
+public class MpscRingBuffer<E> extends RingBufferLayout.Base<E> {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle PRODUCER_LIMIT;
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(RingBufferLayout.ConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(RingBufferLayout.ProducerFields.class, "tail", long.class);
+            PRODUCER_LIMIT = lookup.findVarHandle(RingBufferLayout.ProducerFields.class, "producerLimit", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public MpscRingBuffer(int capacity) {
+        super(capacity);
+    }
+
+    // ----------------- any producer thread -----------------
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long t;
+        do {
+            t = (long) TAIL.getVolatile(this);
+            if (t >= (long) PRODUCER_LIMIT.getOpaque(this) && t >= refreshLimit()) return false;
+        } while (!TAIL.compareAndSet(this, t, t + 1));
+        ELEMENTS.setRelease(buffer, (int) t & mask, e);
+        return true;
+    }
+
+    // claims as many slots as are free (up to length) with ONE CAS; returns how many were taken
+    public int offer(E[] src, int from, int length) {
+        Objects.checkFromIndexSize(from, length, src.length);
+        for (int i = 0; i < length; i++) Objects.requireNonNull(src[from + i]);
+        long t;
+        int n;
+        do {
+            t = (long) TAIL.getVolatile(this);
+            long limit = (long) PRODUCER_LIMIT.getOpaque(this);
+            if (t + length > limit) limit = refreshLimit();
+            n = (int) Math.min(length, limit - t);
+            if (n <= 0) return 0;
+        } while (!TAIL.compareAndSet(this, t, t + n));
+        for (int i = 0; i < n; i++) {
+            ELEMENTS.setRelease(buffer, (int) (t + i) & mask, src[from + i]);
+        }
+        return n;
+    }
+
+    private long refreshLimit() {
+        long limit = (long) HEAD.getAcquire(this) + buffer.length;
+        PRODUCER_LIMIT.setOpaque(this, limit);
+        return limit;
+    }
+
+    // ----------------- consumer thread -----------------
+    @Override
+    public E poll() {
+        long h = head;
+        int index = (int) h & mask;
+        Object e = ELEMENTS.getAcquire(buffer, index);
+        if (e == null) {
+            if (h >= (long) TAIL.getVolatile(this)) return null; // really empty
+            // claimed but not yet written: the producer is between its CAS and its store
+            while ((e = ELEMENTS.getAcquire(buffer, index)) == null) Thread.onSpinWait();
+        }
+        buffer[index] = null;
+        HEAD.setRelease(this, h + 1);
+        return cast(e);
+    }
+
+    @Override
+    public E peek() {
+        long h = head;
+        int index = (int) h & mask;
+        Object e = ELEMENTS.getAcquire(buffer, index);
+        if (e == null) {
+            if (h >= (long) TAIL.getVolatile(this)) return null;
+            while ((e = ELEMENTS.getAcquire(buffer, index)) == null) Thread.onSpinWait();
+        }
+        return cast(e);
+    }
+
+    // polls published elements (stops at the first slot not written yet); one release store for the batch
+    public int drain(Consumer<? super E> action, int limit) {
+        long h = head;
+        int n = 0;
+        try {
+            while (n < limit) {
+                int index = (int) (h + n) & mask;
+                Object e = ELEMENTS.getAcquire(buffer, index);
+                if (e == null) break;
+                buffer[index] = null;
+                n++;
+                action.accept(cast(e));
+            }
+        } finally {
+            if (n > 0) HEAD.setRelease(this, h + n); // also when the action throws: taken slots stay taken
+        }
+        return n;
+    }
+
+    // ----------------- anywhere -----------------
+    @Override
+    long headVolatile() {
+        return (long) HEAD.getVolatile(this);
+    }
+
+    @Override
+    long tailVolatile() {
+        return (long) TAIL.getVolatile(this);
+    }
+
+    @Override
+    E elementAcquire(int index) {
+        return cast(ELEMENTS.getAcquire(buffer, index));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E cast(Object o) {
+        return (E) o;
+    }
+}
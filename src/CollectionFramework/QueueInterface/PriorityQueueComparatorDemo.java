@@ -1,15 +1,19 @@
 package CollectionFramework.QueueInterface;
 
+import CollectionFramework.Comparable_Comparator.Comparators;
+
 import java.util.PriorityQueue;
 import java.util.Queue;
 
 public class PriorityQueueComparatorDemo {
     public static void main(String[] args) {
-        Queue<Integer> pq = new PriorityQueue<>((a, b) -> b - a); // max-heap
+        // max-heap; (a, b) -> b - a would overflow for MIN_VALUE / MAX_VALUE
+        Queue<Integer> pq = new PriorityQueue<>(Comparators.INT_DESCENDING);
 
         pq.offer(10);
         pq.offer(40);
         pq.offer(20);
+        pq.offer(Integer.MIN_VALUE);
 
         System.out.println("Max PriorityQueue: " + pq);
 
@@ -0,0 +1,71 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.Queue;
+
+public class RingBufferDemo {
+    public static void main(String[] args) throws InterruptedException {
+        // Same calls as QueueDemo, through the Queue interface (single thread = trivially SPSC)
+        Queue<Integer> queue = new SpscRingBuffer<>(4);
+        queue.offer(10);
+        queue.offer(20);
+        queue.offer(30);
+        System.out.println("Queue: " + queue);              // [10, 20, 30]
+        System.out.println("peek(): " + queue.peek());      // 10
+        System.out.println("poll(): " + queue.poll());      // 10
+        System.out.println("After poll: " + queue);         // [20, 30]
+        queue.offer(40);
+        queue.offer(50);
+        System.out.println("offer() when full: " + queue.offer(60)); // false: bounded, capacity 4
+        queue.clear();
+        System.out.println("poll() on empty queue: " + queue.poll()); // null
+
+        // Handoff between two threads: preallocated tokens, so no garbage per message.
+        // A real pinned-thread setup busy-spins (Thread.onSpinWait); yield keeps the demo sane on few cores.
+        SpscRingBuffer<Long> handoff = new SpscRingBuffer<>(1024);
+        Long[] tokens = new Long[1024];
+        for (int i = 0; i < tokens.length; i++) tokens[i] = (long) i;
+        int messages = 5_000_000;
+
+        Thread consumer = new Thread(() -> {
+            long[] sum = {0};
+            int received = 0;
+            while (received < messages) {
+                int n = handoff.drain(v -> sum[0] += v, 256); // batch: one release store per drain
+                if (n == 0) Thread.yield();
+                received += n;
+            }
+            System.out.println("Consumer received " + received + ", sum " + sum[0]);
+        });
+        consumer.start();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < messages; ) {
+            if (handoff.offer(tokens[i & 1023])) i++;
+            else Thread.yield();
+        }
+        consumer.join();
+        long nanos = System.nanoTime() - start;
+        System.out.printf("SPSC handoff: %.1f ns/message%n", (double) nanos / messages);
+
+        // MPSC: four producers, one consumer
+        MpscRingBuffer<Long> mpsc = new MpscRingBuffer<>(1024);
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 1_000_000; ) {
+                    if (mpsc.offer(tokens[i & 1023])) i++;
+                    else Thread.yield();
+                }
+            });
+            producers[p].start();
+        }
+        long received = 0;
+        while (received < 4_000_000) {
+            int n = mpsc.drain(v -> {}, 256);
+            if (n == 0) Thread.yield();
+            received += n;
+        }
+        for (Thread t : producers) t.join();
+        System.out.println("MPSC received " + received + ", left " + mpsc.size());
+    }
+}
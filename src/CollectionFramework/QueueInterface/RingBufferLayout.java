@@ -0,0 +1,97 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.*;
+
+/*
+Field layout shared by SpscRingBuffer and MpscRingBuffer.
+
+The producer writes 'tail', the consumer writes 'head'. If both longs sit on the same 64-byte cache line,
+every write by one thread invalidates the line in the other core's cache (false sharing), and a
+handoff that should cost a few ns costs ~100. Java gives no control over field order inside a class,
+but superclass fields are always laid out before subclass fields, so the chain below puts 128 bytes
+of padding (two lines: adjacent-line prefetch pulls pairs) between each hot group:
+
+    Pad0 | tail, producerLimit (producer) | Pad1 | head, tailCache (consumer) | Pad2 | buffer, mask (read-only)
+
+producerLimit / tailCache are each side's cached copy of the other side's index, so the other line is
+only read when the cached value says "full" / "empty" instead of on every call.
+ */
+final class RingBufferLayout {
+
+    private RingBufferLayout() {}
+
+    abstract static class Pad0<E> extends AbstractQueue<E> {
+        long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14, p15;
+    }
+
+    abstract static class ProducerFields<E> extends Pad0<E> {
+        long tail;          // next position to write (accessed through VarHandles in the subclasses)
+        long producerLimit; // cached head + capacity: offers below it need no look at 'head'
+    }
+
+    abstract static class Pad1<E> extends ProducerFields<E> {
+        long p10, p11, p12, p13, p14, p15, p16, p17, p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+    }
+
+    abstract static class ConsumerFields<E> extends Pad1<E> {
+        long head;      // next position to read
+        long tailCache; // cached tail: polls below it need no look at 'tail'
+    }
+
+    abstract static class Pad2<E> extends ConsumerFields<E> {
+        long p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+    }
+
+    abstract static class Base<E> extends Pad2<E> {
+        final E[] buffer;
+        final int mask;
+
+        @SuppressWarnings("unchecked")
+        Base(int capacity) {
+            if (capacity < 2 || capacity > (1 << 30)) {
+                throw new IllegalArgumentException("Capacity must be in [2, 2^30]: " + capacity);
+            }
+            int size = Integer.highestOneBit(capacity - 1) << 1; // round up to a power of two
+            this.buffer = (E[]) new Object[size];
+            this.mask = size - 1;
+            this.producerLimit = size;
+        }
+
+        abstract long headVolatile();
+
+        abstract long tailVolatile();
+
+        public int capacity() {
+            return buffer.length;
+        }
+
+        // approximate while both sides run, exact when quiescent
+        @Override
+        public int size() {
+            // read head first: tail only grows, so the difference is never negative for a consistent pair
+            long h = headVolatile();
+            long t = tailVolatile();
+            return (int) Math.max(0, Math.min(buffer.length, t - h));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return headVolatile() >= tailVolatile();
+        }
+
+        // weakly consistent snapshot; remove() is not supported
+        @Override
+        public Iterator<E> iterator() {
+            List<E> snapshot = new ArrayList<>();
+            long h = headVolatile();
+            long t = tailVolatile();
+            for (long pos = h; pos < t; pos++) {
+                E e = elementAcquire((int) pos & mask);
+                if (e != null) snapshot.add(e);
+            }
+            return Collections.unmodifiableList(snapshot).iterator();
+        }
+
+        abstract E elementAcquire(int index);
+    }
+}
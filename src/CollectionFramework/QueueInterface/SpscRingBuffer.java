@@ -0,0 +1,129 @@
+package CollectionFramework.QueueInterface;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/*
+Bounded single-producer / single-consumer queue. Exactly ONE thread may call the offer methods and
+exactly ONE (other) thread the poll / peek methods; size() / isEmpty() / iterator() are safe anywhere.
+
+No locks, no CAS, no allocation per element:
+ - each side owns its index and only ever writes that one (plain read, release store = lazySet)
+ - the element is written with a plain store BEFORE the release store of tail, so the consumer that
+   reads tail with acquire semantics is guaranteed to see it (and vice versa for head / nulling the slot)
+ - head / tail live on separate padded cache lines, see RingBufferLayout
+ - offer(E[], ..) / drain(..) publish a whole batch with a single release store
+
+Implements java.util.Queue, so it drops into code written against Queue (as long as the
+one-producer / one-consumer rule holds). Null elements are not allowed.
+ */
+public class SpscRingBuffer<E> extends RingBufferLayout.Base<E> {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(RingBufferLayout.ConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(RingBufferLayout.ProducerFields.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public SpscRingBuffer(int capacity) {
+        super(capacity);
+    }
+
+    // ----------------- producer thread -----------------
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long t = tail;
+        if (t >= producerLimit && !refreshLimit(t + 1)) return false;
+        buffer[(int) t & mask] = e;
+        TAIL.setRelease(this, t + 1);
+        return true;
+    }
+
+    // offers src[from, from + length) as far as there is room; returns how many were taken
+    public int offer(E[] src, int from, int length) {
+        Objects.checkFromIndexSize(from, length, src.length);
+        long t = tail;
+        if (t + length > producerLimit) refreshLimit(t + length);
+        int n = (int) Math.min(length, producerLimit - t);
+        if (n <= 0) return 0;
+        for (int i = 0; i < n; i++) {
+            E e = Objects.requireNonNull(src[from + i]);
+            buffer[(int) (t + i) & mask] = e;
+        }
+        TAIL.setRelease(this, t + n); // one publication for the whole batch
+        return n;
+    }
+
+    private boolean refreshLimit(long needed) {
+        producerLimit = (long) HEAD.getAcquire(this) + buffer.length;
+        return needed <= producerLimit;
+    }
+
+    // ----------------- consumer thread -----------------
+    @Override
+    public E poll() {
+        long h = head;
+        if (h >= tailCache && h >= (tailCache = (long) TAIL.getAcquire(this))) return null;
+        int index = (int) h & mask;
+        E e = buffer[index];
+        buffer[index] = null;
+        HEAD.setRelease(this, h + 1);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long h = head;
+        if (h >= tailCache && h >= (tailCache = (long) TAIL.getAcquire(this))) return null;
+        return buffer[(int) h & mask];
+    }
+
+    // polls up to 'limit' elements into the action; frees their slots with a single release store
+    public int drain(Consumer<? super E> action, int limit) {
+        long h = head;
+        long available = tailCache - h;
+        if (available < limit) available = (tailCache = (long) TAIL.getAcquire(this)) - h;
+        int n = (int) Math.min(limit, available);
+        int taken = 0;
+        try {
+            while (taken < n) {
+                int index = (int) (h + taken) & mask;
+                E e = buffer[index];
+                buffer[index] = null;
+                taken++;
+                action.accept(e);
+            }
+        } finally {
+            if (taken > 0) HEAD.setRelease(this, h + taken); // also when the action throws
+        }
+        return taken;
+    }
+
+    // ----------------- anywhere -----------------
+    @Override
+    long headVolatile() {
+        return (long) HEAD.getVolatile(this);
+    }
+
+    @Override
+    long tailVolatile() {
+        return (long) TAIL.getVolatile(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    E elementAcquire(int index) {
+        return (E) ELEMENTS.getAcquire(buffer, index);
+    }
+}
@@ -0,0 +1,36 @@
+package CollectionFramework.QueueInterface;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TimingWheelDemo {
+
+    public static void main(String[] args) throws InterruptedException {
+        // 10 ms ticks, 64 buckets per level, 3 levels: level 0 covers 640 ms, level 1 ~41 s, level 2 ~44 min
+        try (HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, TimeUnit.MILLISECONDS, 64, 3).start()) {
+            long start = System.nanoTime();
+            for (long delay : new long[]{50, 300, 1200}) { // 1200 ms starts in level 1 and is cascaded down
+                wheel.schedule(() -> System.out.printf("fired %4d ms timer after %4d ms%n",
+                        delay, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)), delay, TimeUnit.MILLISECONDS);
+            }
+            HierarchicalTimingWheel.Timeout idle = wheel.schedule(
+                    () -> System.out.println("never printed"), 500, TimeUnit.MILLISECONDS);
+            System.out.println("cancel 500 ms timer: " + idle.cancel()); // O(1) unlink, no queue scan
+
+            // Gateway pattern: every connection arms a timeout, almost all are cancelled (request answered)
+            AtomicInteger timedOut = new AtomicInteger();
+            HierarchicalTimingWheel.Timeout[] connections = new HierarchicalTimingWheel.Timeout[100_000];
+            for (int i = 0; i < connections.length; i++) {
+                connections[i] = wheel.schedule(timedOut::incrementAndGet, 800, TimeUnit.MILLISECONDS);
+            }
+            for (int i = 0; i < connections.length; i++) {
+                if (i % 100 != 0) connections[i].cancel(); // 1% never answer
+            }
+            System.out.println("pending timers: " + wheel.pending()); // 1000 connections + the demo timers not fired yet
+
+            Thread.sleep(1500);
+            System.out.println("connections timed out: " + timedOut.get()); // 1000
+            System.out.println("pending timers: " + wheel.pending());        // 0
+        }
+    }
+}
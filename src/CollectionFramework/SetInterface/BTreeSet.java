@@ -0,0 +1,752 @@
+package CollectionFramework.SetInterface;
+
+import java.util.*;
+
+/*
+In-memory B+tree implementing NavigableSet: a drop-in for TreeSet with far fewer objects.
+
+TreeSet (a TreeMap underneath) allocates one Entry per element (key, value, left, right, parent,
+color: ~40 B) and every lookup follows ~log2(n) pointers to nodes scattered over the heap.
+Here elements sit in sorted arrays of up to nodeCapacity keys:
+
+    inner nodes   separator keys + child pointers        only routing
+    leaves        the elements, sorted, linked prev/next  scans walk arrays, not pointers
+
+    height ~ log_B(n): 10^8 keys with B = 64 -> 5 levels instead of ~27 for a red-black tree
+    per element ~ 4-8 B of array slot (plus the element itself) instead of a 40 B Entry
+
+Inserts split a full node in two; deletes borrow from or merge with a sibling when a node drops
+below half full. Appending in ascending order (bulk loads, time series) splits the rightmost node
+unevenly, so sequentially built trees end up with full nodes instead of half-full ones.
+
+nodeCapacity tunes fan-out: larger nodes are shallower and denser but shift more on insert / delete.
+Views (subSet, headSet, tailSet, descendingSet) are live, as in TreeSet. Iterators are fail-fast.
+Null elements are not allowed. Not thread-safe. For long keys without boxing see LongBTreeSet.
+ */
+public final class BTreeSet<E> extends AbstractSet<E> implements NavigableSet<E> {
+
+    public static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private static class Node {
+        final Object[] keys; // one spare slot: a node overflows by one before it splits
+        int size;
+
+        Node(int capacity) {
+            this.keys = new Object[capacity + 1];
+        }
+    }
+
+    private static final class Leaf extends Node {
+        Leaf prev, next;
+
+        Leaf(int capacity) {
+            super(capacity);
+        }
+    }
+
+    private static final class Inner extends Node {
+        final Node[] children; // children[i] holds keys < keys[i] <= children[i + 1]
+
+        Inner(int capacity) {
+            super(capacity);
+            this.children = new Node[capacity + 2];
+        }
+    }
+
+    private final Comparator<? super E> comparator;
+    private final int capacity;
+    private final int minSize;
+    private Node root;
+    private int size;
+    private int modCount;
+    private Object separator; // second result of a split, read by the caller
+
+    public BTreeSet() {
+        this(DEFAULT_NODE_CAPACITY, null);
+    }
+
+    public BTreeSet(Comparator<? super E> comparator) {
+        this(DEFAULT_NODE_CAPACITY, comparator);
+    }
+
+    public BTreeSet(int nodeCapacity, Comparator<? super E> comparator) {
+        if (nodeCapacity < 4) throw new IllegalArgumentException("Node capacity must be >= 4: " + nodeCapacity);
+        this.capacity = nodeCapacity;
+        this.minSize = nodeCapacity / 2;
+        this.comparator = comparator;
+        this.root = new Leaf(nodeCapacity);
+    }
+
+    public BTreeSet(Collection<? extends E> elements) {
+        this();
+        addAll(elements);
+    }
+
+    public int nodeCapacity() {
+        return capacity;
+    }
+
+    // ----------------- Set -----------------
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        Leaf leaf = findLeaf(Objects.requireNonNull(o));
+        return search(leaf, o) >= 0;
+    }
+
+    @Override
+    public boolean add(E e) {
+        Objects.requireNonNull(e);
+        int before = size;
+        Node right = insert(root, e, true);
+        if (right != null) {
+            Inner newRoot = new Inner(capacity);
+            newRoot.keys[0] = separator;
+            newRoot.children[0] = root;
+            newRoot.children[1] = right;
+            newRoot.size = 1;
+            root = newRoot;
+        }
+        return size != before;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Objects.requireNonNull(o);
+        int before = size;
+        delete(root, o);
+        if (root instanceof Inner inner && inner.size == 0) root = inner.children[0];
+        return size != before;
+    }
+
+    @Override
+    public void clear() {
+        root = new Leaf(capacity);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(firstLeaf(), 0, false, false, null, false);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        Leaf last = lastLeaf();
+        return new Itr(last, last.size - 1, true, false, null, false);
+    }
+
+    // ----------------- NavigableSet -----------------
+    @Override
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public E first() {
+        if (size == 0) throw new NoSuchElementException();
+        return elementAt(firstLeaf(), 0);
+    }
+
+    @Override
+    public E last() {
+        if (size == 0) throw new NoSuchElementException();
+        Leaf last = lastLeaf();
+        return elementAt(last, last.size - 1);
+    }
+
+    @Override
+    public E pollFirst() {
+        if (size == 0) return null;
+        E first = first();
+        remove(first);
+        return first;
+    }
+
+    @Override
+    public E pollLast() {
+        if (size == 0) return null;
+        E last = last();
+        remove(last);
+        return last;
+    }
+
+    @Override
+    public E ceiling(E e) {
+        return ceilingKey(e, true);
+    }
+
+    @Override
+    public E higher(E e) {
+        return ceilingKey(e, false);
+    }
+
+    @Override
+    public E floor(E e) {
+        return floorKey(e, true);
+    }
+
+    @Override
+    public E lower(E e) {
+        return floorKey(e, false);
+    }
+
+    @Override
+    public NavigableSet<E> descendingSet() {
+        return new SubSet(true, null, false, true, null, false, true);
+    }
+
+    @Override
+    public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+        if (compare(fromElement, toElement) > 0) throw new IllegalArgumentException("fromElement > toElement");
+        return new SubSet(false, fromElement, fromInclusive, false, toElement, toInclusive, false);
+    }
+
+    @Override
+    public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+        return new SubSet(true, null, false, false, Objects.requireNonNull(toElement), inclusive, false);
+    }
+
+    @Override
+    public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+        return new SubSet(false, Objects.requireNonNull(fromElement), inclusive, true, null, false, false);
+    }
+
+    @Override
+    public SortedSet<E> subSet(E fromElement, E toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> headSet(E toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<E> tailSet(E fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    // ----------------- search -----------------
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator != null ? comparator.compare((E) a, (E) b) : ((Comparable<Object>) a).compareTo(b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Leaf leaf, int i) {
+        return (E) leaf.keys[i];
+    }
+
+    // index of key in node.keys[0, size), or -(insertion point) - 1
+    private int search(Node node, Object key) {
+        int low = 0, high = node.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = compare(node.keys[mid], key);
+            if (c < 0) low = mid + 1;
+            else if (c > 0) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    private int childIndex(Inner inner, Object key) {
+        int i = search(inner, key);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    private Leaf findLeaf(Object key) {
+        Node node = root;
+        while (node instanceof Inner inner) node = inner.children[childIndex(inner, key)];
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf() {
+        Node node = root;
+        while (node instanceof Inner inner) node = inner.children[0];
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf() {
+        Node node = root;
+        while (node instanceof Inner inner) node = inner.children[inner.size];
+        return (Leaf) node;
+    }
+
+    // smallest element >= key (> if !inclusive), or null
+    private E ceilingKey(Object key, boolean inclusive) {
+        Leaf leaf = findLeaf(Objects.requireNonNull(key));
+        int i = search(leaf, key);
+        int pos = i >= 0 ? (inclusive ? i : i + 1) : -i - 1;
+        if (pos >= leaf.size) {
+            leaf = leaf.next; // keys in the next leaf are >= this leaf's upper separator > key
+            pos = 0;
+            if (leaf == null) return null;
+        }
+        return elementAt(leaf, pos);
+    }
+
+    // largest element <= key (< if !inclusive), or null
+    private E floorKey(Object key, boolean inclusive) {
+        Leaf leaf = findLeaf(Objects.requireNonNull(key));
+        int i = search(leaf, key);
+        int pos = i >= 0 ? (inclusive ? i : i - 1) : -i - 2;
+        if (pos < 0) {
+            leaf = leaf.prev;
+            if (leaf == null) return null;
+            pos = leaf.size - 1;
+        }
+        return elementAt(leaf, pos);
+    }
+
+    // ----------------- insert -----------------
+    // returns the new right sibling if node split (its separator in this.separator), else null.
+    // rightEdge: node is on the tree's rightmost path, where ascending appends land
+    private Node insert(Node node, E key, boolean rightEdge) {
+        if (node instanceof Leaf leaf) {
+            int i = search(leaf, key);
+            if (i >= 0) return null;
+            int pos = -i - 1;
+            insertAt(leaf.keys, leaf.size, pos, key);
+            leaf.size++;
+            size++;
+            modCount++;
+            return leaf.size > capacity ? splitLeaf(leaf, rightEdge && pos == leaf.size - 1) : null;
+        }
+        Inner inner = (Inner) node;
+        int c = childIndex(inner, key);
+        boolean last = c == inner.size;
+        Node right = insert(inner.children[c], key, rightEdge && last);
+        if (right == null) return null;
+        insertAt(inner.keys, inner.size, c, separator);
+        insertAt(inner.children, inner.size + 1, c + 1, right);
+        inner.size++;
+        return inner.size > capacity ? splitInner(inner, rightEdge && last) : null;
+    }
+
+    // append: keep the left node full and start the right one with a single key
+    private Leaf splitLeaf(Leaf leaf, boolean append) {
+        int keep = append ? leaf.size - 1 : (leaf.size + 1) / 2;
+        Leaf right = new Leaf(capacity);
+        right.size = leaf.size - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, right.size);
+        Arrays.fill(leaf.keys, keep, leaf.size, null);
+        leaf.size = keep;
+        right.next = leaf.next;
+        if (right.next != null) right.next.prev = right;
+        right.prev = leaf;
+        leaf.next = right;
+        separator = right.keys[0];
+        return right;
+    }
+
+    // the middle key moves up; append keeps one key (two children) on the right
+    private Inner splitInner(Inner inner, boolean append) {
+        int mid = append ? inner.size - 2 : inner.size / 2;
+        Inner right = new Inner(capacity);
+        right.size = inner.size - mid - 1;
+        separator = inner.keys[mid];
+        System.arraycopy(inner.keys, mid + 1, right.keys, 0, right.size);
+        System.arraycopy(inner.children, mid + 1, right.children, 0, right.size + 1);
+        Arrays.fill(inner.keys, mid, inner.size, null);
+        Arrays.fill(inner.children, mid + 1, inner.size + 1, null);
+        inner.size = mid;
+        return right;
+    }
+
+    private static void insertAt(Object[] array, int length, int at, Object value) {
+        System.arraycopy(array, at, array, at + 1, length - at);
+        array[at] = value;
+    }
+
+    private static void removeAt(Object[] array, int length, int at) {
+        System.arraycopy(array, at + 1, array, at, length - at - 1);
+        array[length - 1] = null;
+    }
+
+    // ----------------- delete -----------------
+    private void delete(Node node, Object key) {
+        if (node instanceof Leaf leaf) {
+            int i = search(leaf, key);
+            if (i < 0) return;
+            removeAt(leaf.keys, leaf.size, i);
+            leaf.size--;
+            size--;
+            modCount++;
+            return;
+        }
+        Inner inner = (Inner) node;
+        int c = childIndex(inner, key);
+        Node child = inner.children[c];
+        delete(child, key);
+        if (child.size < minSize) rebalance(inner, c);
+    }
+
+    // child c of parent is under half full: borrow one key from a sibling, or merge with it
+    private void rebalance(Inner parent, int c) {
+        Node child = parent.children[c];
+        Node left = c > 0 ? parent.children[c - 1] : null;
+        Node right = c < parent.size ? parent.children[c + 1] : null;
+        if (left != null && left.size > minSize) {
+            borrowFromLeft(parent, c, left, child);
+        } else if (right != null && right.size > minSize) {
+            borrowFromRight(parent, c, child, right);
+        } else if (left != null) {
+            merge(parent, c - 1, left, child);
+        } else if (right != null) {
+            merge(parent, c, child, right);
+        }
+    }
+
+    private void borrowFromLeft(Inner parent, int c, Node left, Node child) {
+        if (child instanceof Inner in) {
+            Inner l = (Inner) left;
+            insertAt(in.keys, in.size, 0, parent.keys[c - 1]);
+            insertAt(in.children, in.size + 1, 0, l.children[l.size]);
+            parent.keys[c - 1] = l.keys[l.size - 1];
+            l.children[l.size] = null;
+        } else {
+            insertAt(child.keys, child.size, 0, left.keys[left.size - 1]);
+            parent.keys[c - 1] = child.keys[0];
+        }
+        child.size++;
+        left.keys[--left.size] = null;
+    }
+
+    private void borrowFromRight(Inner parent, int c, Node child, Node right) {
+        if (child instanceof Inner in) {
+            Inner r = (Inner) right;
+            in.keys[in.size] = parent.keys[c];
+            in.children[in.size + 1] = r.children[0];
+            parent.keys[c] = r.keys[0];
+            removeAt(r.children, r.size + 1, 0);
+            removeAt(r.keys, r.size, 0);
+        } else {
+            child.keys[child.size] = right.keys[0];
+            removeAt(right.keys, right.size, 0);
+            parent.keys[c] = right.keys[0];
+        }
+        child.size++;
+        right.size--;
+    }
+
+    // moves everything from right (child k + 1) into left (child k) and drops separator k
+    private void merge(Inner parent, int k, Node left, Node right) {
+        if (left instanceof Inner l) {
+            Inner r = (Inner) right;
+            l.keys[l.size] = parent.keys[k];
+            System.arraycopy(r.keys, 0, l.keys, l.size + 1, r.size);
+            System.arraycopy(r.children, 0, l.children, l.size + 1, r.size + 1);
+            l.size += r.size + 1;
+        } else {
+            Leaf l = (Leaf) left, r = (Leaf) right;
+            System.arraycopy(r.keys, 0, l.keys, l.size, r.size);
+            l.size += r.size;
+            l.next = r.next;
+            if (l.next != null) l.next.prev = l;
+        }
+        removeAt(parent.keys, parent.size, k);
+        removeAt(parent.children, parent.size + 1, k + 1);
+        parent.size--;
+    }
+
+    // ----------------- iteration -----------------
+    // walks the leaf chain from (leaf, index); stops past bound if hasBound
+    private final class Itr implements Iterator<E> {
+        private Leaf leaf;   // position of the next element; null at the end
+        private int index;
+        private final boolean descending;
+        private final boolean hasBound;
+        private final Object bound;
+        private final boolean boundInclusive;
+        private E lastReturned;
+        private int expectedModCount = modCount;
+
+        Itr(Leaf leaf, int index, boolean descending, boolean hasBound, Object bound, boolean boundInclusive) {
+            this.leaf = leaf;
+            this.index = index;
+            this.descending = descending;
+            this.hasBound = hasBound;
+            this.bound = bound;
+            this.boundInclusive = boundInclusive;
+            settle();
+        }
+
+        // moves to a real slot (next / previous leaf) and ends the walk past the bound
+        private void settle() {
+            if (descending) {
+                while (leaf != null && index < 0) {
+                    leaf = leaf.prev;
+                    if (leaf != null) index = leaf.size - 1;
+                }
+            } else {
+                while (leaf != null && index >= leaf.size) {
+                    leaf = leaf.next;
+                    index = 0;
+                }
+            }
+            if (leaf != null && hasBound) {
+                int c = compare(leaf.keys[index], bound);
+                if (descending ? c < 0 || (c == 0 && !boundInclusive) : c > 0 || (c == 0 && !boundInclusive)) {
+                    leaf = null;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (leaf == null) throw new NoSuchElementException();
+            E e = elementAt(leaf, index);
+            index += descending ? -1 : 1;
+            settle();
+            lastReturned = e;
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            E next = leaf == null ? null : elementAt(leaf, index);
+            BTreeSet.this.remove(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+            if (next != null) { // borrow / merge may have moved it to another leaf
+                leaf = findLeaf(next);
+                index = search(leaf, next);
+            }
+        }
+    }
+
+    // iterator starting at element start (which must be present), or an empty one if start is null
+    private Iterator<E> iteratorFrom(E start, boolean descending, boolean hasBound, Object bound, boolean boundInclusive) {
+        if (start == null) return Collections.emptyIterator();
+        Leaf leaf = findLeaf(start);
+        return new Itr(leaf, search(leaf, start), descending, hasBound, bound, boundInclusive);
+    }
+
+    // ----------------- range views -----------------
+    // elements between lo and hi of the backing set (ascending terms), live, optionally descending
+    private final class SubSet extends AbstractSet<E> implements NavigableSet<E> {
+        final boolean fromStart, toEnd;
+        final E lo, hi;
+        final boolean loInclusive, hiInclusive;
+        final boolean descending;
+
+        SubSet(boolean fromStart, E lo, boolean loInclusive, boolean toEnd, E hi, boolean hiInclusive, boolean descending) {
+            this.fromStart = fromStart;
+            this.lo = lo;
+            this.loInclusive = loInclusive;
+            this.toEnd = toEnd;
+            this.hi = hi;
+            this.hiInclusive = hiInclusive;
+            this.descending = descending;
+        }
+
+        boolean tooLow(Object e) {
+            if (fromStart) return false;
+            int c = compare(e, lo);
+            return c < 0 || (c == 0 && !loInclusive);
+        }
+
+        boolean tooHigh(Object e) {
+            if (toEnd) return false;
+            int c = compare(e, hi);
+            return c > 0 || (c == 0 && !hiInclusive);
+        }
+
+        boolean inRange(Object e) {
+            return !tooLow(e) && !tooHigh(e);
+        }
+
+        // like TreeSet: an exclusive bound of a new view may equal this view's bound
+        boolean inRange(Object e, boolean inclusive) {
+            if (inclusive) return inRange(e);
+            return (fromStart || compare(e, lo) >= 0) && (toEnd || compare(e, hi) <= 0);
+        }
+
+        // ---- ascending helpers ----
+        E lowest() {
+            E e = fromStart ? (size == 0 ? null : BTreeSet.this.first()) : ceilingKey(lo, loInclusive);
+            return e == null || tooHigh(e) ? null : e;
+        }
+
+        E highest() {
+            E e = toEnd ? (size == 0 ? null : BTreeSet.this.last()) : floorKey(hi, hiInclusive);
+            return e == null || tooLow(e) ? null : e;
+        }
+
+        E ceilingIn(E e, boolean inclusive) {
+            if (tooLow(e)) return lowest();
+            E r = ceilingKey(e, inclusive);
+            return r == null || tooHigh(r) ? null : r;
+        }
+
+        E floorIn(E e, boolean inclusive) {
+            if (tooHigh(e)) return highest();
+            E r = floorKey(e, inclusive);
+            return r == null || tooLow(r) ? null : r;
+        }
+
+        // ---- NavigableSet, in this view's direction ----
+        @Override
+        public E ceiling(E e) {
+            return descending ? floorIn(e, true) : ceilingIn(e, true);
+        }
+
+        @Override
+        public E higher(E e) {
+            return descending ? floorIn(e, false) : ceilingIn(e, false);
+        }
+
+        @Override
+        public E floor(E e) {
+            return descending ? ceilingIn(e, true) : floorIn(e, true);
+        }
+
+        @Override
+        public E lower(E e) {
+            return descending ? ceilingIn(e, false) : floorIn(e, false);
+        }
+
+        @Override
+        public E first() {
+            E e = descending ? highest() : lowest();
+            if (e == null) throw new NoSuchElementException();
+            return e;
+        }
+
+        @Override
+        public E last() {
+            E e = descending ? lowest() : highest();
+            if (e == null) throw new NoSuchElementException();
+            return e;
+        }
+
+        @Override
+        public E pollFirst() {
+            E e = descending ? highest() : lowest();
+            if (e != null) BTreeSet.this.remove(e);
+            return e;
+        }
+
+        @Override
+        public E pollLast() {
+            E e = descending ? lowest() : highest();
+            if (e != null) BTreeSet.this.remove(e);
+            return e;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return descending
+                    ? iteratorFrom(highest(), true, !fromStart, lo, loInclusive)
+                    : iteratorFrom(lowest(), false, !toEnd, hi, hiInclusive);
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        @Override
+        public int size() {
+            int n = 0;
+            for (Iterator<E> it = iterator(); it.hasNext(); it.next()) n++;
+            return n;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return lowest() == null;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return inRange(Objects.requireNonNull(o)) && BTreeSet.this.contains(o);
+        }
+
+        @Override
+        public boolean add(E e) {
+            if (!inRange(Objects.requireNonNull(e))) throw new IllegalArgumentException("Element out of range: " + e);
+            return BTreeSet.this.add(e);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return inRange(Objects.requireNonNull(o)) && BTreeSet.this.remove(o);
+        }
+
+        @Override
+        public Comparator<? super E> comparator() {
+            if (!descending) return comparator;
+            return comparator != null ? Collections.reverseOrder(comparator) : Collections.reverseOrder();
+        }
+
+        @Override
+        public NavigableSet<E> descendingSet() {
+            return new SubSet(fromStart, lo, loInclusive, toEnd, hi, hiInclusive, !descending);
+        }
+
+        // from / to are in this view's order; translate to ascending bounds
+        @Override
+        public NavigableSet<E> subSet(E from, boolean fromInclusive, E to, boolean toInclusive) {
+            if (!inRange(from, fromInclusive)) throw new IllegalArgumentException("fromElement out of range");
+            if (!inRange(to, toInclusive)) throw new IllegalArgumentException("toElement out of range");
+            if (descending) {
+                if (compare(from, to) < 0) throw new IllegalArgumentException("fromElement < toElement");
+                return new SubSet(false, to, toInclusive, false, from, fromInclusive, true);
+            }
+            if (compare(from, to) > 0) throw new IllegalArgumentException("fromElement > toElement");
+            return new SubSet(false, from, fromInclusive, false, to, toInclusive, false);
+        }
+
+        @Override
+        public NavigableSet<E> headSet(E to, boolean inclusive) {
+            if (!inRange(to, inclusive)) throw new IllegalArgumentException("toElement out of range");
+            return descending
+                    ? new SubSet(false, to, inclusive, toEnd, hi, hiInclusive, true)
+                    : new SubSet(fromStart, lo, loInclusive, false, to, inclusive, false);
+        }
+
+        @Override
+        public NavigableSet<E> tailSet(E from, boolean inclusive) {
+            if (!inRange(from, inclusive)) throw new IllegalArgumentException("fromElement out of range");
+            return descending
+                    ? new SubSet(fromStart, lo, loInclusive, false, from, inclusive, true)
+                    : new SubSet(false, from, inclusive, toEnd, hi, hiInclusive, false);
+        }
+
+        @Override
+        public SortedSet<E> subSet(E from, E to) {
+            return subSet(from, true, to, false);
+        }
+
+        @Override
+        public SortedSet<E> headSet(E to) {
+            return headSet(to, false);
+        }
+
+        @Override
+        public SortedSet<E> tailSet(E from) {
+            return tailSet(from, true);
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package CollectionFramework.SetInterface;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/*
+BTreeSet specialized for long keys: the same B+tree, but nodes hold long[] instead of Object[].
+
+For 10^8 keys the boxing matters more than the tree shape:
+    TreeSet<Long>      ~40 B Entry + 16 B Long per key         ~5.6 GB, 2 dependent loads per compare
+    BTreeSet<Long>     ~4-8 B slot + 16 B Long per key          ~2 GB, still one load per compare
+    LongBTreeSet       8 B per key (leaves 50-100% full)        ~0.8-1.6 GB, compares read the array
+
+Binary search inside a node reads consecutive longs, so one node costs a few cache lines instead of
+one miss per compare. Keys appended in ascending order fill leaves completely (see BTreeSet).
+
+No Set<Long> / NavigableSet view: the point is to never box. Navigation methods take the value to
+return when there is no answer (ceiling(key, absent)), like Map.getOrDefault. Not thread-safe.
+ */
+public class LongBTreeSet {
+
+    public static final int DEFAULT_NODE_CAPACITY = 128;
+
+    private static class Node {
+        final long[] keys; // one spare slot: a node overflows by one before it splits
+        int size;
+
+        Node(int capacity) {
+            this.keys = new long[capacity + 1];
+        }
+    }
+
+    private static final class Leaf extends Node {
+        Leaf prev, next;
+
+        Leaf(int capacity) {
+            super(capacity);
+        }
+    }
+
+    private static final class Inner extends Node {
+        final Node[] children; // children[i] holds keys < keys[i] <= children[i + 1]
+
+        Inner(int capacity) {
+            super(capacity);
+            this.children = new Node[capacity + 2];
+        }
+    }
+
+    private final int capacity;
+    private final int minSize;
+    private Node root;
+    private int size;
+    private int modCount;
+    private long separator; // second result of a split, read by the caller
+
+    public LongBTreeSet() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    public LongBTreeSet(int nodeCapacity) {
+        if (nodeCapacity < 4) throw new IllegalArgumentException("Node capacity must be >= 4: " + nodeCapacity);
+        this.capacity = nodeCapacity;
+        this.minSize = nodeCapacity / 2;
+        this.root = new Leaf(nodeCapacity);
+    }
+
+    public int nodeCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long key) {
+        Leaf leaf = findLeaf(key);
+        return Arrays.binarySearch(leaf.keys, 0, leaf.size, key) >= 0;
+    }
+
+    public boolean add(long key) {
+        int before = size;
+        Node right = insert(root, key, true);
+        if (right != null) {
+            Inner newRoot = new Inner(capacity);
+            newRoot.keys[0] = separator;
+            newRoot.children[0] = root;
+            newRoot.children[1] = right;
+            newRoot.size = 1;
+            root = newRoot;
+        }
+        return size != before;
+    }
+
+    public boolean remove(long key) {
+        int before = size;
+        delete(root, key);
+        if (root instanceof Inner inner && inner.size == 0) root = inner.children[0];
+        return size != before;
+    }
+
+    public void clear() {
+        root = new Leaf(capacity);
+        size = 0;
+        modCount++;
+    }
+
+    // ----------------- navigation -----------------
+    public long first() {
+        if (size == 0) throw new NoSuchElementException();
+        return firstLeaf().keys[0];
+    }
+
+    public long last() {
+        if (size == 0) throw new NoSuchElementException();
+        Leaf last = lastLeaf();
+        return last.keys[last.size - 1];
+    }
+
+    public long pollFirst() {
+        long first = first();
+        remove(first);
+        return first;
+    }
+
+    public long pollLast() {
+        long last = last();
+        remove(last);
+        return last;
+    }
+
+    // smallest key >= key, or absent
+    public long ceiling(long key, long absent) {
+        return ceilingKey(key, true, absent);
+    }
+
+    // smallest key > key, or absent
+    public long higher(long key, long absent) {
+        return ceilingKey(key, false, absent);
+    }
+
+    // largest key <= key, or absent
+    public long floor(long key, long absent) {
+        return floorKey(key, true, absent);
+    }
+
+    // largest key < key, or absent
+    public long lower(long key, long absent) {
+        return floorKey(key, false, absent);
+    }
+
+    private long ceilingKey(long key, boolean inclusive, long absent) {
+        Leaf leaf = findLeaf(key);
+        int i = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+        int pos = i >= 0 ? (inclusive ? i : i + 1) : -i - 1;
+        if (pos >= leaf.size) {
+            leaf = leaf.next;
+            pos = 0;
+            if (leaf == null) return absent;
+        }
+        return leaf.keys[pos];
+    }
+
+    private long floorKey(long key, boolean inclusive, long absent) {
+        Leaf leaf = findLeaf(key);
+        int i = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+        int pos = i >= 0 ? (inclusive ? i : i - 1) : -i - 2;
+        if (pos < 0) {
+            leaf = leaf.prev;
+            if (leaf == null) return absent;
+            pos = leaf.size - 1;
+        }
+        return leaf.keys[pos];
+    }
+
+    // ----------------- bulk reads -----------------
+    public void forEach(LongConsumer action) {
+        for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) action.accept(leaf.keys[i]);
+        }
+    }
+
+    // keys in [fromInclusive, toExclusive) in ascending order: one descent, then array walks
+    public void forEachInRange(long fromInclusive, long toExclusive, LongConsumer action) {
+        Leaf leaf = findLeaf(fromInclusive);
+        int i = Arrays.binarySearch(leaf.keys, 0, leaf.size, fromInclusive);
+        if (i < 0) i = -i - 1;
+        for (; leaf != null; leaf = leaf.next, i = 0) {
+            for (; i < leaf.size; i++) {
+                long key = leaf.keys[i];
+                if (key >= toExclusive) return;
+                action.accept(key);
+            }
+        }
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new Itr(firstLeaf(), 0, false);
+    }
+
+    public PrimitiveIterator.OfLong descendingIterator() {
+        Leaf last = lastLeaf();
+        return new Itr(last, last.size - 1, true);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(key -> sb.append(sb.length() > 1 ? ", " : "").append(key));
+        return sb.append(']').toString();
+    }
+
+    // ----------------- search -----------------
+    private static int childIndex(Inner inner, long key) {
+        int i = Arrays.binarySearch(inner.keys, 0, inner.size, key);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    private Leaf findLeaf(long key) {
+        Node node = root;
+        while (node instanceof Inner inner) node = inner.children[childIndex(inner, key)];
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf() {
+        Node node = root;
+        while (node instanceof Inner inner) node = inner.children[0];
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf() {
+        Node node = root;
+        while (node instanceof Inner inner) node = inner.children[inner.size];
+        return (Leaf) node;
+    }
+
+    // ----------------- insert -----------------
+    // returns the new right sibling if node split (its separator in this.separator), else null
+    private Node insert(Node node, long key, boolean rightEdge) {
+        if (node instanceof Leaf leaf) {
+            int i = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+            if (i >= 0) return null;
+            int pos = -i - 1;
+            System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.size - pos);
+            leaf.keys[pos] = key;
+            leaf.size++;
+            size++;
+            modCount++;
+            return leaf.size > capacity ? splitLeaf(leaf, rightEdge && pos == leaf.size - 1) : null;
+        }
+        Inner inner = (Inner) node;
+        int c = childIndex(inner, key);
+        boolean last = c == inner.size;
+        Node right = insert(inner.children[c], key, rightEdge && last);
+        if (right == null) return null;
+        System.arraycopy(inner.keys, c, inner.keys, c + 1, inner.size - c);
+        inner.keys[c] = separator;
+        System.arraycopy(inner.children, c + 1, inner.children, c + 2, inner.size - c);
+        inner.children[c + 1] = right;
+        inner.size++;
+        return inner.size > capacity ? splitInner(inner, rightEdge && last) : null;
+    }
+
+    private Leaf splitLeaf(Leaf leaf, boolean append) {
+        int keep = append ? leaf.size - 1 : (leaf.size + 1) / 2;
+        Leaf right = new Leaf(capacity);
+        right.size = leaf.size - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, right.size);
+        leaf.size = keep;
+        right.next = leaf.next;
+        if (right.next != null) right.next.prev = right;
+        right.prev = leaf;
+        leaf.next = right;
+        separator = right.keys[0];
+        return right;
+    }
+
+    private Inner splitInner(Inner inner, boolean append) {
+        int mid = append ? inner.size - 2 : inner.size / 2;
+        Inner right = new Inner(capacity);
+        right.size = inner.size - mid - 1;
+        separator = inner.keys[mid];
+        System.arraycopy(inner.keys, mid + 1, right.keys, 0, right.size);
+        System.arraycopy(inner.children, mid + 1, right.children, 0, right.size + 1);
+        Arrays.fill(inner.children, mid + 1, inner.size + 1, null);
+        inner.size = mid;
+        return right;
+    }
+
+    // ----------------- delete -----------------
+    private void delete(Node node, long key) {
+        if (node instanceof Leaf leaf) {
+            int i = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+            if (i < 0) return;
+            System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.size - i - 1);
+            leaf.size--;
+            size--;
+            modCount++;
+            return;
+        }
+        Inner inner = (Inner) node;
+        int c = childIndex(inner, key);
+        Node child = inner.children[c];
+        delete(child, key);
+        if (child.size < minSize) rebalance(inner, c);
+    }
+
+    private void rebalance(Inner parent, int c) {
+        Node child = parent.children[c];
+        Node left = c > 0 ? parent.children[c - 1] : null;
+        Node right = c < parent.size ? parent.children[c + 1] : null;
+        if (left != null && left.size > minSize) {
+            borrowFromLeft(parent, c, left, child);
+        } else if (right != null && right.size > minSize) {
+            borrowFromRight(parent, c, child, right);
+        } else if (left != null) {
+            merge(parent, c - 1, left, child);
+        } else if (right != null) {
+            merge(parent, c, child, right);
+        }
+    }
+
+    private void borrowFromLeft(Inner parent, int c, Node left, Node child) {
+        System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+        if (child instanceof Inner in) {
+            Inner l = (Inner) left;
+            System.arraycopy(in.children, 0, in.children, 1, in.size + 1);
+            in.keys[0] = parent.keys[c - 1];
+            in.children[0] = l.children[l.size];
+            parent.keys[c - 1] = l.keys[l.size - 1];
+            l.children[l.size] = null;
+        } else {
+            child.keys[0] = left.keys[left.size - 1];
+            parent.keys[c - 1] = child.keys[0];
+        }
+        child.size++;
+        left.size--;
+    }
+
+    private void borrowFromRight(Inner parent, int c, Node child, Node right) {
+        if (child instanceof Inner in) {
+            Inner r = (Inner) right;
+            in.keys[in.size] = parent.keys[c];
+            in.children[in.size + 1] = r.children[0];
+            parent.keys[c] = r.keys[0];
+            System.arraycopy(r.children, 1, r.children, 0, r.size);
+            r.children[r.size] = null;
+            System.arraycopy(r.keys, 1, r.keys, 0, r.size - 1);
+        } else {
+            child.keys[child.size] = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+            parent.keys[c] = right.keys[0];
+        }
+        child.size++;
+        right.size--;
+    }
+
+    private void merge(Inner parent, int k, Node left, Node right) {
+        if (left instanceof Inner l) {
+            Inner r = (Inner) right;
+            l.keys[l.size] = parent.keys[k];
+            System.arraycopy(r.keys, 0, l.keys, l.size + 1, r.size);
+            System.arraycopy(r.children, 0, l.children, l.size + 1, r.size + 1);
+            l.size += r.size + 1;
+        } else {
+            Leaf l = (Leaf) left, r = (Leaf) right;
+            System.arraycopy(r.keys, 0, l.keys, l.size, r.size);
+            l.size += r.size;
+            l.next = r.next;
+            if (l.next != null) l.next.prev = l;
+        }
+        System.arraycopy(parent.keys, k + 1, parent.keys, k, parent.size - k - 1);
+        System.arraycopy(parent.children, k + 2, parent.children, k + 1, parent.size - k - 1);
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    // ----------------- iteration -----------------
+    private final class Itr implements PrimitiveIterator.OfLong {
+        private Leaf leaf; // position of the next key; null at the end
+        private int index;
+        private final boolean descending;
+        private final int expectedModCount = modCount;
+
+        Itr(Leaf leaf, int index, boolean descending) {
+            this.leaf = leaf;
+            this.index = index;
+            this.descending = descending;
+            settle();
+        }
+
+        private void settle() {
+            if (descending) {
+                while (leaf != null && index < 0) {
+                    leaf = leaf.prev;
+                    if (leaf != null) index = leaf.size - 1;
+                }
+            } else {
+                while (leaf != null && index >= leaf.size) {
+                    leaf = leaf.next;
+                    index = 0;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null;
+        }
+
+        @Override
+        public long nextLong() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (leaf == null) throw new NoSuchElementException();
+            long key = leaf.keys[index];
+            index += descending ? -1 : 1;
+            settle();
+            return key;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package CollectionFramework.SetInterface;
 
 import java.util.NavigableSet;
+import java.util.PrimitiveIterator;
 import java.util.TreeSet;
 
 public class NavigableSetDemo {
     public static void main(String[] args) {
-        NavigableSet<Integer> set = new TreeSet<>();
+        // "treeset" (default) or "btree": the same calls on a red-black tree or a B+tree
+        String mode = args.length > 0 ? args[0] : "treeset";
+        NavigableSet<Integer> set = switch (mode) {
+            case "treeset" -> new TreeSet<>();
+            case "btree" -> new BTreeSet<>(4, null); // tiny nodes so even 5 elements split
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + " (treeset|btree)");
+        };
         set.add(10);
         set.add(5);
         set.add(20);
@@ -25,6 +32,27 @@ public class NavigableSetDemo {
         System.out.println("After polling: " + set);             // [10, 15, 20]
 
         System.out.println("Descending set view: " + set.descendingSet()); // [20, 15, 10]
+        System.out.println("subSet(10, true, 20, false): " + set.subSet(10, true, 20, false)); // [10, 15]
+
+        if (mode.equals("btree")) longKeys();
+    }
+
+    // LongBTreeSet: same navigation on primitive longs, no Long objects at all
+    private static void longKeys() {
+        LongBTreeSet timestamps = new LongBTreeSet();
+        for (long t = 1_000; t <= 10_000; t += 1_000) timestamps.add(t);
+
+        System.out.println("LongBTreeSet: " + timestamps);
+        System.out.println("ceiling(2500): " + timestamps.ceiling(2_500, -1)); // 3000
+        System.out.println("floor(2500):   " + timestamps.floor(2_500, -1));   // 2000
+        System.out.println("higher(10000): " + timestamps.higher(10_000, -1)); // -1 (none)
+
+        StringBuilder window = new StringBuilder();
+        timestamps.forEachInRange(4_000, 7_000, t -> window.append(t).append(' '));
+        System.out.println("[4000, 7000): " + window.toString().trim()); // 4000 5000 6000
+
+        PrimitiveIterator.OfLong newestFirst = timestamps.descendingIterator();
+        System.out.println("newest: " + newestFirst.nextLong() + ", then " + newestFirst.nextLong()); // 10000, 9000
     }
 }
 
@@ -1,5 +1,7 @@
 package CollectionFramework.SetInterface;
 
+import CollectionFramework.Comparable_Comparator.Comparators;
+
 import java.util.Comparator;
 import java.util.Set;
 import java.util.TreeSet;
@@ -7,7 +9,8 @@ import java.util.TreeSet;
 public class TreeSetCustomComparatorDemo {
 
     public static void main(String[] args) {
-        Comparator<Integer> desc = (a,b) -> b - a ;
+        // (a,b) -> b - a overflows: b = Integer.MAX_VALUE, a = -1 gives a negative result
+        Comparator<Integer> desc = Comparators.INT_DESCENDING; // Integer.compare(b, a)
 
         Set<Integer> set = new TreeSet<>(desc);
 
@@ -15,6 +18,8 @@ public class TreeSetCustomComparatorDemo {
         set.add(5);
         set.add(20);
         set.add(15);
+        set.add(Integer.MAX_VALUE);
+        set.add(-1);
 
         System.out.println("TreeSet (custom descending order): " + set);
     }
@@ -1,5 +1,7 @@
 package CollectionFramework.SetInterface;
 
+import CollectionFramework.Comparable_Comparator.Comparators;
+
 import java.util.Comparator;
 import java.util.Set;
 import java.util.TreeSet;
@@ -10,12 +12,8 @@ public class TreeSetSortStringLength {
 
 
     public static void main(String[] args) {
-        Comparator<String> lengthThenAlpha = (s1,s2) -> {
-            int lenDiff = s1.length() - s2.length();
-            if (lenDiff != 0) {
-                return lenDiff;
-            }return s1.compareTo(s2);
-        };
+        // Integer.compare on the lengths, then String.compareTo, in one non-capturing comparator
+        Comparator<String> lengthThenAlpha = Comparators.LENGTH_THEN_ALPHA;
 
         Set<String> set = new TreeSet<>(lengthThenAlpha);
 
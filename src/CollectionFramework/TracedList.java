@@ -0,0 +1,340 @@
+package CollectionFramework;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/*
+A List wrapper that remembers who modified it, for ModificationTracer.traced().
+
+    every mutating call     records a ModificationTracer.Modification (operation, thread, stack)
+                            in a ring of the last RECENT ones, numbered 1, 2, 3 ...
+    set(i, x)               not recorded: never structural, never invalidates an iterator
+    iterator / forEach      remember the number of the last modification when they start; a
+                            ConcurrentModificationException out of the backing list is re-thrown
+                            with the modifications made since then (first = cause, others suppressed)
+
+Fail-fast behaviour itself is the backing list's: nothing is thrown that it would not throw.
+subList() views share the parent's ring, so a sub.clear() shows up in the parent's CMEs; a CME
+thrown by a subList's own get / size (parent changed under the view) passes through unchanged.
+Thread-safety is the backing list's too; only the ring is locked, so traces from racing writers
+(the usual cause of an intermittent CME) are kept intact.
+ */
+final class TracedList<E> extends AbstractList<E> {
+
+    private static final int RECENT = 8;
+
+    // the modification ring, shared with subList views
+    private static final class Trace {
+        private final ModificationTracer.Modification[] recent = new ModificationTracer.Modification[RECENT];
+        private volatile int count;
+
+        // returns the number given to this modification
+        synchronized int record(String operation) {
+            int sequence = count + 1;
+            recent[sequence % RECENT] = new ModificationTracer.Modification(operation, sequence);
+            count = sequence;
+            return sequence;
+        }
+
+        // modifications numbered after `seen` still in the ring, oldest first
+        synchronized List<ModificationTracer.Modification> since(int seen) {
+            List<ModificationTracer.Modification> since = new ArrayList<>();
+            for (int sequence = Math.max(seen + 1, count - RECENT + 1); sequence <= count; sequence++) {
+                since.add(recent[sequence % RECENT]);
+            }
+            return since;
+        }
+    }
+
+    private final List<E> list;
+    private final Trace trace;
+
+    TracedList(List<E> list) {
+        this(list, new Trace());
+    }
+
+    private TracedList(List<E> list, Trace trace) {
+        this.list = list;
+        this.trace = trace;
+    }
+
+    // ----------------- reads -----------------
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return list.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return list.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return list.lastIndexOf(o);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return list.toArray(a);
+    }
+
+    // ----------------- writes -----------------
+
+    @Override
+    public E set(int index, E element) {
+        return list.set(index, element);
+    }
+
+    @Override
+    public boolean add(E e) {
+        boolean added = list.add(e);
+        trace.record("add");
+        return added;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        list.add(index, element);
+        trace.record("add(index)");
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = list.remove(index);
+        trace.record("remove(index)");
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = list.remove(o);
+        if (removed) trace.record("remove");
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        boolean changed = list.addAll(c);
+        if (changed) trace.record("addAll");
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        boolean changed = list.addAll(index, c);
+        if (changed) trace.record("addAll(index)");
+        return changed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = list.removeAll(c);
+        if (changed) trace.record("removeAll");
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean changed = list.retainAll(c);
+        if (changed) trace.record("retainAll");
+        return changed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int seen = trace.count;
+        boolean changed;
+        try {
+            changed = list.removeIf(filter);
+        } catch (ConcurrentModificationException e) {
+            throw invalidated("removeIf", seen, e);
+        }
+        if (changed) trace.record("removeIf");
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        trace.record("clear");
+    }
+
+    // ArrayList counts sort / replaceAll as modifications (open iterators fail), so they are recorded
+    @Override
+    public void sort(Comparator<? super E> c) {
+        list.sort(c);
+        trace.record("sort");
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        list.replaceAll(operator);
+        trace.record("replaceAll");
+    }
+
+    // ----------------- iteration -----------------
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int seen = trace.count;
+        try {
+            list.forEach(action);
+        } catch (ConcurrentModificationException e) {
+            throw invalidated("forEach", seen, e);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        int seen = trace.count; // before the iterator: a write in between is blamed, not hidden
+        return new Itr(list.listIterator(), seen);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        int seen = trace.count;
+        return new Itr(list.listIterator(), seen);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        int seen = trace.count;
+        return new Itr(list.listIterator(index), seen);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return new TracedList<>(list.subList(fromIndex, toIndex), trace);
+    }
+
+    private final class Itr implements ListIterator<E> {
+        private final ListIterator<E> it;
+        private int seen;
+
+        Itr(ListIterator<E> it, int seen) {
+            this.it = it;
+            this.seen = seen;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public E next() {
+            try {
+                return it.next();
+            } catch (ConcurrentModificationException e) {
+                throw invalidated("iterator", seen, e);
+            }
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return it.hasPrevious();
+        }
+
+        @Override
+        public E previous() {
+            try {
+                return it.previous();
+            } catch (ConcurrentModificationException e) {
+                throw invalidated("iterator", seen, e);
+            }
+        }
+
+        @Override
+        public int nextIndex() {
+            return it.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return it.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+            try {
+                it.remove();
+            } catch (ConcurrentModificationException e) {
+                throw invalidated("iterator", seen, e);
+            }
+            seen = recordOwn("iterator.remove");
+        }
+
+        @Override
+        public void set(E e) {
+            try {
+                it.set(e);
+            } catch (ConcurrentModificationException cme) {
+                throw invalidated("iterator", seen, cme);
+            }
+        }
+
+        @Override
+        public void add(E e) {
+            try {
+                it.add(e);
+            } catch (ConcurrentModificationException cme) {
+                throw invalidated("iterator", seen, cme);
+            }
+            seen = recordOwn("iterator.add");
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            try {
+                it.forEachRemaining(action);
+            } catch (ConcurrentModificationException e) {
+                throw invalidated("iterator", seen, e);
+            }
+        }
+
+        // the iterator's own remove / add keep it valid, so they are not blamed later; any other
+        // writer numbered in between still is
+        private int recordOwn(String operation) {
+            int sequence = trace.record(operation);
+            return sequence == seen + 1 ? sequence : seen;
+        }
+    }
+
+    private ConcurrentModificationException invalidated(String what, int seen, ConcurrentModificationException e) {
+        List<ModificationTracer.Modification> since = trace.since(seen);
+        for (ModificationTracer.Modification modification : since) modification.trimTracerFrames();
+        ConcurrentModificationException traced;
+        if (since.isEmpty()) {
+            traced = new ConcurrentModificationException(what + " invalidated, but no traced modification since it"
+                    + " started (modification #" + seen + "): the backing list was changed directly", e);
+        } else {
+            ModificationTracer.Modification first = since.get(0);
+            int dropped = first.sequence() - seen - 1; // older than the ring
+            traced = new ConcurrentModificationException(what + " started after modification #" + seen
+                    + " was invalidated by " + (dropped > 0 ? dropped + " older modifications (no longer kept), then " : "")
+                    + first.getMessage()
+                    + (since.size() > 1 ? " and " + (since.size() - 1) + " more" : ""), first);
+            for (int i = 1; i < since.size(); i++) traced.addSuppressed(since.get(i));
+        }
+        return traced;
+    }
+}
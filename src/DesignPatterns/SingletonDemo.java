@@ -1,15 +1,25 @@
 package DesignPatterns;
 
-public class SingletonDemo {
+/*
+Thread-safe lazy singleton using the initialization-on-demand holder idiom.
+
+The previous version did an unsynchronized null check, so concurrent first calls could
+construct more than one instance. The holder idiom relies on the JVM's class initialization
+lock instead: Holder is initialized once, on the first getInstance() call, and afterwards the
+call is a plain static final read.
 
-    private static SingletonDemo instance;
+Other thread-safe variants (double-checked volatile, enum, VarHandle acquire/release), the
+stress test and the benchmark live in DesignPatterns.SingletonVariants / Benchmarks.SingletonBenchmarks.
+ */
+public class SingletonDemo {
 
     private SingletonDemo() {}
 
+    private static class Holder {
+        private static final SingletonDemo INSTANCE = new SingletonDemo();
+    }
+
     public static SingletonDemo getInstance() {
-        if(instance == null) {
-            instance = new SingletonDemo();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 }
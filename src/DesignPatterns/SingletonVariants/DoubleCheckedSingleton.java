@@ -0,0 +1,36 @@
+package DesignPatterns.SingletonVariants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Double-checked locking with a volatile field.
+
+ - volatile is REQUIRED: without it another thread may see the reference before the constructor's writes.
+ - The local variable means the fast path does one volatile read instead of two.
+ - Steady state = one volatile read (on x86 as cheap as a plain read, but the JIT cannot constant-fold it).
+ */
+public class DoubleCheckedSingleton {
+
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    private static volatile DoubleCheckedSingleton instance;
+
+    private DoubleCheckedSingleton() {
+        SingletonStressDemo.expensiveInit();
+        constructions.incrementAndGet();
+    }
+
+    public static DoubleCheckedSingleton getInstance() {
+        DoubleCheckedSingleton local = instance;
+        if (local == null) {
+            synchronized (DoubleCheckedSingleton.class) {
+                local = instance;
+                if (local == null) {
+                    local = new DoubleCheckedSingleton();
+                    instance = local;
+                }
+            }
+        }
+        return local;
+    }
+}
@@ -0,0 +1,29 @@
+package DesignPatterns.SingletonVariants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Enum singleton (Effective Java item 3).
+
+ - Thread-safe via class initialization, like the holder idiom.
+ - Also safe against reflection (enum constructors cannot be invoked) and serialization
+   (enums are deserialized by name) — see SingletonBreak.md.
+ - Not lazy beyond "first use of the enum class"; cannot extend another class.
+ */
+public enum EnumSingleton {
+    INSTANCE;
+
+    EnumSingleton() {
+        SingletonStressDemo.expensiveInit();
+        Counter.constructions.incrementAndGet();
+    }
+
+    public static EnumSingleton getInstance() {
+        return INSTANCE;
+    }
+
+    // enum constructors cannot touch the enum's own static fields, so the count lives in a nested class
+    static final class Counter {
+        static final AtomicInteger constructions = new AtomicInteger();
+    }
+}
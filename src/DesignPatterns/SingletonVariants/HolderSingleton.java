@@ -0,0 +1,28 @@
+package DesignPatterns.SingletonVariants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Initialization-on-demand holder (Bill Pugh).
+
+ - Lazy: Holder is initialized on the first getInstance() call, not when HolderSingleton loads.
+ - Thread-safe for free: the JVM runs a class initializer exactly once, under the class init lock (JLS 12.4.2).
+ - After initialization the call is a plain static final read → the JIT treats it as a constant.
+ */
+public class HolderSingleton {
+
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    private HolderSingleton() {
+        SingletonStressDemo.expensiveInit();
+        constructions.incrementAndGet();
+    }
+
+    private static class Holder {
+        private static final HolderSingleton INSTANCE = new HolderSingleton();
+    }
+
+    public static HolderSingleton getInstance() {
+        return Holder.INSTANCE;
+    }
+}
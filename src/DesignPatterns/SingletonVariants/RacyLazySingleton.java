@@ -0,0 +1,24 @@
+package DesignPatterns.SingletonVariants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// ❌ The original SingletonDemo: unsynchronized null check.
+// Two threads can both see null and both construct. Kept only to show the race in SingletonStressDemo.
+public class RacyLazySingleton {
+
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    private static RacyLazySingleton instance;
+
+    private RacyLazySingleton() {
+        SingletonStressDemo.expensiveInit();
+        constructions.incrementAndGet();
+    }
+
+    public static RacyLazySingleton getInstance() {
+        if (instance == null) {
+            instance = new RacyLazySingleton();
+        }
+        return instance;
+    }
+}
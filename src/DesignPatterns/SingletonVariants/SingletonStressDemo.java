@@ -0,0 +1,88 @@
+package DesignPatterns.SingletonVariants;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Proves "exactly one construction under concurrent FIRST access" for each variant.
+
+A class is initialized only once per class loader, so every round loads the variant in a fresh
+URLClassLoader; THREADS threads then wait on a barrier and call getInstance() at the same moment.
+The constructor spins for a while (expensiveInit) to widen the race window.
+
+Expected: RacyLazySingleton shows rounds with > 1 construction, every other variant always 1.
+ */
+public class SingletonStressDemo {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) throws Exception {
+        Class<?>[] variants = {
+                RacyLazySingleton.class,
+                HolderSingleton.class,
+                DoubleCheckedSingleton.class,
+                EnumSingleton.class,
+                VarHandleSingleton.class
+        };
+        URL codeSource = SingletonStressDemo.class.getProtectionDomain().getCodeSource().getLocation();
+
+        for (Class<?> variant : variants) {
+            int brokenRounds = 0;
+            int maxInstances = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                try (URLClassLoader loader = new URLClassLoader(new URL[]{codeSource}, ClassLoader.getPlatformClassLoader())) {
+                    Class<?> fresh = Class.forName(variant.getName(), false, loader);
+                    int created = race(fresh);
+                    if (created != 1) brokenRounds++;
+                    maxInstances = Math.max(maxInstances, created);
+                }
+            }
+            System.out.printf("%-24s rounds with != 1 instance: %3d / %d (max instances in a round: %d)%n",
+                    variant.getSimpleName(), brokenRounds, ROUNDS, maxInstances);
+        }
+    }
+
+    // all threads call getInstance() at once; returns how many times the constructor ran
+    private static int race(Class<?> singletonClass) throws Exception {
+        Method getInstance = singletonClass.getMethod("getInstance");
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    barrier.await();
+                    getInstance.invoke(null);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) t.join();
+
+        return constructionCounter(singletonClass).get();
+    }
+
+    private static AtomicInteger constructionCounter(Class<?> singletonClass) throws ReflectiveOperationException {
+        Class<?> owner = singletonClass;
+        for (Class<?> nested : singletonClass.getDeclaredClasses()) {
+            if (nested.getSimpleName().equals("Counter")) owner = nested;
+        }
+        Field field = owner.getDeclaredField("constructions");
+        field.setAccessible(true);
+        return (AtomicInteger) field.get(null);
+    }
+
+    // stands in for a constructor that loads config / opens connections
+    static void expensiveInit() {
+        long end = System.nanoTime() + 200_000;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
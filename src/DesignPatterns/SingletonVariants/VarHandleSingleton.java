@@ -0,0 +1,50 @@
+package DesignPatterns.SingletonVariants;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Double-checked locking with VarHandle acquire/release instead of volatile.
+
+ - setRelease() publishes the fully constructed object; getAcquire() sees it fully constructed.
+ - Acquire/release is all DCL needs; volatile additionally orders against LATER volatile accesses (full fence
+   on the store), which this pattern does not need.
+ - On x86 both compile to plain loads, so expect no read-side difference there; on ARM the acquire load is cheaper.
+ */
+public class VarHandleSingleton {
+
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    private static final VarHandle INSTANCE;
+
+    static {
+        try {
+            INSTANCE = MethodHandles.lookup().findStaticVarHandle(VarHandleSingleton.class, "instance", VarHandleSingleton.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused") // accessed through the VarHandle
+    private static VarHandleSingleton instance;
+
+    private VarHandleSingleton() {
+        SingletonStressDemo.expensiveInit();
+        constructions.incrementAndGet();
+    }
+
+    public static VarHandleSingleton getInstance() {
+        VarHandleSingleton local = (VarHandleSingleton) INSTANCE.getAcquire();
+        if (local == null) {
+            synchronized (VarHandleSingleton.class) {
+                local = (VarHandleSingleton) INSTANCE.getAcquire();
+                if (local == null) {
+                    local = new VarHandleSingleton();
+                    INSTANCE.setRelease(local);
+                }
+            }
+        }
+        return local;
+    }
+}
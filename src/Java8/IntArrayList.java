@@ -0,0 +1,276 @@
+package Java8;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/*
+Growable int[] — List<Integer> without the boxing.
+
+List<Integer> stores one Integer object (16 bytes) + one reference (4-8 bytes) per element,
+and every stream map/filter on it unboxes and re-boxes. IntArrayList stores 4 bytes per element
+in one contiguous array and works in place:
+
+    map(x -> x * x)      → overwrites the array, no new list
+    removeIf(x -> ...)   → compacts the array in one pass
+    sort()               → Arrays.sort(int[]) (dual-pivot quicksort, no Comparator calls)
+    distinct()           → keeps first occurrences, primitive hash set, no Integer keys (past 2^29
+                           elements: sorted (value, index) pairs, the table would not fit)
+    stream()             → IntStream view over the backing array
+
+Not thread-safe, like ArrayList.
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8; // some VMs reserve header words in arrays
+    private static final int MAX_HASHED = 1 << 29; // distinct(): above this the table would pass 2^30 slots
+    private static final int[] EMPTY = {};
+
+    private int[] data;
+    private int size;
+
+    public IntArrayList() {
+        this.data = EMPTY;
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.data = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    // IntStream -> IntArrayList without boxed()
+    public static IntArrayList from(IntStream stream) {
+        return stream.collect(IntArrayList::new, IntArrayList::add, IntArrayList::addAll);
+    }
+
+    // ----------------- size / access -----------------
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return data[index];
+    }
+
+    public int set(int index, int value) {
+        checkIndex(index);
+        int old = data[index];
+        data[index] = value;
+        return old;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    // ----------------- add / remove -----------------
+    public void add(int value) {
+        if (size == data.length) grow(size + 1);
+        data[size++] = value;
+    }
+
+    public void addAll(int... values) {
+        if (values.length > data.length - size) grow(size + values.length);
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+    }
+
+    public void addAll(IntArrayList other) {
+        if (other.size > data.length - size) grow(size + other.size);
+        System.arraycopy(other.data, 0, data, size, other.size);
+        size += other.size;
+    }
+
+    public int removeAt(int index) {
+        checkIndex(index);
+        int old = data[index];
+        int moved = size - index - 1;
+        if (moved > 0) System.arraycopy(data, index + 1, data, index, moved);
+        size--;
+        return old;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) grow(minCapacity);
+    }
+
+    // ----------------- in-place bulk operations -----------------
+    // stream().map(...) equivalent that reuses the array
+    public IntArrayList map(IntUnaryOperator op) {
+        for (int i = 0; i < size; i++) data[i] = op.applyAsInt(data[i]);
+        return this;
+    }
+
+    // stream().filter(...) equivalent: keeps elements NOT matching the predicate, single pass
+    public IntArrayList removeIf(IntPredicate predicate) {
+        int w = 0;
+        for (int r = 0; r < size; r++) {
+            int v = data[r];
+            if (!predicate.test(v)) data[w++] = v;
+        }
+        size = w;
+        return this;
+    }
+
+    public IntArrayList sort() {
+        Arrays.sort(data, 0, size);
+        return this;
+    }
+
+    // stream().distinct() equivalent: keeps the first occurrence of each value, preserves order
+    public IntArrayList distinct() {
+        if (size < 2) return this;
+        if (size > MAX_HASHED) return distinctBySorting();
+        // open addressing set of ints, power-of-two table at <= 50% load
+        int capacity = Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+        int[] table = new int[capacity];
+        boolean[] used = new boolean[capacity];
+        int mask = capacity - 1;
+        int w = 0;
+        for (int r = 0; r < size; r++) {
+            int v = data[r];
+            int slot = mix(v) & mask;
+            while (used[slot] && table[slot] != v) slot = (slot + 1) & mask;
+            if (!used[slot]) {
+                used[slot] = true;
+                table[slot] = v;
+                data[w++] = v;
+            }
+        }
+        size = w;
+        return this;
+    }
+
+    // distinct() for huge lists: sort (value, index) pairs, keep the lowest index of each value
+    private IntArrayList distinctBySorting() {
+        long[] keyed = new long[size];
+        for (int i = 0; i < size; i++) keyed[i] = (long) data[i] << 32 | i;
+        Arrays.sort(keyed);
+        long[] keep = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || (int) (keyed[i] >> 32) != (int) (keyed[i - 1] >> 32)) {
+                int index = (int) keyed[i];
+                keep[index >>> 6] |= 1L << index;
+            }
+        }
+        int w = 0;
+        for (int r = 0; r < size; r++) {
+            if ((keep[r >>> 6] & 1L << r) != 0) data[w++] = data[r];
+        }
+        size = w;
+        return this;
+    }
+
+    // distinct().sorted() in one step: sort, then drop adjacent duplicates (no hash set needed)
+    public IntArrayList sortDistinct() {
+        sort();
+        if (size < 2) return this;
+        int w = 1;
+        for (int r = 1; r < size; r++) {
+            if (data[r] != data[w - 1]) data[w++] = data[r];
+        }
+        size = w;
+        return this;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) action.accept(data[i]);
+    }
+
+    // ----------------- views / copies -----------------
+    // view over the live array; do not modify the list while the stream is running
+    public IntStream stream() {
+        return Arrays.stream(data, 0, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    public IntArrayList copy() {
+        IntArrayList copy = new IntArrayList();
+        copy.data = toArray();
+        copy.size = size;
+        return copy;
+    }
+
+    public int max() {
+        if (size == 0) throw new NoSuchElementException("empty list");
+        int max = data[0];
+        for (int i = 1; i < size; i++) max = Math.max(max, data[i]);
+        return max;
+    }
+
+    // ----------------- Object methods -----------------
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntArrayList other) || other.size != size) return false;
+        return Arrays.equals(data, 0, size, other.data, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < size; i++) h = 31 * h + data[i];
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(data[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    // ----------------- internals -----------------
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("IntArrayList too large"); // size + n overflowed
+        // same 1.5x growth as ArrayList, clamped to MAX_ARRAY_LENGTH; only a larger minCapacity goes past it
+        long preferred = Math.max(DEFAULT_CAPACITY, data.length + (long) (data.length >> 1));
+        int newCapacity = Math.max(minCapacity, (int) Math.min(preferred, MAX_ARRAY_LENGTH));
+        data = Arrays.copyOf(data, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static int mix(int v) {
+        int h = v * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,194 @@
+package Java8;
+
+import Java8.StreamLevel2.Employee;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+StreamLevel2 exercises on large array-backed datasets, sequential vs parallel.
+
+Parallel streams pay for splitting, task scheduling and merging partial results, so they only win
+when there is enough work per element * elements. What helps:
+
+ - a source that splits cheaply and evenly: an array (ArraySpliterator below), not a LinkedList / iterate()
+ - SIZED + SUBSIZED characteristics, so toList() can write results straight into a presized array
+ - dropping encounter order when it is not needed: unordered().distinct() uses one concurrent set
+   instead of merging per-chunk LinkedHashSets, findAny() instead of findFirst()
+ - a pool sized for the machine (or the share of it the job may use) — see inPool()
+
+Crossover sizes and speedup per core count: Benchmarks.ParallelStreamBenchmarks
+ */
+public class ParallelStreamLevel2 {
+
+    public enum Mode {
+        SEQUENTIAL,
+        PARALLEL,            // keeps encounter order (same results as SEQUENTIAL)
+        PARALLEL_UNORDERED   // order-insensitive operations may return any order / any match
+    }
+
+    // chunks smaller than this are not split further (task overhead would dominate)
+    public static final int DEFAULT_GRAIN = 4096;
+
+    /*
+     Spliterator over array[from, to) that halves its range on trySplit until ranges reach 'grain'.
+     Same idea as Arrays.spliterator, plus a tunable minimum chunk size.
+     */
+    public static final class ArraySpliterator<T> implements Spliterator<T> {
+        private final T[] array;
+        private final int grain;
+        private int index;
+        private final int fence;
+
+        public ArraySpliterator(T[] array, int from, int to, int grain) {
+            Objects.checkFromToIndex(from, to, array.length);
+            if (grain < 1) throw new IllegalArgumentException("Grain must be >= 1: " + grain);
+            this.array = array;
+            this.index = from;
+            this.fence = to;
+            this.grain = grain;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (fence - lo < 2 * grain) return null;
+            index = mid;
+            return new ArraySpliterator<>(array, lo, mid, grain);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) return false;
+            action.accept(array[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] a = array;
+            int i = index, hi = fence;
+            index = hi;
+            for (; i < hi; i++) action.accept(a[i]);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+
+    public static <T> Stream<T> stream(T[] data, Mode mode) {
+        return stream(data, mode, DEFAULT_GRAIN);
+    }
+
+    public static <T> Stream<T> stream(T[] data, Mode mode, int grain) {
+        Stream<T> s = StreamSupport.stream(new ArraySpliterator<>(data, 0, data.length, grain), mode != Mode.SEQUENTIAL);
+        return mode == Mode.PARALLEL_UNORDERED ? s.unordered() : s;
+    }
+
+    // ----------------- fork-join pool knob -----------------
+    /*
+     A parallel stream runs in the pool of the thread that starts the terminal operation, so submitting
+     the pipeline to a dedicated pool caps its parallelism (and keeps it off the common pool).
+     pool == null -> run on the caller / common pool.
+     */
+    public static <R> R inPool(ForkJoinPool pool, Supplier<R> pipeline) {
+        return pool == null ? pipeline.get() : pool.submit(pipeline::get).join();
+    }
+
+    public static ForkJoinPool newPool(int parallelism) {
+        return new ForkJoinPool(parallelism);
+    }
+
+    // ----------------- the StreamLevel2 exercises -----------------
+    // Remove duplicates and sort numbers.
+    public static List<Integer> distinctSorted(Integer[] values, Mode mode) {
+        return stream(values, mode).distinct().sorted().toList();
+    }
+
+    // Same on int[]: no Integer per element, distinct on primitives
+    public static int[] distinctSorted(int[] values, Mode mode) {
+        IntStream s = Arrays.stream(values);
+        if (mode != Mode.SEQUENTIAL) s = s.parallel();
+        if (mode == Mode.PARALLEL_UNORDERED) s = s.unordered();
+        return s.distinct().sorted().toArray();
+    }
+
+    // Given Employee objects, collect names.
+    public static List<String> names(Employee[] employees, Mode mode) {
+        return stream(employees, mode).map(e -> e.name).toList();
+    }
+
+    // Employees with salary > X.
+    public static List<Employee> salaryAbove(Employee[] employees, int threshold, Mode mode) {
+        return stream(employees, mode).filter(e -> e.salary > threshold).toList();
+    }
+
+    // Check if any employee has salary > X (short-circuits in every mode).
+    public static boolean anySalaryAbove(Employee[] employees, int threshold, Mode mode) {
+        return stream(employees, mode).anyMatch(e -> e.salary > threshold);
+    }
+
+    // Find first element matching a condition; unordered mode settles for any match.
+    public static Employee firstSalaryAbove(Employee[] employees, int threshold, Mode mode) {
+        Stream<Employee> matches = stream(employees, mode).filter(e -> e.salary > threshold);
+        Optional<Employee> found = mode == Mode.PARALLEL_UNORDERED ? matches.findAny() : matches.findFirst();
+        return found.orElse(null);
+    }
+
+    // n employees, salaries 10_000..209_999, names from a pool of 1000 (like a real extract)
+    public static Employee[] generate(int n, long seed) {
+        Random random = new Random(seed);
+        String[] names = new String[1000];
+        for (int i = 0; i < names.length; i++) names[i] = "employee" + i;
+        Employee[] employees = new Employee[n];
+        for (int i = 0; i < n; i++) {
+            employees[i] = new Employee(i, names[random.nextInt(names.length)], 10_000 + random.nextInt(200_000));
+        }
+        return employees;
+    }
+
+    public static void main(String[] args) {
+        int n = 2_000_000;
+        Employee[] employees = generate(n, 42);
+        Integer[] numbers = new Integer[n];
+        Random random = new Random(7);
+        for (int i = 0; i < n; i++) numbers[i] = random.nextInt(n / 2);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Employees: " + n + ", cores: " + cores);
+
+        for (Mode mode : Mode.values()) {
+            long t0 = System.nanoTime();
+            List<Integer> distinct = distinctSorted(numbers, mode);
+            List<String> names = names(employees, mode);
+            List<Employee> rich = salaryAbove(employees, 200_000, mode);
+            Employee first = firstSalaryAbove(employees, 209_990, mode);
+            long millis = (System.nanoTime() - t0) / 1_000_000;
+            System.out.println(mode + ": distinct=" + distinct.size() + " names=" + names.size()
+                    + " salary>200000=" + rich.size() + " first>209990=" + (first == null ? null : first.id)
+                    + " (" + millis + " ms)");
+        }
+
+        // Same pipeline, parallelism capped at 2 by running it inside a dedicated pool
+        ForkJoinPool pool = newPool(2);
+        try {
+            List<Employee> rich = inPool(pool, () -> salaryAbove(employees, 200_000, Mode.PARALLEL));
+            System.out.println("In a 2-thread pool: salary>200000=" + rich.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
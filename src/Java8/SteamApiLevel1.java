@@ -28,11 +28,19 @@ public class SteamApiLevel1 {
         List<Integer> squareList = list.stream().map(x -> x*x).toList();
         System.out.println(squareList);
 
+        // Same without boxing: squares computed in place on an int[]
+        IntArrayList ints = IntArrayList.of(70,40,56,25,48,75,32);
+        IntArrayList squares = ints.copy().map(x -> x*x);
+        System.out.println(squares);
+
 
         //Filter odd numbers.
         List<Integer> oddList = list.stream().filter(x->x%2!=0).toList();
         System.out.println(oddList);
 
+        IntArrayList oddInts = ints.copy().removeIf(x -> x%2==0);
+        System.out.println(oddInts);
+
         //Convert list of names to uppercase.
         List<String> nameList = List.of("divyam","anvunv","ansuvnur","vunfunE");
         List<String> capitalList = nameList.stream().map(String::toUpperCase).toList();
@@ -21,6 +21,12 @@ public class StreamApiLevel3 {
         List<Integer> listlist = list.stream().flatMap(List::stream).toList();
         System.out.println(listlist);
 
+        // Primitive version: flatten int lists with bulk array copies
+        List<IntArrayList> intLists = List.of(IntArrayList.of(1, 2, 3), IntArrayList.of(4, 5, 6), IntArrayList.of(7, 8, 9));
+        IntArrayList flatInts = new IntArrayList();
+        intLists.forEach(flatInts::addAll);
+        System.out.println(flatInts);
+
         //Flatten List<String> where each string is comma-separated.
         List<String> stringList = List.of("a,b,c", "d,e,f");
 
@@ -26,6 +26,10 @@ public class StreamLevel2 {
         List<Integer> distinctSortedlist = list.stream().distinct().sorted().toList();
         System.out.println(distinctSortedlist);
 
+        // Primitive version: sort the int[] then drop adjacent duplicates (no Integer, no HashSet)
+        IntArrayList distinctSortedInts = IntArrayList.of(75,85,69,88,1,1, 2, 3, 4, 5, 6, 7,7, 8, 9, 10).sortDistinct();
+        System.out.println(distinctSortedInts);
+
         // Given Employee objects, collect names.
         List<Employee>  employees = List.of(
                 new Employee(1,"divyam",100000),
@@ -49,6 +53,10 @@ public class StreamLevel2 {
         List<Integer> first10Even = IntStream.iterate(2,x->x+2).limit(10).boxed().toList();
         System.out.println(first10Even);
 
+        // Same stream collected without boxed()
+        IntArrayList first10EvenInts = IntArrayList.from(IntStream.iterate(2,x->x+2).limit(10));
+        System.out.println(first10EvenInts);
+
     }
 
     public static class Employee {
@@ -0,0 +1,252 @@
+package Reflections;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AccessorFactory.java
+ *
+ * Resolves fields / methods / constructors ONCE per class and hands out fast accessors.
+ *
+ * Cost ladder (slowest → fastest), see Benchmarks.ReflectionBenchmarks:
+ *  1. getDeclaredField/getDeclaredMethod on every call  → member lookup + copy + access check each time
+ *  2. cached Field / Method (setAccessible once)         → still boxes args into Object[] on invoke
+ *  3. cached MethodHandle                               → no Object[] for fixed arity, JIT can inline
+ *  4. LambdaMetafactory lambda                          → an ordinary interface call, like hand-written code
+ *
+ * Per-class state lives in a ClassValue, so the cache does not keep classes (and their class loaders) alive.
+ * Fields have no lambda form: LambdaMetafactory only accepts method/constructor handles, so field
+ * access stops at step 3 (MethodHandle / VarHandle).
+ */
+public final class AccessorFactory {
+
+    private static final ClassValue<ClassAccessors> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassAccessors computeValue(Class<?> type) {
+            return new ClassAccessors(type);
+        }
+    };
+
+    private AccessorFactory() {}
+
+    public static ClassAccessors of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public static final class ClassAccessors {
+        private final Class<?> type;
+        private final MethodHandles.Lookup lookup;
+
+        private final Map<String, Field> fields = new ConcurrentHashMap<>();
+        private final Map<String, Method> methods = new ConcurrentHashMap<>();
+        private final Map<String, Constructor<?>> constructors = new ConcurrentHashMap<>();
+        private final Map<String, MethodHandle> getters = new ConcurrentHashMap<>();
+        private final Map<String, MethodHandle> setters = new ConcurrentHashMap<>();
+        private final Map<String, MethodHandle> invokers = new ConcurrentHashMap<>();
+        private final Map<String, MethodHandle> spreadInvokers = new ConcurrentHashMap<>();
+        private final Map<String, Object> lambdas = new ConcurrentHashMap<>();
+
+        private ClassAccessors(Class<?> type) {
+            this.type = type;
+            try {
+                // full private access inside 'type' (same module), needed for private members and lambdas
+                this.lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("No private access to " + type.getName(), e);
+            }
+        }
+
+        public Class<?> type() {
+            return type;
+        }
+
+        // ----------------- cached reflection -----------------
+        public Field field(String name) {
+            return fields.computeIfAbsent(name, n -> {
+                try {
+                    Field f = type.getDeclaredField(n);
+                    f.setAccessible(true);
+                    return f;
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalArgumentException("No field " + n + " in " + type.getName(), e);
+                }
+            });
+        }
+
+        public Method method(String name, Class<?>... params) {
+            return methods.computeIfAbsent(key(name, params), k -> {
+                try {
+                    Method m = type.getDeclaredMethod(name, params);
+                    m.setAccessible(true);
+                    return m;
+                } catch (NoSuchMethodException e) {
+                    try {
+                        return type.getMethod(name, params); // public, possibly inherited
+                    } catch (NoSuchMethodException inherited) {
+                        throw new IllegalArgumentException("No method " + k + " in " + type.getName(), inherited);
+                    }
+                }
+            });
+        }
+
+        public Constructor<?> constructor(Class<?>... params) {
+            return constructors.computeIfAbsent(key("<init>", params), k -> {
+                try {
+                    Constructor<?> c = type.getDeclaredConstructor(params);
+                    c.setAccessible(true);
+                    return c;
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalArgumentException("No constructor " + k + " in " + type.getName(), e);
+                }
+            });
+        }
+
+        // ----------------- MethodHandles -----------------
+        // (Object target)Object — call with: Object v = (Object) getter.invokeExact(target);
+        public MethodHandle getter(String fieldName) {
+            return getters.computeIfAbsent(fieldName, n -> {
+                try {
+                    return lookup.unreflectGetter(field(n)).asType(MethodType.methodType(Object.class, Object.class));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        // (Object target, Object value)void — call with: setter.invokeExact(target, value);
+        public MethodHandle setter(String fieldName) {
+            return setters.computeIfAbsent(fieldName, n -> {
+                try {
+                    return lookup.unreflectSetter(field(n)).asType(MethodType.methodType(void.class, Object.class, Object.class));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        // Field access with explicit memory semantics (plain get/set here, volatile/acquire also available)
+        public VarHandle varHandle(String fieldName) {
+            try {
+                return lookup.unreflectVarHandle(field(fieldName));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // direct handle with the member's exact type, e.g. (Person,int)void for incrementAge(int)
+        public MethodHandle methodHandle(String name, Class<?>... params) {
+            return invokers.computeIfAbsent(key(name, params), k -> {
+                try {
+                    return lookup.unreflect(method(name, params));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        // (Object target, Object[] args)Object — generic invoker for mapping code that only knows names
+        public MethodHandle invoker(String name, Class<?>... params) {
+            return spreadInvokers.computeIfAbsent(key(name, params), k -> {
+                MethodHandle direct = methodHandle(name, params);
+                MethodType generic = MethodType.genericMethodType(direct.type().parameterCount());
+                return direct.asType(generic).asSpreader(Object[].class, params.length);
+            });
+        }
+
+        public MethodHandle constructorHandle(Class<?>... params) {
+            return invokers.computeIfAbsent(key("<init>", params), k -> {
+                try {
+                    return lookup.unreflectConstructor(constructor(params));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        // ----------------- LambdaMetafactory -----------------
+        /*
+         Generates an implementation of a functional interface that calls the method directly, e.g.
+             ObjIntConsumer<Object> increment = accessors.lambda(ObjIntConsumer.class, "incrementAge", int.class);
+         For instance methods the first SAM parameter is the target object.
+         */
+        @SuppressWarnings("unchecked")
+        public <F> F lambda(Class<? super F> functionalInterface, String methodName, Class<?>... params) {
+            return (F) lambdas.computeIfAbsent(functionalInterface.getName() + "#" + key(methodName, params),
+                    k -> spinLambda(functionalInterface, methodHandle(methodName, params)));
+        }
+
+        // e.g. BiFunction<String, Integer, Object> ctor = accessors.constructorLambda(BiFunction.class, String.class, int.class);
+        @SuppressWarnings("unchecked")
+        public <F> F constructorLambda(Class<? super F> functionalInterface, Class<?>... params) {
+            return (F) lambdas.computeIfAbsent(functionalInterface.getName() + "#" + key("<init>", params),
+                    k -> spinLambda(functionalInterface, constructorHandle(params)));
+        }
+
+        private Object spinLambda(Class<?> functionalInterface, MethodHandle impl) {
+            Method sam = singleAbstractMethod(functionalInterface);
+            MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+            MethodType implType = impl.type();
+            if (samType.parameterCount() != implType.parameterCount()) {
+                throw new IllegalArgumentException(functionalInterface.getName() + "." + sam.getName()
+                        + " takes " + samType.parameterCount() + " args but the target takes " + implType.parameterCount());
+            }
+
+            // instantiated type = impl type, boxed where the SAM uses references (Integer for int etc.)
+            Class<?>[] instantiatedParams = new Class<?>[implType.parameterCount()];
+            for (int i = 0; i < instantiatedParams.length; i++) {
+                instantiatedParams[i] = adapt(implType.parameterType(i), samType.parameterType(i));
+            }
+            Class<?> instantiatedReturn = samType.returnType() == void.class
+                    ? void.class
+                    : adapt(implType.returnType(), samType.returnType());
+            MethodType instantiated = MethodType.methodType(instantiatedReturn, instantiatedParams);
+
+            try {
+                CallSite site = LambdaMetafactory.metafactory(lookup, sam.getName(),
+                        MethodType.methodType(functionalInterface), samType, impl, instantiated);
+                return site.getTarget().invoke();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot generate " + functionalInterface.getName() + " for " + impl, e);
+            }
+        }
+
+        private static Class<?> adapt(Class<?> implType, Class<?> samType) {
+            if (implType.isPrimitive() && !samType.isPrimitive()) {
+                return MethodType.methodType(implType).wrap().returnType();
+            }
+            return implType;
+        }
+
+        private static Method singleAbstractMethod(Class<?> functionalInterface) {
+            Method found = null;
+            for (Method m : functionalInterface.getMethods()) {
+                if (!Modifier.isAbstract(m.getModifiers())) continue;
+                if (isObjectMethod(m)) continue;
+                if (found != null) {
+                    throw new IllegalArgumentException(functionalInterface.getName() + " is not a functional interface");
+                }
+                found = m;
+            }
+            if (found == null) {
+                throw new IllegalArgumentException(functionalInterface.getName() + " has no abstract method");
+            }
+            return found;
+        }
+
+        private static boolean isObjectMethod(Method m) {
+            try {
+                Object.class.getMethod(m.getName(), m.getParameterTypes());
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+
+        private static String key(String name, Class<?>[] params) {
+            return name + Arrays.toString(params);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package Reflections;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.BiFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * AccessorFactoryDemo.java
+ *
+ * Same operations as ReflectionDemoCustomClass (private field write, private method call,
+ * private / public constructors), but every member is resolved once and reused.
+ */
+public class AccessorFactoryDemo {
+
+    public static void main(String[] args) throws Throwable {
+        AccessorFactory.ClassAccessors person = AccessorFactory.of(ReflectionDemoCustomClass.Person.class);
+
+        // 1) Same cached instance for the same class (ClassValue)
+        System.out.println("Cached per class: " + (person == AccessorFactory.of(ReflectionDemoCustomClass.Person.class)));
+        System.out.println();
+
+        // 2) Cached Field (setAccessible done once)
+        ReflectionDemoCustomClass.Person p1 = new ReflectionDemoCustomClass.Person("Alice", 30);
+        person.field("name").set(p1, "Bob");
+        System.out.println("Cached Field set:        " + p1);
+
+        // 3) MethodHandle getter / setter on private fields
+        MethodHandle getName = person.getter("name");
+        MethodHandle setAge = person.setter("age");
+        setAge.invokeExact((Object) p1, (Object) 41);
+        System.out.println("MethodHandle get name:   " + (Object) getName.invokeExact((Object) p1));
+        System.out.println("MethodHandle set age 41: " + p1);
+
+        // 4) Private method through a MethodHandle and through a generated lambda
+        MethodHandle increment = person.methodHandle("incrementAge", int.class);
+        increment.invoke(p1, 1);
+        System.out.println("MethodHandle incrementAge(1): " + p1);
+
+        ObjIntConsumer<Object> incrementLambda = person.lambda(ObjIntConsumer.class, "incrementAge", int.class);
+        incrementLambda.accept(p1, 5);
+        System.out.println("Lambda incrementAge(5):       " + p1);
+
+        // 5) Generic invoker (target, Object[] args) for mapping code that only has names
+        MethodHandle sayHello = person.invoker("sayHello");
+        System.out.print("Generic invoker sayHello(): ");
+        Object ignored = sayHello.invoke(p1, new Object[0]);
+        System.out.println();
+
+        // 6) Constructors as lambdas: private no-arg and public (String, int)
+        Supplier<Object> privateCtor = person.constructorLambda(Supplier.class);
+        BiFunction<String, Integer, Object> paramCtor = person.constructorLambda(BiFunction.class, String.class, int.class);
+        System.out.println("Instance via private ctor lambda: " + privateCtor.get());
+        System.out.println("Instance via param ctor lambda:   " + paramCtor.apply("Charlie", 22));
+    }
+}
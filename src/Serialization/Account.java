@@ -0,0 +1,27 @@
+package Serialization;
+
+import java.io.*;
+
+class Account implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    String username;
+    transient String password;
+
+    Account(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeUTF("Encrypted-"+password);
+    }
+
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        String encryptedPass = ois.readUTF();
+        this.password = encryptedPass.replace("Encrypted-", "");
+    }
+}
@@ -0,0 +1,24 @@
+package Serialization;
+
+/*
+Binary schema for Account: username (string), then the password the same way Account.writeObject
+handles it — the transient field is written explicitly as "Encrypted-" + password and
+readObject's reverse mapping is applied on read.
+ */
+public class AccountCodec implements BinaryCodec<Account> {
+
+    private static final String PREFIX = "Encrypted-";
+
+    @Override
+    public void write(Account account, BinaryWriter out) {
+        out.writeString(account.username);
+        out.writeString(PREFIX + account.password);
+    }
+
+    @Override
+    public Account read(BinaryReader in) {
+        String username = in.readString();
+        String encrypted = in.readString();
+        return new Account(username, encrypted.replace(PREFIX, ""));
+    }
+}
@@ -0,0 +1,16 @@
+package Serialization;
+
+/*
+Schema for one type in the compact binary format.
+
+The codec IS the schema: it writes fields in a fixed order with no class descriptor, no field names
+and no reflection. Anything not written (transient / static fields) simply comes back as its default,
+exactly like Java serialization's transient handling — unless the codec chooses to write it, which is
+the equivalent of a custom writeObject/readObject.
+ */
+public interface BinaryCodec<T> {
+
+    void write(T value, BinaryWriter out);
+
+    T read(BinaryReader in);
+}
@@ -0,0 +1,43 @@
+package Serialization;
+
+import java.io.*;
+
+public class BinaryCodecDemo {
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        CodecRegistry registry = CodecRegistry.withDefaults();
+
+        // 1. User: transient password is not written, static hasLegs is not written
+        User user = new User("divyam", 28, "123456");
+        user.setPassword("123456");
+        byte[] userBytes = registry.encode(user);
+        User userCopy = (User) registry.decode(userBytes);
+        System.out.println("User binary size: " + userBytes.length + " bytes, Java serialization: " + javaSize(user) + " bytes");
+        System.out.println("Decoded user: " + userCopy); // password=null, like ObjectInputStream
+
+        // 2. Account: transient password written explicitly, like Account.writeObject/readObject
+        Account acc = new Account("divyam", "mypwd");
+        byte[] accBytes = registry.encode(acc);
+        Account accCopy = (Account) registry.decode(accBytes);
+        System.out.println("Account binary size: " + accBytes.length + " bytes, Java serialization: " + javaSize(acc) + " bytes");
+        System.out.println("Decoded account: " + accCopy.username + " / " + accCopy.password);
+
+        // 3. Many objects into one reusable buffer
+        BinaryWriter out = new BinaryWriter();
+        for (int i = 0; i < 3; i++) {
+            registry.write(new User("user" + i, 20 + i, null), out);
+        }
+        BinaryReader in = new BinaryReader(out.buffer(), 0, out.size());
+        while (in.hasRemaining()) {
+            System.out.println("Batch decoded: " + registry.read(in));
+        }
+    }
+
+    private static int javaSize(Object o) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(o);
+        }
+        return bytes.size();
+    }
+}
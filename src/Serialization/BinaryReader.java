@@ -0,0 +1,107 @@
+package Serialization;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/*
+Reader for the format produced by BinaryWriter. Works directly on a byte[] slice, no stream wrapper.
+Can also decode in place from a ByteBuffer (e.g. a MappedByteBuffer) using absolute gets, so the
+buffer's position is never touched and nothing is copied except the bytes of decoded Strings.
+Malformed input fails with IllegalArgumentException (truncated data, over-long varints).
+ */
+public class BinaryReader {
+
+    private final byte[] buf;
+    private final ByteBuffer buffer; // non-null only for the ByteBuffer mode
+    private final int limit;
+    private int pos;
+
+    public BinaryReader(byte[] buf) {
+        this(buf, 0, buf.length);
+    }
+
+    public BinaryReader(byte[] buf, int offset, int length) {
+        this.buf = buf;
+        this.buffer = null;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    // reads buffer[offset, offset + length) without changing the buffer's position or limit
+    public BinaryReader(ByteBuffer buffer, int offset, int length) {
+        this.buf = null;
+        this.buffer = buffer;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    public int readByte() {
+        require(1);
+        return (buffer == null ? buf[pos++] : buffer.get(pos++)) & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IllegalArgumentException("Malformed varint at " + pos);
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IllegalArgumentException("Malformed varlong at " + pos);
+    }
+
+    public int readSignedVarInt() {
+        int v = readVarInt();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public long readSignedVarLong() {
+        long v = readVarLong();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public String readString() {
+        int lenPlusOne = readVarInt();
+        if (lenPlusOne == 0) return null;
+        int len = lenPlusOne - 1;
+        require(len);
+        String s;
+        if (buffer == null) {
+            s = new String(buf, pos, len, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[len];
+            buffer.get(pos, bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+        }
+        pos += len;
+        return s;
+    }
+
+    public int position() {
+        return pos;
+    }
+
+    public boolean hasRemaining() {
+        return pos < limit;
+    }
+
+    private void require(int n) {
+        if (n < 0 || n > limit - pos) {
+            throw new IllegalArgumentException("Truncated input: need " + n + " bytes at " + pos + ", limit " + limit);
+        }
+    }
+}
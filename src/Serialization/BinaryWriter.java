@@ -0,0 +1,120 @@
+package Serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+Growable byte[] writer for the compact binary format.
+
+ - varint   : unsigned LEB128, 7 bits per byte → small numbers take 1 byte instead of 4
+ - zigzag   : signed ints mapped to unsigned first, so -1 is 1 byte, not 5
+ - strings  : varint (byteLength + 1) then UTF-8 bytes; 0 means null. ASCII is copied without an encoder.
+
+reset() keeps the buffer, so one writer per thread can encode many objects without allocating.
+ */
+public class BinaryWriter {
+
+    private byte[] buf;
+    private int pos;
+
+    public BinaryWriter() {
+        this(64);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buf = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryWriter writeByte(int b) {
+        ensure(1);
+        buf[pos++] = (byte) b;
+        return this;
+    }
+
+    public BinaryWriter writeBoolean(boolean b) {
+        return writeByte(b ? 1 : 0);
+    }
+
+    public BinaryWriter writeVarInt(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeSignedVarInt(int value) {
+        return writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public BinaryWriter writeSignedVarLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryWriter writeString(String s) {
+        if (s == null) {
+            return writeVarInt(0);
+        }
+        int len = s.length();
+        if (isAscii(s, len)) {
+            writeVarInt(len + 1);
+            ensure(len);
+            for (int i = 0; i < len; i++) buf[pos++] = (byte) s.charAt(i);
+        } else {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8.length + 1);
+            writeBytes(utf8, 0, utf8.length);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeBytes(byte[] bytes, int offset, int length) {
+        ensure(length);
+        System.arraycopy(bytes, offset, buf, pos, length);
+        pos += length;
+        return this;
+    }
+
+    public int size() {
+        return pos;
+    }
+
+    public BinaryWriter reset() {
+        pos = 0;
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, pos);
+    }
+
+    // backing array, valid up to size(); no copy
+    public byte[] buffer() {
+        return buf;
+    }
+
+    private static boolean isAscii(String s, int len) {
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    private void ensure(int extra) {
+        if (pos + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(pos + extra, buf.length << 1));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package Serialization;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+Pluggable registry of BinaryCodecs.
+
+Each registered type gets a small numeric id that is written as a varint tag in front of the body,
+instead of ObjectOutputStream's class descriptor (class name + serialVersionUID + field names/types).
+
+    CodecRegistry registry = CodecRegistry.withDefaults();   // User = 1, Account = 2
+    byte[] bytes = registry.encode(user);
+    User copy = (User) registry.decode(bytes);
+
+Register everything at startup, then share the registry between threads (read-only afterwards).
+Ids are part of the stored format: never reuse or renumber them.
+ */
+public class CodecRegistry {
+
+    private final Map<Class<?>, Entry<?>> byType = new HashMap<>();
+    private final Map<Integer, Entry<?>> byId = new HashMap<>();
+
+    private record Entry<T>(int id, Class<T> type, BinaryCodec<T> codec) {}
+
+    public static CodecRegistry withDefaults() {
+        return new CodecRegistry()
+                .register(1, User.class, new UserCodec())
+                .register(2, Account.class, new AccountCodec());
+    }
+
+    public <T> CodecRegistry register(int id, Class<T> type, BinaryCodec<T> codec) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Type id must be >= 0: " + id);
+        }
+        if (byId.containsKey(id)) {
+            throw new IllegalArgumentException("Type id " + id + " already used by " + byId.get(id).type().getName());
+        }
+        if (byType.containsKey(type)) {
+            throw new IllegalArgumentException(type.getName() + " is already registered");
+        }
+        Entry<T> entry = new Entry<>(id, type, codec);
+        byType.put(type, entry);
+        byId.put(id, entry);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> BinaryCodec<T> codecFor(Class<T> type) {
+        Entry<?> entry = byType.get(type);
+        if (entry == null) {
+            throw new IllegalArgumentException("No codec registered for " + type.getName());
+        }
+        return (BinaryCodec<T>) entry.codec();
+    }
+
+    // tag + body into an existing writer (for writing many objects into one buffer)
+    @SuppressWarnings("unchecked")
+    public <T> void write(T value, BinaryWriter out) {
+        Entry<T> entry = (Entry<T>) byType.get(value.getClass());
+        if (entry == null) {
+            throw new IllegalArgumentException("No codec registered for " + value.getClass().getName());
+        }
+        out.writeVarInt(entry.id());
+        entry.codec().write(value, out);
+    }
+
+    public Object read(BinaryReader in) {
+        int id = in.readVarInt();
+        Entry<?> entry = byId.get(id);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown type id " + id);
+        }
+        return entry.codec().read(in);
+    }
+
+    public byte[] encode(Object value) {
+        BinaryWriter out = new BinaryWriter();
+        write(value, out);
+        return out.toByteArray();
+    }
+
+    public Object decode(byte[] bytes) {
+        return read(new BinaryReader(bytes));
+    }
+}
@@ -0,0 +1,289 @@
+package Serialization;
+
+import Java8.IntArrayList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/*
+Append-only log of records in memory-mapped segment files (replaces one .ser file per object).
+
+Directory layout
+    00000000000000000000.log   records 0 .. n-1
+    00000000000000012345.log   records 12345 .. (file name = number of its first record)
+
+Each segment is a fixed-size file mapped once with FileChannel.map(READ_WRITE). Appends and reads are
+plain memory accesses — no read()/write() syscall per record, and the OS page cache IS the buffer.
+When a record does not fit in the current segment a new one is created ("rolling").
+
+Record layout inside a segment
+    length (int) | CRC32C of payload (int) | payload (BinaryCodec bytes)
+A length of 0 means "nothing written here yet" (new segments are zero-filled by the OS).
+
+Random access: an in-memory offset index (record number → position, one int per record) is rebuilt on
+open by walking the record headers only — no payload is decoded, so restart cost is a sequential scan of
+the mapped files instead of deserializing every object. A torn record at the tail of the LAST segment
+(crash during append) fails its CRC and is cut off; the rest of that segment is zeroed again. A bad record
+in an earlier segment is corruption, not a torn append: opening fails and nothing is written.
+
+Transient semantics are whatever the codec does: with UserCodec the password is not stored at all.
+Single writer; not thread-safe (guard externally if appends and reads run on different threads).
+ */
+public class MappedRecordLog<T> implements Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int HEADER = 8;
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final BinaryCodec<T> codec;
+    private final int segmentSize;
+    private final List<Segment> segments = new ArrayList<>();
+    private final BinaryWriter scratch = new BinaryWriter(256);
+    private final CRC32C crc = new CRC32C();
+    private long nextRecord;
+    private boolean closed;
+
+    private static final class Segment {
+        final long baseRecord;
+        final FileChannel channel;
+        final MappedByteBuffer map;
+        final IntArrayList offsets = new IntArrayList();
+        int writePosition;
+
+        Segment(long baseRecord, FileChannel channel, MappedByteBuffer map) {
+            this.baseRecord = baseRecord;
+            this.channel = channel;
+            this.map = map;
+        }
+    }
+
+    public MappedRecordLog(Path directory, BinaryCodec<T> codec) throws IOException {
+        this(directory, codec, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public MappedRecordLog(Path directory, BinaryCodec<T> codec, int segmentSize) throws IOException {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        try {
+            recover();
+        } catch (IOException | RuntimeException e) {
+            closeChannels(e);
+            throw e;
+        }
+    }
+
+    // ----------------- write -----------------
+    // returns the record number of the appended record
+    public long append(T record) {
+        ensureOpen();
+        codec.write(record, scratch.reset());
+        int length = scratch.size();
+        if (length == 0) {
+            throw new IllegalArgumentException("Codec produced an empty record; length 0 marks free space");
+        }
+        if (HEADER + length > segmentSize) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit a " + segmentSize + " byte segment");
+        }
+        Segment segment = current();
+        if (segment.writePosition + HEADER + length > segmentSize) {
+            segment = roll();
+        }
+
+        crc.reset();
+        crc.update(scratch.buffer(), 0, length);
+        int pos = segment.writePosition;
+        // payload and CRC first, length last: a reader never sees a length whose bytes are not there yet
+        segment.map.putInt(pos + 4, (int) crc.getValue());
+        segment.map.put(pos + HEADER, scratch.buffer(), 0, length);
+        segment.map.putInt(pos, length);
+        segment.offsets.add(pos);
+        segment.writePosition = pos + HEADER + length;
+        return nextRecord++;
+    }
+
+    public long appendAll(Iterable<? extends T> records) {
+        long last = -1;
+        for (T record : records) last = append(record);
+        return last;
+    }
+
+    // forces mapped pages to disk (msync); without it the OS writes them back on its own schedule
+    public void flush() {
+        ensureOpen();
+        for (Segment s : segments) s.map.force();
+    }
+
+    // ----------------- read -----------------
+    public long size() {
+        return nextRecord;
+    }
+
+    public T read(long recordNumber) {
+        Segment segment = segmentFor(recordNumber);
+        int pos = segment.offsets.get((int) (recordNumber - segment.baseRecord));
+        int length = segment.map.getInt(pos);
+        return codec.read(new BinaryReader(segment.map, pos + HEADER, length));
+    }
+
+    // zero-copy read-only view of the payload bytes, e.g. to ship a record without decoding it
+    public ByteBuffer payload(long recordNumber) {
+        Segment segment = segmentFor(recordNumber);
+        int pos = segment.offsets.get((int) (recordNumber - segment.baseRecord));
+        int length = segment.map.getInt(pos);
+        return segment.map.slice(pos + HEADER, length).asReadOnlyBuffer();
+    }
+
+    public void forEach(long fromRecord, Consumer<? super T> action) {
+        ensureOpen();
+        for (long r = fromRecord; r < nextRecord; r++) action.accept(read(r));
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        flush();
+        closed = true;
+        IOException failure = null;
+        for (Segment s : segments) {
+            try {
+                s.channel.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        // the mappings stay valid until the buffers are garbage collected (Java has no explicit unmap)
+        segments.clear();
+        if (failure != null) throw failure;
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Log is closed");
+    }
+
+    // constructor failed: release what recover() already mapped
+    private void closeChannels(Exception failure) {
+        closed = true;
+        for (Segment s : segments) {
+            try {
+                s.channel.close();
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        segments.clear();
+    }
+
+    // ----------------- segments -----------------
+    private Segment current() {
+        return segments.isEmpty() ? roll() : segments.get(segments.size() - 1);
+    }
+
+    private Segment roll() {
+        try {
+            Path file = directory.resolve(String.format("%020d%s", nextRecord, SUFFIX));
+            Segment segment = map(nextRecord, file);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create segment in " + directory, e);
+        }
+    }
+
+    private Segment map(long baseRecord, Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // mapping beyond the end of file extends it; the new region reads as zeros
+        MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return new Segment(baseRecord, channel, map);
+    }
+
+    private Segment segmentFor(long recordNumber) {
+        ensureOpen();
+        if (recordNumber < 0 || recordNumber >= nextRecord) {
+            throw new IndexOutOfBoundsException("Record " + recordNumber + ", size " + nextRecord);
+        }
+        // binary search on baseRecord
+        int lo = 0, hi = segments.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (segments.get(mid).baseRecord <= recordNumber) lo = mid;
+            else hi = mid - 1;
+        }
+        return segments.get(lo);
+    }
+
+    // rebuild the offset index from existing segments (headers + CRC only, payloads are not decoded)
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+        for (int f = 0; f < files.size(); f++) {
+            Path file = files.get(f);
+            String name = file.getFileName().toString();
+            long base = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+            if (base != nextRecord) {
+                throw new IOException("Segment " + name + " does not continue at record " + nextRecord);
+            }
+            if (Files.size(file) > segmentSize) {
+                throw new IOException("Segment " + name + " is larger than the configured segment size " + segmentSize);
+            }
+            Segment segment = map(base, file);
+            segments.add(segment); // before scan(): closed by the constructor if the scan fails
+            scan(segment, name, f == files.size() - 1);
+            nextRecord = base + segment.offsets.size();
+        }
+    }
+
+    // only the last segment can end in a torn append; a bad record anywhere else fails before any write
+    private void scan(Segment segment, String name, boolean last) throws IOException {
+        MappedByteBuffer map = segment.map;
+        int pos = 0;
+        while (pos + HEADER <= segmentSize) {
+            int length = map.getInt(pos);
+            if (length == 0) break;
+            if (length < 0 || (long) pos + HEADER + length > segmentSize || !crcMatches(map, pos, length)) {
+                if (!last) {
+                    throw new IOException("Segment " + name + " is corrupt at offset " + pos
+                            + " (record " + (segment.baseRecord + segment.offsets.size()) + ")");
+                }
+                // torn tail: wipe everything after the last good record, so neither later appends nor
+                // the next recovery can mistake leftovers of a half-written record for a valid one
+                byte[] zeros = new byte[Math.min(8192, segmentSize - pos)];
+                for (int i = pos; i < segmentSize; ) {
+                    int n = Math.min(zeros.length, segmentSize - i);
+                    map.put(i, zeros, 0, n);
+                    i += n;
+                }
+                break;
+            }
+            segment.offsets.add(pos);
+            pos += HEADER + length;
+        }
+        segment.writePosition = pos;
+    }
+
+    private boolean crcMatches(MappedByteBuffer map, int pos, int length) {
+        crc.reset();
+        crc.update(map.slice(pos + HEADER, length));
+        return (int) crc.getValue() == map.getInt(pos + 4);
+    }
+}
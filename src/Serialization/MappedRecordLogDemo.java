@@ -0,0 +1,37 @@
+package Serialization;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+public class MappedRecordLogDemo {
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of("users-log");
+
+        // Small segments (1 MiB) so the demo shows rolling to new files
+        try (MappedRecordLog<User> log = new MappedRecordLog<>(dir, new UserCodec(), 1024 * 1024)) {
+            long start = log.size();   // non-zero when the demo is run again: the log is append-only
+            for (int i = 0; i < 200_000; i++) {
+                log.append(new User("user" + i, 20 + i % 50, "pwd" + i));
+            }
+            System.out.println("Records: " + log.size() + " in " + log.segmentCount() + " segment(s), appended from " + start);
+
+            // Random access by record number, decoded straight from the mapped file
+            System.out.println("Record 0:      " + log.read(0));   // password=null (transient)
+            System.out.println("Record 123456: " + log.read(123_456));
+
+            // Raw payload without decoding (e.g. to copy it to a socket)
+            ByteBuffer payload = log.payload(123_456);
+            System.out.println("Payload bytes of record 123456: " + payload.remaining());
+        }
+
+        // Restart: the index is rebuilt from record headers, no object is deserialized
+        long t0 = System.nanoTime();
+        try (MappedRecordLog<User> reopened = new MappedRecordLog<>(dir, new UserCodec(), 1024 * 1024)) {
+            long millis = (System.nanoTime() - t0) / 1_000_000;
+            System.out.println("Reopened " + reopened.size() + " records in " + millis + " ms");
+            System.out.println("Last: " + reopened.read(reopened.size() - 1));
+        }
+    }
+}
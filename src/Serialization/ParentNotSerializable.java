@@ -7,12 +7,12 @@ public class ParentNotSerializable {
         Child child = new Child();
 
         ObjectOutputStream oos =
-                new ObjectOutputStream(new FileOutputStream("child.ser"));
+                new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream("child.ser")));
         oos.writeObject(child);
         oos.close();
 
         ObjectInputStream ois =
-                new ObjectInputStream(new FileInputStream("child.ser"));
+                new ObjectInputStream(new BufferedInputStream(new FileInputStream("child.ser")));
         Child c = (Child) ois.readObject();
         ois.close();
     }
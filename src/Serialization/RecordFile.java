@@ -0,0 +1,240 @@
+package Serialization;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/*
+Many records per file, buffered, with explicit framing.
+
+Why: new ObjectOutputStream(new FileOutputStream(...)) per object means a file per object, a class
+descriptor per file, and small writes going straight to the OS. Here one file holds any number of records
+and every write goes through a 64 KiB buffer, so 1M small records cost a few hundred write syscalls
+instead of millions.
+
+File layout
+    header : magic "IPRF" (4 bytes) + version (1 byte)
+    record : length (int, 4 bytes) | payload (length bytes, BinaryCodec format) | CRC32C of payload (int)
+
+The length prefix lets a reader skip or pre-size, the CRC detects torn/corrupted records
+(e.g. a crash in the middle of a snapshot write). Truncated trailing records raise EOFException;
+only an end of file exactly between two records ends the read cleanly. A length above
+MAX_RECORD_LENGTH is treated as corruption before anything is allocated for it.
+
+writeAll writes a sibling temp file, fsyncs it and renames it over the target, so a crash leaves
+either the previous snapshot or the complete new one, never a half-written file.
+ */
+public class RecordFile<T> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+
+    private static final int MAGIC = 0x49505246; // "IPRF"
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final BinaryCodec<T> codec;
+    private final int bufferSize;
+
+    public RecordFile(Path path, BinaryCodec<T> codec) {
+        this(path, codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    public RecordFile(Path path, BinaryCodec<T> codec, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be > 0: " + bufferSize);
+        }
+        this.path = path;
+        this.codec = codec;
+        this.bufferSize = bufferSize;
+    }
+
+    // ----------------- bulk API -----------------
+    // atomically replaces the file with the given records; returns the number written
+    public long writeAll(Iterable<? extends T> records) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            long written;
+            try (FileOutputStream file = new FileOutputStream(temp.toFile());
+                 Writer<T> writer = writer(file, codec, bufferSize)) {
+                written = writer.writeAll(records);
+                writer.flush();
+                file.getFD().sync(); // the data must be on disk before the rename makes it visible
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return written;
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    public List<T> readAll() throws IOException {
+        List<T> result = new ArrayList<>();
+        forEach(result::add);
+        return result;
+    }
+
+    // streaming read, constant memory; returns the number of records
+    public long forEach(Consumer<? super T> action) throws IOException {
+        long count = 0;
+        try (Reader<T> reader = openReader()) {
+            T record;
+            while ((record = reader.read()) != null) {
+                action.accept(record);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public Writer<T> openWriter() throws IOException {
+        return writer(Files.newOutputStream(path), codec, bufferSize);
+    }
+
+    public Reader<T> openReader() throws IOException {
+        return reader(Files.newInputStream(path), codec, bufferSize);
+    }
+
+    // ----------------- stream level (any OutputStream / InputStream) -----------------
+    public static <T> Writer<T> writer(OutputStream raw, BinaryCodec<T> codec, int bufferSize) throws IOException {
+        return new Writer<>(raw, codec, bufferSize);
+    }
+
+    public static <T> Reader<T> reader(InputStream raw, BinaryCodec<T> codec, int bufferSize) throws IOException {
+        return new Reader<>(raw, codec, bufferSize);
+    }
+
+    private static void closeAfterFailure(Closeable raw, Exception failure) {
+        try {
+            raw.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    public static class Writer<T> implements Closeable {
+        private final DataOutputStream out;
+        private final BinaryCodec<T> codec;
+        private final BinaryWriter payload = new BinaryWriter(256); // reused for every record
+        private final CRC32C crc = new CRC32C();
+        private long count;
+
+        private Writer(OutputStream raw, BinaryCodec<T> codec, int bufferSize) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(raw, bufferSize));
+            this.codec = codec;
+            try {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+            } catch (IOException | RuntimeException e) {
+                closeAfterFailure(raw, e);
+                throw e;
+            }
+        }
+
+        public void write(T record) throws IOException {
+            codec.write(record, payload.reset());
+            int length = payload.size();
+            if (length > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException("Record of " + length + " bytes exceeds " + MAX_RECORD_LENGTH);
+            }
+            crc.reset();
+            crc.update(payload.buffer(), 0, length);
+            out.writeInt(length);
+            out.write(payload.buffer(), 0, length);
+            out.writeInt((int) crc.getValue());
+            count++;
+        }
+
+        public long writeAll(Iterable<? extends T> records) throws IOException {
+            long before = count;
+            for (T record : records) {
+                write(record);
+            }
+            return count - before;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    public static class Reader<T> implements Closeable {
+        private final DataInputStream in;
+        private final BinaryCodec<T> codec;
+        private final CRC32C crc = new CRC32C();
+        private byte[] buf = new byte[256];
+        private long count;
+
+        private Reader(InputStream raw, BinaryCodec<T> codec, int bufferSize) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(raw, bufferSize));
+            this.codec = codec;
+            try {
+                int magic = in.readInt();
+                int version = in.readUnsignedByte();
+                if (magic != MAGIC) {
+                    throw new StreamCorruptedException("Not a record file (bad magic " + Integer.toHexString(magic) + ")");
+                }
+                if (version != VERSION) {
+                    throw new StreamCorruptedException("Unsupported record file version " + version);
+                }
+            } catch (IOException | RuntimeException e) {
+                closeAfterFailure(raw, e); // nobody gets a Reader to close, so the stream would leak
+                throw e;
+            }
+        }
+
+        // next record, or null at a clean end of file (no byte of a next record present)
+        public T read() throws IOException {
+            int first = in.read();
+            if (first < 0) {
+                return null;
+            }
+            // a header cut short after its first byte is a torn record, not the end: these throw EOFException
+            int length = first << 24 | in.readUnsignedByte() << 16 | in.readUnsignedShort();
+            if (length < 0) {
+                throw new StreamCorruptedException("Negative record length " + length + " at record " + count);
+            }
+            if (length > MAX_RECORD_LENGTH) {
+                throw new StreamCorruptedException("Record length " + length + " at record " + count
+                        + " exceeds " + MAX_RECORD_LENGTH);
+            }
+            if (length > buf.length) {
+                buf = new byte[Math.max(length, buf.length << 1)];
+            }
+            in.readFully(buf, 0, length);
+            int expected = in.readInt();
+            crc.reset();
+            crc.update(buf, 0, length);
+            if ((int) crc.getValue() != expected) {
+                throw new StreamCorruptedException("CRC mismatch at record " + count);
+            }
+            count++;
+            return codec.read(new BinaryReader(buf, 0, length));
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package Serialization;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RecordFileDemo {
+
+    public static void main(String[] args) throws IOException {
+        // Many users in ONE file, written through a 64 KiB buffer
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            users.add(new User("user" + i, 20 + i % 50, "pwd" + i));
+        }
+
+        RecordFile<User> file = new RecordFile<>(Path.of("users.rec"), new UserCodec());
+        long written = file.writeAll(users);
+        System.out.println("Written records: " + written);
+
+        // Bulk read back
+        List<User> loaded = file.readAll();
+        System.out.println("Read records: " + loaded.size());
+        System.out.println("First: " + loaded.get(0));   // password=null (transient)
+        System.out.println("Last:  " + loaded.get(loaded.size() - 1));
+
+        // Streaming read: constant memory, no List
+        long[] totalAge = {0};
+        long count = file.forEach(u -> totalAge[0] += u.getAge());
+        System.out.println("Average age over " + count + " records: " + (double) totalAge[0] / count);
+    }
+}
@@ -8,16 +8,17 @@ public class SerializationDemo {
     public static void main(String[] args) throws IOException, ClassNotFoundException {
         User user = new User("divyam",28,"123456");
 
-        FileOutputStream fos = new FileOutputStream("user.txt");
-        ObjectOutputStream oos = new ObjectOutputStream(fos);
-
-        oos.writeObject(user);
-
-        FileInputStream fis = new FileInputStream("user.txt");
-        ObjectInputStream ois = new ObjectInputStream(fis);
-        User deserialUser = (User) ois.readObject();
-
-        System.out.println(deserialUser);
+        // try-with-resources: the streams are flushed and closed (the buffer must be flushed before reading back)
+        try (ObjectOutputStream oos = new ObjectOutputStream(
+                new BufferedOutputStream(new FileOutputStream("user.txt")))) {
+            oos.writeObject(user);
+        }
+
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new BufferedInputStream(new FileInputStream("user.txt")))) {
+            User deserialUser = (User) ois.readObject();
+            System.out.println(deserialUser);
+        }
     }
 
 }
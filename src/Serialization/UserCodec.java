@@ -0,0 +1,23 @@
+package Serialization;
+
+/*
+Binary schema for User: name (string), age (zigzag varint).
+
+password is transient and hasLegs is static, so neither is written — after a round trip
+password is null, the same result ObjectInputStream gives.
+ */
+public class UserCodec implements BinaryCodec<User> {
+
+    @Override
+    public void write(User user, BinaryWriter out) {
+        out.writeString(user.getName());
+        out.writeSignedVarInt(user.getAge());
+    }
+
+    @Override
+    public User read(BinaryReader in) {
+        String name = in.readString();
+        int age = in.readSignedVarInt();
+        return new User(name, age, null);
+    }
+}